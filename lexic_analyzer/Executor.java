@@ -1,7 +1,8 @@
 package lexic_analyzer;
 
 import java.io.FileNotFoundException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import error.lexic.LexicalError;
 import util.Logger;
@@ -11,27 +12,46 @@ import util.Logger;
  * hasta agotar el archivo fuente.
  */
 public class Executor {
-	public void run(String inputPath, String outputPath) {
-		ArrayList<Token> tokensList = new ArrayList<Token>(); // Lista dinámica para guardar los tokens.
+	private static final int MAX_ERRORS = 100; // Cantidad máxima de errores léxicos a reportar.
 
+	public void run(String inputPath, String outputPath) {
+		SourceBuffer buffer = null;
 		try {
-			// Patrón Singleton: se utiliza una única instancia de la clase LexicAnalyzer.
-			LexicAnalyzer lexic = new LexicAnalyzer(inputPath);
+			buffer = SourceBuffer.fromFile(inputPath);
 
-			// Identificar todos los tokens del archivo de entrada.
-			while (lexic.hasNextToken()) {
-				tokensList.add(lexic.nextToken());
-			}
+			// Identificar todos los tokens del archivo de entrada. Si el archivo es
+			// grande, se analizan en paralelo distintas regiones del archivo.
+			TokenStream tokens = ParallelLexicAnalyzer.tokenize(buffer, ForkJoinPool.commonPool());
 
 			// Imprimir lista de tokens del archivo.
-			Logger.lexicSuccess(tokensList, outputPath);
+			Logger.lexicSuccess(tokens, outputPath);
 
 		} catch (FileNotFoundException error) {
 			System.out.println("\nERROR IO: NO SE ENCONTRO UN ARCHIVO DE ENTRADA EN LA RUTA " + inputPath);
 			System.exit(1);
 		} catch (LexicalError error) {
-			Logger.lexicError(error, outputPath);
+			// El archivo contiene errores: se analiza nuevamente en modo recuperación
+			// para reportar todos los errores léxicos del archivo de una vez.
+			Logger.lexicErrors(collectErrors(buffer), outputPath);
 			System.exit(1);
 		}
 	}
+
+	/**
+	 * Analiza secuencialmente el archivo de entrada completo en modo recuperación
+	 * de errores.
+	 * 
+	 * @param buffer - buffer con el contenido completo del archivo de entrada.
+	 * @return los errores léxicos del archivo, en orden y hasta MAX_ERRORS.
+	 */
+	private List<LexicalError> collectErrors(SourceBuffer buffer) {
+		LexicAnalyzer lexic = new LexicAnalyzer(buffer.region(0, buffer.length(), 1, 0));
+		lexic.enableErrorRecovery(MAX_ERRORS);
+		try {
+			lexic.tokenize();
+		} catch (LexicalError error) {
+			// Se alcanzó la cantidad máxima de errores, ya registrados.
+		}
+		return lexic.getErrors();
+	}
 }
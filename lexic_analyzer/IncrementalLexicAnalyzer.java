@@ -0,0 +1,101 @@
+package lexic_analyzer;
+
+import error.lexic.LexicalError;
+
+/**
+ * Análisis léxico incremental de un archivo de entrada editado.
+ *
+ * A partir de la secuencia de tokens del contenido previo y de una edición de
+ * texto, vuelve a analizar solo la parte del contenido afectada por la
+ * edición: desde el último token que comienza antes de la edición hasta que el
+ * análisis se resincroniza con la secuencia previa, es decir, hasta que se
+ * reconoce un token que comienza, pasada la edición, en la misma posición en
+ * la que comenzaba un token del contenido previo. A partir de ese punto el
+ * texto es idéntico, por lo que el resto de los tokens se reutilizan
+ * desplazando sus posiciones, lineas y columnas.
+ *
+ * El resultado es idéntico al de analizar el contenido editado completo,
+ * incluido el error léxico reportado si la edición introduce uno.
+ */
+public class IncrementalLexicAnalyzer {
+	/**
+	 * Aplica una edición de texto al contenido de una secuencia de tokens y
+	 * obtiene la secuencia de tokens del contenido editado.
+	 *
+	 * @param previous      - secuencia de tokens completa (hasta EOF) del
+	 *                      contenido previo a la edición.
+	 * @param offset        - posición del contenido en la que comienza la edición.
+	 * @param removedLength - cantidad de caracteres eliminados a partir de offset.
+	 * @param insertedText  - texto insertado en offset.
+	 * @return la secuencia de tokens del contenido editado, cuyo buffer de
+	 *         entrada es el contenido editado.
+	 * @throws LexicalError si el contenido editado no es léxicamente válido.
+	 */
+	public static TokenStream relex(TokenStream previous, int offset, int removedLength, String insertedText)
+			throws LexicalError {
+		SourceBuffer edited = previous.getSource().edit(offset, removedLength, insertedText);
+		int editEnd = offset + insertedText.length(); // Fin de la edición en el contenido editado.
+		int startDelta = insertedText.length() - removedLength;
+
+		// Se retoma el análisis desde el último token que comienza antes de la
+		// edición: el analizador llega a su primer caracter leyendo solo contenido
+		// previo a la edición. El token EOF no se considera, ya que su posición no
+		// es la de un caracter leído.
+		int restart = lastTokenBefore(previous, offset);
+		TokenStream tokens = new TokenStream(edited);
+		SourceBuffer region;
+		if (restart < 0) {
+			region = edited.region(0, edited.length(), 1, 0);
+		} else {
+			tokens.addAll(previous, restart);
+			region = edited.region(previous.getStart(restart), edited.length(), previous.getLine(restart),
+					previous.getCol(restart) - 1);
+		}
+
+		LexicAnalyzer lexic = new LexicAnalyzer(region);
+		int candidate = Math.max(restart, 0); // Próximo token previo con el que se intenta resincronizar.
+		while (lexic.hasNextToken()) {
+			TokenKind kind = lexic.nextKind();
+			int start = lexic.getTokenStart();
+
+			if (start >= editEnd) {
+				// El token comienza pasada la edición: si en la posición equivalente del
+				// contenido previo comenzaba un token, el resto de la secuencia coincide.
+				int previousStart = start - startDelta;
+				while (candidate < previous.size() && previous.getStart(candidate) < previousStart) {
+					candidate++;
+				}
+				if (candidate < previous.size() && previous.getStart(candidate) == previousStart
+						&& previous.getKind(candidate) == kind) {
+					tokens.addShifted(previous, candidate, startDelta,
+							lexic.getTokenLine() - previous.getLine(candidate),
+							lexic.getTokenCol() - previous.getCol(candidate));
+					return tokens;
+				}
+			}
+
+			tokens.add(kind, start, lexic.getTokenLength(), lexic.getTokenLine(), lexic.getTokenCol());
+		}
+		return tokens;
+	}
+
+	/**
+	 * @return la posición del último token (sin contar EOF) que comienza antes
+	 *         de la posición dada, o -1 si no hay ninguno.
+	 */
+	private static int lastTokenBefore(TokenStream tokens, int offset) {
+		int low = 0;
+		int high = tokens.size() - 2; // El último token es EOF.
+		int result = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (tokens.getStart(middle) < offset) {
+				result = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return result;
+	}
+}
@@ -1,9 +1,8 @@
 package lexic_analyzer;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.Arrays;
-import java.util.Scanner;
+import java.util.ArrayList;
+import java.util.List;
 
 import error.lexic.*;
 
@@ -12,27 +11,50 @@ import error.lexic.*;
  * Consume un archivo de entrada y a demanda retorna tokens generados a partir
  * de dicho archivo.
  */
-public class LexicAnalyzer {
-	private Scanner file; // Archivo de entrada.
-	private String currentLine = ""; // Contenido de la linea actual leída del archivo.
-	private int lineNumber = 0; // Linea leída actual del archivo de entrada.
-	private int columnNumber = 0; // Columna leída actual del archivo de entrada.
-	private boolean reachedEOF = false; // Flag que indica si ya se consumió todo el archivo de entrada.
+public class LexicAnalyzer implements TokenSource {
+	private SourceBuffer buffer; // Contenido del archivo de entrada.
+	private SymbolPool symbols = null; // Lexemas canónicos de identificadores y literales, creado con el primer Token.
+	private int tokenStart = 0; // Posición en el buffer del primer caracter del token actual.
+	private int tokenEnd = 0; // Posición en el buffer siguiente al último caracter del token actual.
+	private int tokenLine = 0; // Linea del token actual.
+	private int tokenCol = 0; // Columna del token actual.
+	private int acceptPosition = 0; // Posición en el buffer previa a la última transición de un autómata.
 	private boolean reachedEOFToken = false; // Flag que indica si ya se emitió al menos una vez el token EOF.
+	private int maxErrors = 0; // Cantidad máxima de errores a registrar, o 0 si no se recupera de los errores.
+	private List<LexicalError> errors = new ArrayList<LexicalError>(); // Errores registrados en modo recuperación.
+	private boolean readingString = false; // Flag que indica si se está leyendo el contenido de un literal cadena.
+	private LexicalError pendingError = null; // Error hallado en una lectura en bloque, aún no lanzado.
 
 	public LexicAnalyzer(String filePath) throws FileNotFoundException {
-		// Abrir el archivo de entrada.
-		File document = new File(filePath);
-		Scanner scanner = new Scanner(document);
-		this.file = scanner;
-
-		// Inicializar la lectura de la primer linea del archivo.
-		if (file.hasNextLine()) {
-			currentLine = file.nextLine();
-			lineNumber++;
-		} else {
-			reachedEOF = true;
-		}
+		// Abrir el archivo de entrada, mapeándolo en memoria.
+		this.buffer = SourceBuffer.fromFile(filePath);
+	}
+
+	/**
+	 * Crea un analizador que consume un buffer ya cargado, que puede abarcar solo
+	 * una región del archivo de entrada.
+	 * 
+	 * @param buffer - buffer de entrada.
+	 */
+	public LexicAnalyzer(SourceBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Activa el modo de recuperación de errores: en lugar de lanzar el primer
+	 * error léxico, el analizador lo registra, descarta el contenido hasta el
+	 * próximo espacio en blanco u operador y continúa reconociendo tokens.
+	 * 
+	 * @param maxErrors - cantidad máxima de errores a registrar. Al alcanzarla,
+	 *                  el último error se lanza y el análisis se detiene.
+	 */
+	public void enableErrorRecovery(int maxErrors) {
+		this.maxErrors = maxErrors;
+	}
+
+	/** @return los errores registrados en modo recuperación, en orden. */
+	public List<LexicalError> getErrors() {
+		return errors;
 	}
 
 	/**
@@ -45,178 +67,320 @@ public class LexicAnalyzer {
 	 * @return Siguiente token del archivo de entrada o EOF si el archivo ya fue
 	 *         consumido.
 	 * @throws LexicalError si ocurrió algún error al intentar decodificar el
-	 *                      siguiente token del archivo de entrada.
+	 *                      siguiente token del archivo de entrada. En modo
+	 *                      recuperación, solo al alcanzar la cantidad máxima de
+	 *                      errores.
 	 */
 	public Token nextToken() throws LexicalError {
+		TokenKind kind = nextKind();
+		String lexema = kind.lexema();
+		if (lexema == null) {
+			if (symbols == null) {
+				symbols = new SymbolPool();
+			}
+			lexema = buffer.intern(symbols, tokenStart, tokenEnd);
+		}
+		return new Token(kind, lexema, tokenLine, tokenCol);
+	}
+
+	/**
+	 * Reconoce el siguiente token del archivo de entrada sin construirlo: su
+	 * tipo se devuelve y su ubicación queda registrada en getTokenStart,
+	 * getTokenLength, getTokenLine y getTokenCol.
+	 * 
+	 * @return tipo del siguiente token del archivo de entrada, o EOF si el archivo
+	 *         ya fue consumido.
+	 * @throws LexicalError si ocurrió algún error al intentar decodificar el
+	 *                      siguiente token del archivo de entrada. En modo
+	 *                      recuperación, solo al alcanzar la cantidad máxima de
+	 *                      errores.
+	 */
+	TokenKind nextKind() throws LexicalError {
+		while (true) {
+			try {
+				return readToken();
+			} catch (LexicalError error) {
+				if (maxErrors == 0) {
+					throw error;
+				}
+				errors.add(error);
+				if (errors.size() >= maxErrors) {
+					throw error;
+				}
+				skipToSyncPoint();
+			}
+		}
+	}
+
+	/**
+	 * Reconoce el siguiente token del archivo de entrada, lanzando el primer
+	 * error léxico que encuentre, y registra su ubicación.
+	 * 
+	 * @return Tipo del siguiente token del archivo de entrada o EOF si el archivo
+	 *         ya fue consumido.
+	 * @throws LexicalError si ocurrió algún error al intentar decodificar el
+	 *                      siguiente token del archivo de entrada.
+	 */
+	private TokenKind readToken() throws LexicalError {
 		consumeSpaces(); // Consumir sin guardar los espacios, tabs y enter antes de un caracter valioso.
+		tokenStart = buffer.position();
 		char currentChar = readConsumeChar();
-		Token token = new Token("", String.valueOf(currentChar), lineNumber, columnNumber); // Inicializar el token.
+		tokenLine = buffer.line();
+		tokenCol = buffer.column();
+		TokenKind kind;
 
-		if (reachedEOF) {
+		if (buffer.reachedEOF()) {
 			// Si ya se consumió todo el archivo,
-			// se retorna un Token vacío representando el fin del archivo.
-			token.setToken("EOF");
-			token.setLexema("End Of File");
+			// se retorna un token vacío representando el fin del archivo.
+			tokenEnd = tokenStart;
 			reachedEOFToken = true;
+			return TokenKind.EOF;
 
 		} else {
 			// Leer el primer caracter del token y continuar el match según qué caracter es.
 			switch (currentChar) {
 				case '+': // Operador suma.
-					token.setToken("op_add");
+					kind = TokenKind.OP_ADD;
 					break;
 
 				case '*': // Operador multiplicación.
-					token.setToken("op_prod");
+					kind = TokenKind.OP_PROD;
 					break;
 
 				case '%': // Operador módulo.
-					token.setToken("op_mod");
+					kind = TokenKind.OP_MOD;
 					break;
 
 				case ';': // Delimitador de final de linea.
-					token.setToken("semicolon");
+					kind = TokenKind.SEMICOLON;
 					break;
 
 				case ':': // Delimitador de tipo de variable.
-					token.setToken("colon");
+					kind = TokenKind.COLON;
 					break;
 
 				case '{': // Llave de apertura de bloque.
-					token.setToken("open_curly");
+					kind = TokenKind.OPEN_CURLY;
 					break;
 
 				case '}': // Llave de cierre de bloque.
-					token.setToken("close_curly");
+					kind = TokenKind.CLOSE_CURLY;
 					break;
 
 				case '(': // Paréntesis de apertura para parámetros o expresiones.
-					token.setToken("open_par");
+					kind = TokenKind.OPEN_PAR;
 					break;
 
 				case ')': // Paréntesis de cierre para parámetros o expresiones.
-					token.setToken("close_par");
+					kind = TokenKind.CLOSE_PAR;
 					break;
 
 				case '[': // Corchete de apertura de arreglos.
-					token.setToken("open_bracket");
+					kind = TokenKind.OPEN_BRACKET;
 					break;
 
 				case ']': // Corchete de cierre de arreglos.
-					token.setToken("close_bracket");
+					kind = TokenKind.CLOSE_BRACKET;
 					break;
 
 				case ',': // Separador de parámetros en funciones o arreglos.
-					token.setToken("comma");
+					kind = TokenKind.COMMA;
 					break;
 
 				case '.': // Punto para los métodos.
-					token.setToken("dot");
+					kind = TokenKind.DOT;
 					break;
 
 				case '|': // Operador lógico OR
 					if (readWithoutConsumeChar() == '|') {
-						token.setToken("op_or");
-						token.appendLexema(readConsumeChar());
+						kind = TokenKind.OP_OR;
+						readConsumeChar();
 					} else {
-						throw new UnmatchedTokenError(token.getLine(), token.getCol(), token.getLexema());
+						throw new UnmatchedTokenError(tokenLine, tokenCol, String.valueOf(currentChar));
 					}
 					break;
 
 				case '&': // Operador lógico AND
 					if (readWithoutConsumeChar() == '&') {
-						token.setToken("op_and");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.OP_AND;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else {
-						throw new UnmatchedTokenError(token.getLine(), token.getCol(), token.getLexema());
+						throw new UnmatchedTokenError(tokenLine, tokenCol, String.valueOf(currentChar));
 					}
 					break;
 
 				case '=': // Asignación o comparación igualdad.
 					if (readWithoutConsumeChar() == '=') { // Operador de comparación de igualdad.
-						token.setToken("op_eq");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.OP_EQ;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else { // Asignación.
-						token.setToken("assignment");
+						kind = TokenKind.ASSIGNMENT;
 					}
 					break;
 
 				case '!': // Negación o comparación desigualdad.
 					if (readWithoutConsumeChar() == '=') { // Operador de comparación de desigualdad.
-						token.setToken("op_not_eq");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.OP_NOT_EQ;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else { // Operador de negación.
-						token.setToken("op_not");
+						kind = TokenKind.OP_NOT;
 					}
 					break;
 
 				case '<': // Operador menor / menor o igual.
 					if (readWithoutConsumeChar() == '=') { // Operador de comparación de menor o igual.
-						token.setToken("op_less_eq");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.OP_LESS_EQ;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else { // Operador de comparación de menor.
-						token.setToken("op_less");
+						kind = TokenKind.OP_LESS;
 					}
 					break;
 
 				case '>': // Operador menor / menor o igual.
 					if (readWithoutConsumeChar() == '=') { // Operador de comparación de mayor o igual.
-						token.setToken("op_great_eq");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.OP_GREAT_EQ;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else { // Operador de comparación de mayor.
-						token.setToken("op_great");
+						kind = TokenKind.OP_GREAT;
 					}
 					break;
 
 				case '-': // Operador resta o tipo de retorno de función.
 					if (readWithoutConsumeChar() == '>') { // Operador de acceso a atributos.
-						token.setToken("return_type");
-						token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+						kind = TokenKind.RETURN_TYPE;
+						readConsumeChar(); // consumimos finalmente el caracter.
 					} else { // Operador de resta.
-						token.setToken("op_sub");
+						kind = TokenKind.OP_SUB;
 					}
 					break;
 
 				case '/': // Operador división o comentario.
-					if (!matchMultilineComment(currentChar, token) && // Comentario multilinea.
-							!matchComment(currentChar, token)) { // Comentario de una linea.
-						// Operador división.
-						token.setToken("op_div");
-					} else {
+					char nextChar = readWithoutConsumeChar();
+					if (nextChar == '*' || nextChar == '/') {
+						if (nextChar == '*') {
+							matchMultilineComment(); // Comentario multilinea.
+						} else {
+							matchComment(); // Comentario de una linea.
+						}
 						// Si es un comentario, se descarta y
 						// se busca recursivamente el próximo token para devolver.
-						token = nextToken();
+						return readToken();
+					} else {
+						// Operador división.
+						kind = TokenKind.OP_DIV;
 					}
 					break;
 
 				case '"': // Literal cadena.
-					matchStringLiteral(currentChar, token);
+					kind = matchStringLiteral(currentChar);
 					break;
 
 				case '\'': // Literal caracter.
-					matchCharLiteral(currentChar, token);
+					kind = matchCharLiteral(currentChar);
 					break;
 
 				default:
 					if (isDigit(currentChar)) { // Dígito numérico.
-						matchIntLiteral(currentChar, token);
+						kind = matchIntLiteral(currentChar);
 						break;
 					}
 
 					if (isAlphabet(currentChar) || currentChar == '_') { // Letra minúscula o mayúscula o _.
-						matchIdentifier(currentChar, token); // Se consume todo el identificador.
-						if (!matchTypeIdentifier(token)) { // Se verifica si es un identificador de tipo.
-							ReservedWords.matchReservedWord(token); // Se verifica si es una palabra reservada.
-						}
-						break;
+						// Se consume todo el identificador y se verifica si es un identificador de
+						// tipo o una palabra reservada.
+						// El caracter que finalizó el identificador no forma parte del lexema.
+						kind = matchIdentifier(currentChar);
+						tokenEnd = acceptPosition;
+						return kind;
 					}
 
 					// Si el primer caracter no coincidió con ningún token posible, lanza un error.
-					throw new UnmatchedTokenError(token.getLine(), token.getCol(), token.getLexema());
+					throw new UnmatchedTokenError(tokenLine, tokenCol, String.valueOf(currentChar));
 			}
 		}
 
-		return token;
+		tokenEnd = buffer.position();
+		return kind;
+	}
+
+	/**
+	 * Reconoce en bloque los siguientes tokens del archivo de entrada y los
+	 * almacena en un arreglo, hasta completar la cantidad pedida o emitir el token
+	 * EOF.
+	 * 
+	 * Si ocurre un error léxico luego de haber reconocido al menos un token, se
+	 * devuelven los tokens reconocidos y el error se lanza en la siguiente
+	 * llamada, de modo que el error se reporte recién cuando se necesite el token
+	 * que lo contiene.
+	 * 
+	 * @param tokens - arreglo destino de los tokens.
+	 * @param offset - posición del arreglo en la que se almacena el primer token.
+	 * @param count  - cantidad máxima de tokens a reconocer.
+	 * @return la cantidad de tokens reconocidos, 0 si ya se emitió el token EOF.
+	 * @throws LexicalError si el siguiente token del archivo de entrada no es
+	 *                      válido.
+	 */
+	@Override
+	public int nextTokens(Token[] tokens, int offset, int count) throws LexicalError {
+		if (pendingError != null) {
+			LexicalError error = pendingError;
+			pendingError = null;
+			throw error;
+		}
+		int read = 0;
+		while (read < count && hasNextToken()) {
+			try {
+				tokens[offset + read] = nextToken();
+			} catch (LexicalError error) {
+				if (read == 0) {
+					throw error;
+				}
+				pendingError = error;
+				break;
+			}
+			read++;
+		}
+		return read;
+	}
+
+	/**
+	 * Consume el archivo de entrada completo y devuelve todos sus tokens, hasta el
+	 * token EOF inclusive, almacenados en un TokenStream. El autómata registra
+	 * el tipo, la ubicación y la longitud de cada token directamente en la
+	 * secuencia: no se construyen objetos Token ni se copian los lexemas, que
+	 * referencian el buffer de entrada.
+	 * 
+	 * @return la secuencia de tokens del archivo de entrada.
+	 * @throws LexicalError si ocurrió algún error al intentar decodificar algún
+	 *                      token del archivo de entrada.
+	 */
+	public TokenStream tokenize() throws LexicalError {
+		TokenStream tokens = new TokenStream(buffer);
+		while (hasNextToken()) {
+			TokenKind kind = nextKind();
+			tokens.add(kind, tokenStart, tokenEnd - tokenStart, tokenLine, tokenCol);
+		}
+		return tokens;
+	}
+
+	/** @return la posición en el buffer del primer caracter del último token. */
+	int getTokenStart() {
+		return tokenStart;
+	}
+
+	/** @return la cantidad de caracteres del lexema del último token en el buffer. */
+	int getTokenLength() {
+		return tokenEnd - tokenStart;
+	}
+
+	/** @return la linea del último token. */
+	int getTokenLine() {
+		return tokenLine;
+	}
+
+	/** @return la columna del último token. */
+	int getTokenCol() {
+		return tokenCol;
 	}
 
 	/**
@@ -225,6 +389,7 @@ public class LexicAnalyzer {
 	 * 
 	 * @return Devuelve true si ya se llegó al final del archivo de entrada.
 	 */
+	@Override
 	public boolean hasNextToken() {
 		return !reachedEOFToken;
 	}
@@ -292,47 +457,6 @@ public class LexicAnalyzer {
 		return (asciiChar >= 48 && asciiChar <= 57);
 	}
 
-	/**
-	 * Recibe un caracter y determina si es un operador o algún tipo de delimitador.
-	 * 
-	 * @param currentChar caracter a validar.
-	 * @return Devuelve true si el caracter es un operador o delimitador.
-	 */
-	private boolean isOperator(char currentChar) {
-		boolean validOperator;
-		switch (currentChar) {
-			case '+':
-			case '-':
-			case '*':
-			case '/':
-			case '%':
-			case '=':
-			case '!':
-			case '<':
-			case '>':
-			case '&': // Comienzo de operador AND.
-			case '|': // Comienzo de operador OR.
-			case '(': // Paréntesis para los parámetros.
-			case ')': // Paréntesis para los parámetros.
-			case '[': // Corchetes para los arreglos.
-			case ']': // Corchetes para los arreglos.
-			case '{': // Llaves para bloques.
-			case '}': // Llaves para bloques.
-			case ',': // Separador de parámetros.
-			case '"': // Comillas para los literales cadena.
-			case '\'': // Comillas para los literales caracter.
-			case ';': // Delimitador de final de linea.
-			case '.': // Punto para los métodos.
-			case ':': // Dos puntos para los tipos de variables.
-				validOperator = true;
-				break;
-			default:
-				validOperator = false;
-		}
-
-		return validOperator;
-	}
-
 	/**
 	 * Recibe un caracter y determina si es un espacio en blanco.
 	 * Se considera espacio en blanco a tabulaciones, saltos de linea, espacios
@@ -374,20 +498,18 @@ public class LexicAnalyzer {
 	 * 
 	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
 	 *                    literal entero.
-	 * @param token       el token que vamos a modificar si es un literal entero.
-	 * @return true si es un literal entero.
+	 * @return el tipo LIT_INT.
 	 * @throws InvalidCharacterError si algún caracter leído no pertenece al
 	 *                               alfabeto de entrada.
 	 * @throws BadIdentifierError    si el literal entero está unido a un
 	 *                               identificador.
 	 */
-	private boolean matchIntLiteral(char initialChar, Token token)
+	private TokenKind matchIntLiteral(char initialChar)
 			throws InvalidLiteralError, InvalidCharacterError, BadIdentifierError {
 		char nextChar = readWithoutConsumeChar();
 		// Consume todos los dígitos contiguos que encuentra.
 		while (isDigit(nextChar)) {
 			readConsumeChar();
-			token.appendLexema(nextChar);
 			nextChar = readWithoutConsumeChar();
 		}
 
@@ -396,23 +518,24 @@ public class LexicAnalyzer {
 			// se interpreta todo el conjunto como un identificador mal formado.
 			while (isAlphabet(nextChar) || isDigit(nextChar) || nextChar == '_') {
 				// Se lee el resto del identificador para mostrarlo en el mensaje de error.
-				token.appendLexema(readConsumeChar());
+				readConsumeChar();
 				nextChar = readWithoutConsumeChar();
 			}
-			throw new BadIdentifierError(token.getLine(), token.getCol(), token.getLexema());
-		} else {
-			try {
-				// Validar que el número está en el rango de los I32 (32 bits: -2^31...2^31-1)
-				Integer.parseInt(token.getLexema());
-			} catch (NumberFormatException e) {
-				throw new InvalidLiteralError(token.getLine(), token.getCol(),
+			throw new BadIdentifierError(tokenLine, tokenCol, buffer.slice(tokenStart, buffer.position()));
+		}
+
+		// Validar que el número está en el rango de los I32 (32 bits: -2^31...2^31-1),
+		// acumulando los dígitos del buffer sin construir el lexema.
+		long value = 0;
+		for (int i = tokenStart; i < buffer.position(); i++) {
+			value = value * 10 + (buffer.charAt(i) - '0');
+			if (value > Integer.MAX_VALUE) {
+				throw new InvalidLiteralError(tokenLine, tokenCol,
 						"EL LITERAL NUMERICO EXCEDE EL RANGO DE LOS NUMEROS ENTEROS DE 32 BITS.");
 			}
-			// Se identifica el token como literal entero exitosamente.
-			token.setToken("lit_int");
 		}
-
-		return true;
+		// Se identifica el token como literal entero exitosamente.
+		return TokenKind.LIT_INT;
 	}
 
 	/**
@@ -426,43 +549,44 @@ public class LexicAnalyzer {
 	 * 
 	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
 	 *                    literal cadena.
-	 * @param token       el token que vamos a modificar si es un literal cadena.
-	 * @return true si es un literal cadena.
+	 * @return el tipo LIT_STRING.
 	 * @throws InvalidCharacterError si algún caracter leído no pertenece al
 	 *                               alfabeto de entrada.
 	 * @throws InvalidLiteralError   si se encuentra un nil o un salto de linea en
 	 *                               antes de cerrar la cadena.
 	 */
-	private boolean matchStringLiteral(char initialChar, Token token) throws InvalidCharacterError, InvalidLiteralError {
+	private TokenKind matchStringLiteral(char initialChar) throws InvalidCharacterError, InvalidLiteralError {
+		readingString = true;
 		char nextChar = readWithoutConsumeChar();
 
 		// Se consumen todos los caracteres hasta encontrar las comillas de cierre.
 		// Si se encuentra un salto de linea también se deja de leer.
 		while (!isLineBreak(nextChar) && nextChar != '"') {
-			token.appendLexema(readConsumeChar()); // consumimos finalmente el caracter.
+			readConsumeChar(); // consumimos finalmente el caracter.
 			if (nextChar == '\\') { // Se encontró un caracter de escape en la cadena.
 				char escapedChar = readWithoutConsumeChar();
 				if (escapedChar == '0') {
 					// Se encontró un caracter NIL en la cadena.
-					throw new InvalidLiteralError(lineNumber, columnNumber, "SE ENCONTRO UN CARACTER INVALIDO NIL EN UNA CADENA");
+					throw new InvalidLiteralError(buffer.line(), buffer.column(),
+							"SE ENCONTRO UN CARACTER INVALIDO NIL EN UNA CADENA");
 				}
 				if (escapedChar == '"' || escapedChar == '\\') {
 					// Se encontró un escape del caracter " o \. Se sigue leyendo la cadena.
-					token.appendLexema(readConsumeChar()); // consumimos el caracter posterior al escape.
+					readConsumeChar(); // consumimos el caracter posterior al escape.
 				}
 			}
 			nextChar = readWithoutConsumeChar();
 		}
+		readingString = false;
 
 		if (nextChar == '"') { // Se cierra el literal al hallar las comillas de cierre.
-			token.appendLexema(readConsumeChar()); // consumimos finalmente las comillas de cierre.
-			token.setToken("lit_string");
+			readConsumeChar(); // consumimos finalmente las comillas de cierre.
+			return TokenKind.LIT_STRING;
 		} else {
 			// Se encontró un salto de linea antes del cierre de la cadena.
-			throw new InvalidLiteralError(token.getLine(), token.getCol(),
+			throw new InvalidLiteralError(tokenLine, tokenCol,
 					"SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA.");
 		}
-		return true;
 	}
 
 	/**
@@ -482,324 +606,138 @@ public class LexicAnalyzer {
 	 * 
 	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
 	 *                    literal caracter.
-	 * @param token       el token que vamos a modificar si es un literal caracter.
-	 * @return true si es un literal caracter.
+	 * @return el tipo LIT_CHAR.
 	 * @throws InvalidCharacterError si algún caracter leído no pertenece al
 	 *                               alfabeto de entrada.
 	 * @throws InvalidLiteralError   si se encuentra un nil, un salto de linea, cero
 	 *                               caracteres o más de un caracter en el literal.
 	 */
-	private boolean matchCharLiteral(char initialChar, Token token) throws InvalidCharacterError, InvalidLiteralError {
+	private TokenKind matchCharLiteral(char initialChar) throws InvalidCharacterError, InvalidLiteralError {
 		char currentChar = readConsumeChar();
-		token.appendLexema(currentChar);
 
 		if (isLineBreak(currentChar) || currentChar == '\'') {
 			// El literal tiene cero caracteres o no está cerrado.
-			throw new InvalidLiteralError(token.getLine(), token.getCol(),
+			throw new InvalidLiteralError(tokenLine, tokenCol,
 					"EL LITERAL DEBE CONTENER EXACTAMENTE UN CARACTER");
 		}
 
 		// Se analiza el caracter dentro del literal.
 		if (currentChar == '\\') { // Se encontró un caracter de escape.
 			char escapedChar = readConsumeChar(); // Consumimos también el caracter posterior al escape.
-			token.appendLexema(escapedChar);
 			if (escapedChar == '0') { // Se encontró un caracter NIL en la cadena.
-				throw new InvalidLiteralError(lineNumber, columnNumber, "SE ENCONTRO UN CARACTER NIL EN UN LITERAL");
+				throw new InvalidLiteralError(buffer.line(), buffer.column(), "SE ENCONTRO UN CARACTER NIL EN UN LITERAL");
 			}
 		}
 
 		// Se verifica encontrar a continuación el caracter de cierre del literal.
 		currentChar = readConsumeChar();
 		if (currentChar == '\'') {
-			token.appendLexema(currentChar);
-			token.setToken("lit_char");
+			return TokenKind.LIT_CHAR;
 		} else {
 			// Si el literal no está cerrado o tiene más de un caracter, se lanza un error.
-			throw new InvalidLiteralError(token.getLine(), token.getCol(),
+			throw new InvalidLiteralError(tokenLine, tokenCol,
 					"EL LITERAL DEBE CONTENER EXACTAMENTE UN CARACTER");
 		}
-		return true;
 	}
 
 	/**
 	 * A partir de un caracter inicial, verifica si lo que sigue es un
 	 * identificador.
-	 * Este método es básicamente un autómata con 4 estados
-	 * 0: siendo el inicial
-	 * 1: al que nos movemos si encontramos _ o letra - Aceptador
-	 * 2: al que nos movemos si encontramos letra, dígito o _ - Aceptador
-	 * 3: el rechazador mediante el cual arrojaremos el error de que no es un
-	 * identificador.
-	 * Vamos a frenar en un estado aceptador si venimos desde el estado 1 o 2 y nos
-	 * topamos con un espacio o algún operador.
+	 * Se ejecuta el autómata TransitionTable.IDENTIFIER: un identificador comienza
+	 * con una letra y continúa con letras, dígitos o _, y finaliza al encontrar un
+	 * espacio (que se consume) o un operador (que no se consume).
+	 * Luego se clasifica a partir del rango que ocupa en el buffer como palabra
+	 * reservada, tipo primitivo, identificador de tipo o identificador. El lexema
+	 * finaliza en acceptPosition.
 	 * 
 	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
 	 *                    identificador.
-	 * @param token       el token que vamos a llenar con el lexema y el token si es
-	 *                    que es un identificador.
-	 * @return true si es un identificador, false si no lo es.
+	 * @return el tipo del identificador.
+	 * @throws BadIdentifierError si el identificador contiene caracteres inválidos o
+	 *                            comienza con _.
 	 */
-	private boolean matchIdentifier(char initialChar, Token token) throws BadIdentifierError, InvalidCharacterError {
-		int initialState = 0;
-		int currentState = initialState;
-		Integer successStates[] = { 1, 2 };
-		char currentChar = initialChar;
-		String lexema = "";
-
-		while (currentState != 2 && currentState != 3 && !isBlankSpace(currentChar) && !reachedEOF) {
-			if (currentState == 0 && isAlphabet(currentChar)) {
-				currentState = 1;
-				lexema += currentChar;
-
-				// Miramos un poco hacia adelante a ver si es operador o no el siguiente char.
-				currentChar = readWithoutConsumeChar();
-				if (!isOperator(currentChar)) {
-					currentChar = readConsumeChar();
-				}
-			} else {
-				if (currentState == 0 && (isDigit(currentChar) || currentChar == '_')) {
-					currentState = 3;
-					lexema += currentChar;
-				} else {
-					if (currentState == 1 && (isAlphabet(currentChar) || isDigit(currentChar) || currentChar == '_')) {
-						currentState = 1;
-						lexema += currentChar;
-						currentChar = readWithoutConsumeChar();
-						if (!isOperator(currentChar)) {
-							currentChar = readConsumeChar();
-						}
-					} else {
-						if (currentState == 1 && isOperator(currentChar)) {
-							currentState = 2;
-						} else {
-							lexema += currentChar;
-							currentState = 3;
-						}
-					}
-				}
-			}
-		}
-
-		if (Arrays.asList(successStates).contains(currentState)) {
-			token.setLexema(lexema);
-			token.setToken("id");
-			return true;
+	private TokenKind matchIdentifier(char initialChar) throws BadIdentifierError, InvalidCharacterError {
+		int initialState = TransitionTable.IDENTIFIER[TransitionTable.IDENTIFIER_START][TransitionTable
+				.classOf(initialChar)];
+		int finalState = runAutomaton(TransitionTable.IDENTIFIER, initialState);
+
+		if (finalState == TransitionTable.ACCEPT) {
+			// El caracter que finalizó el identificador no forma parte del lexema.
+			return ReservedWords.classify(buffer, tokenStart, acceptPosition);
 		} else {
 			// Si luego del caracter ilegal continua un identificador,
 			// se interpreta todo el conjunto como un identificador mal formado.
-			currentChar = readWithoutConsumeChar();
+			char currentChar = readWithoutConsumeChar();
 			while (isAlphabet(currentChar) || isDigit(currentChar) || currentChar == '_') {
 				// Se lee el resto del identificador para mostrarlo en el mensaje de error.
-				lexema += readConsumeChar();
+				readConsumeChar();
 				currentChar = readWithoutConsumeChar();
 			}
-			throw new BadIdentifierError(token.getLine(), token.getCol(), lexema);
+			throw new BadIdentifierError(tokenLine, tokenCol, buffer.slice(tokenStart, buffer.position()));
 		}
 	}
 
 	/**
-	 * A partir de un token de tipo identificador, valida si es un identificador de
-	 * tipo.
-	 * 
-	 * Se considera identificador de tipo a todo identificador que comienza con una
-	 * letra mayúscula.
-	 * 
-	 * @param token el token que vamos a verificar y modificar si es un
-	 *              identificador de tipo.
-	 * @return true si es un identificador de tipo, false si no lo es.
+	 * Consume un comentario de múltiples líneas. Se invoca luego de consumir el /
+	 * inicial, habiendo verificado que le sigue un asterisco.
+	 * Se ejecuta el autómata TransitionTable.MULTILINE_COMMENT, que consume todo
+	 * el contenido hasta hallar la secuencia de cierre.
+	 * La ubicación del comienzo del comentario, con la que se reporta el error,
+	 * es la del token actual.
+	 * 
+	 * @throws UnclosedMultiLineCommentError si se llega al final del archivo antes
+	 *                                       de cerrar el comentario.
 	 */
-	private boolean matchTypeIdentifier(Token token) {
-		boolean matched = false;
-		if (token.getToken() == "id" && isUppercaseChar(token.getLexema().charAt(0))) {
-			token.setToken("id_type");
-			ReservedWords.matchPrimitiveType(token);
-			matched = true;
-		}
+	private void matchMultilineComment()
+			throws UnclosedMultiLineCommentError, InvalidCharacterError {
+		int finalState = runAutomaton(TransitionTable.MULTILINE_COMMENT, TransitionTable.MULTILINE_COMMENT_START);
 
-		return matched;
+		if (finalState != TransitionTable.ACCEPT) {
+			// Llego al final del archivo y no encontró el cierre del comentario multilinea.
+			throw new UnclosedMultiLineCommentError(tokenLine, tokenCol);
+		}
 	}
 
 	/**
-	 * A partir de un caracter inicial, verifica si lo que sigue es un
-	 * comentario de múltiples líneas.
-	 * Este método representa a un autómata con 5 estados con una verificación
-	 * adicional:
-	 * Hacemos un checkeo de que el siguiente caracter sea un asterisco para
-	 * comenzar el comentario multilinea.
-	 * Estados:
-	 * 0: el inicial
-	 * 1: al que nos movemos si encontramos un /
-	 * 
-	 * 2: al que nos movemos si encontramos un * habiendo encontrado un / antes.
-	 * Sobre este estado vamos a ir consumiendo todo lo que venga sin rechazar y
-	 * si encontramos un EOF, arrojamos error porque no se cerró el comentario.
-	 * 
-	 * 3: nos movemos a este estado si encontramos un * y estamos en el estado 2.
-	 * Si recibimos cualquier cosa que no sea un /, volvemos al 2. Y si encontramos
-	 * un EOF, arrojamos error porque no se cerró el comentario.
-	 * 
-	 * 4: el estado de aceptación, en el cual consumimos el último caracter y
-	 * retornamos que efectivamente se trata de un comentario multilinea.
-	 * 
-	 * Si en cualquier estado, encontramos un EOF, nos movemos al estado 5,
-	 * rechazador.
-	 * 
-	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
-	 *                    comentario de una línea.
-	 * @param token       el token que vamos a llenar si es un comentario de una
-	 *                    línea.
-	 * @return true si es un comentario de una línea, false si no lo es.
+	 * Consume un comentario de una sola linea. Se invoca luego de consumir el /
+	 * inicial, habiendo verificado que le sigue otro.
+	 * Se ejecuta el autómata TransitionTable.COMMENT, que consume todo el
+	 * contenido hasta el próximo salto de linea inclusive.
 	 */
-	private boolean matchMultilineComment(char initialChar, Token token)
-			throws UnclosedMultiLineCommentError, InvalidCharacterError {
-		int initialState = 0;
-		int currentState = initialState;
-		Integer successStates[] = { 4 };
-		char currentChar = initialChar;
-		String lexema = "";
-		boolean matched = false;
-
-		// Verificamos que el siguiente char sea un asterisco para comenzar el
-		// comentario multilinea
-		if (readWithoutConsumeChar() == '*') {
-			while (currentState != 4 && currentState != 5) {
-				if (reachedEOF) {
-					currentState = 5;
-				} else {
-					if (currentState == 0 && currentChar == '/') {
-						currentState = 1;
-						lexema += currentChar;
-						currentChar = readConsumeChar();
-					} else {
-						if (currentState == 1 && currentChar == '*') { // Comienzo del comentario multilinea
-							currentState = 2;
-							lexema += currentChar;
-							currentChar = readConsumeChar();
-						} else {
-							if (currentState == 2 && currentChar != '*') { // Cualquier caracter que no sea *
-								currentState = 2;
-								if (!isLineBreak(currentChar)) { // Verificamos que no sea un ENTER para poder mostrar bien el lexema
-									lexema += currentChar;
-								}
-								currentChar = readConsumeChar();
-							} else {
-								if (currentState == 2 && currentChar == '*') {
-									currentState = 3;
-									lexema += currentChar;
-									currentChar = readConsumeChar();
-								} else {
-									/*
-									 * si encontamos ya un * y no le sigue un / entonces no era el final del
-									 * comentario
-									 * por lo que volvemos al estado anterior
-									 */
-									if (currentState == 3 && currentChar != '/') {
-										currentState = 2;
-										lexema += currentChar;
-										currentChar = readConsumeChar();
-									} else {
-										/*
-										 * Si encontramos un * y le sigue un / entonces es el final del comentario
-										 * multilinea
-										 * por lo que frenamos el automata en estado aceptador
-										 */
-										if (currentState == 3 && currentChar == '/') {
-											currentState = 4;
-											lexema += currentChar;
-										} else {
-											currentState = 5;
-										}
-									}
-								}
-							}
-						}
-					}
-				}
-			}
-
-			if (Arrays.asList(successStates).contains(currentState)) {
-				token.setLexema(lexema);
-				token.setToken("multiline_comment");
-				matched = true;
-			} else {
-				// Llego al final del archivo y no encontró el cierre del comentario multilinea.
-				throw new UnclosedMultiLineCommentError(token.getLine(), token.getCol());
-			}
-		}
-
-		return matched;
+	private void matchComment() throws InvalidCharacterError {
+		runAutomaton(TransitionTable.COMMENT, TransitionTable.COMMENT_START);
 	}
 
 	/**
-	 * A partir de un caracter inicial, verifica si lo que sigue es un
-	 * comentario de una sola linea.
-	 * Este método representa a un autómata con 4 estados con una verificación
-	 * adicional:
-	 * Hacemos un checkeo de que el siguiente caracter sea un slash para
-	 * comenzar el comentario.
-	 * Estados:
-	 * 0: el inicial
-	 * 1: al que nos movemos si encontramos un /
-	 * 
-	 * 2: al que nos movemos si encontramos un / habiendo encontrado un / antes.
-	 * Sobre este estado vamos a ir consumiendo todo lo que venga sin rechazar hasta
-	 * encontrar un salto de linea. Este estado es aceptador.
-	 * 
-	 * 3: nos movemos a este estado si encontramos un salto de linea y estamos en el
-	 * estado 2.
-	 * 
-	 * 
-	 * @param initialChar el caracter a partir del cual vamos a analizar si es un
-	 *                    comentario de una línea.
-	 * @param token       el token que vamos a llenar con el lexema y el token si es
-	 *                    que es un comentario de una línea.
-	 * @return true si es un comentario de una línea, false si no lo es.
+	 * Ejecuta un autómata de TransitionTable a partir del estado dado hasta
+	 * alcanzar un estado final.
+	 * En cada paso se lee el próximo caracter sin consumirlo, se obtiene su clase
+	 * y la celda correspondiente de la matriz indica el estado destino y si el
+	 * caracter debe consumirse.
+	 * 
+	 * Al finalizar, acceptPosition contiene la posición del buffer previa al
+	 * caracter que produjo la última transición.
+	 * 
+	 * @param table        matriz de transición del autómata.
+	 * @param initialState estado desde el cual comenzar.
+	 * @return el estado final alcanzado (ACCEPT o REJECT).
+	 * @throws InvalidCharacterError si algún caracter consumido no pertenece al
+	 *                               alfabeto de entrada.
 	 */
-	private boolean matchComment(char initialChar, Token token) throws InvalidCharacterError {
-		int initialState = 0;
-		int currentState = initialState;
-		Integer successStates[] = { 2 };
-		char currentChar = initialChar;
-		String lexema = "";
-		boolean matched = false;
-
-		// Verificamos que el siguiente char sea un slash para comenzar el comentario.
-		if (readWithoutConsumeChar() == '/') {
-			while (currentState != 3 && !isLineBreak(currentChar)) {
-				if (currentState == 0 && currentChar == '/') {
-					currentState = 1;
-					lexema += currentChar;
-					currentChar = readConsumeChar();
-				} else {
-					if (currentState == 1 && currentChar == '/') {
-						currentState = 2;
-						lexema += currentChar;
-						currentChar = readConsumeChar();
-					} else {
-						if (currentState == 2 && isLineBreak(currentChar)) {
-							currentState = 2;
-							lexema += currentChar;
-						} else {
-							if (currentState == 2 && !isLineBreak(currentChar)) {
-								currentState = 2;
-								lexema += currentChar;
-								currentChar = readConsumeChar();
-							} else {
-								currentState = 3;
-							}
-						}
-					}
-				}
-			}
-
-			if (Arrays.asList(successStates).contains(currentState)) {
-				token.setLexema(lexema);
-				token.setToken("comment");
-				matched = true;
+	private int runAutomaton(int[][] table, int initialState) throws InvalidCharacterError {
+		int state = initialState & TransitionTable.STATE_MASK;
+		while (state < TransitionTable.ACCEPT) {
+			char currentChar = readWithoutConsumeChar();
+			int charClass = buffer.reachedEOF() ? TransitionTable.EOF : TransitionTable.classOf(currentChar);
+			int transition = table[state][charClass];
+
+			acceptPosition = buffer.position();
+			if ((transition & TransitionTable.CONSUME) != 0) {
+				readConsumeChar();
 			}
+			state = transition & TransitionTable.STATE_MASK;
 		}
-
-		return matched;
+		return state;
 	}
 
 	/**
@@ -815,12 +753,49 @@ public class LexicAnalyzer {
 		char currentChar = readWithoutConsumeChar();
 		// Validamos que el caracter sea espacio en blanco y lo consumimos.
 		// Se detiene al llegar al final del archivo o leer un caracter significativo.
-		while (isBlankSpace(currentChar) && !reachedEOF) {
+		while (isBlankSpace(currentChar) && !buffer.reachedEOF()) {
 			readConsumeChar(); // consumimos finalmente el caracter.
 			currentChar = readWithoutConsumeChar();
 		}
 	}
 
+	/**
+	 * Descarta el contenido del archivo de entrada luego de un error léxico hasta
+	 * el próximo punto de sincronización: un espacio en blanco, un salto de linea,
+	 * un operador o delimitador (sin contar las comillas, para no abrir un
+	 * literal en medio del contenido erróneo) o el final del archivo.
+	 * Si el error ocurrió dentro de un literal cadena, se descarta en cambio el
+	 * resto de la cadena, hasta las comillas de cierre inclusive.
+	 * Los caracteres descartados no se validan.
+	 */
+	private void skipToSyncPoint() {
+		char currentChar = readWithoutConsumeChar();
+		if (readingString) {
+			readingString = false;
+			while (!buffer.reachedEOF() && !isLineBreak(currentChar) && currentChar != '"') {
+				if (buffer.next() == '\\' && (buffer.peek() == '"' || buffer.peek() == '\\')) {
+					buffer.next(); // Se descarta también el caracter escapado.
+				}
+				currentChar = readWithoutConsumeChar();
+			}
+			if (currentChar == '"') {
+				buffer.next();
+			}
+			return;
+		}
+
+		while (!buffer.reachedEOF() && !isBlankSpace(currentChar)) {
+			int charClass = TransitionTable.classOf(currentChar);
+			boolean isDelimiter = charClass == TransitionTable.OPERATOR || charClass == TransitionTable.SLASH
+					|| charClass == TransitionTable.STAR;
+			if (isDelimiter && currentChar != '"' && currentChar != '\'') {
+				break;
+			}
+			buffer.next();
+			currentChar = readWithoutConsumeChar();
+		}
+	}
+
 	/**
 	 * Lee el próximo caracter del archivo consumiendolo.
 	 * Si el archivo se terminó de leer por completo,
@@ -834,34 +809,11 @@ public class LexicAnalyzer {
 	 *                               de entrada de TinyRust+
 	 */
 	private char readConsumeChar() throws InvalidCharacterError {
-		char currentChar;
-		if (reachedEOF) {
-			currentChar = (char) 3; // End of File - ETX
-		} else {
-			if (currentLine.length() > 0) {
-				// Lee el próximo caracter de la linea actual.
-				currentChar = currentLine.charAt(0);
-				currentLine = currentLine.substring(1);
-				columnNumber++;
-			} else {
-				if (file.hasNextLine()) {
-					// Si ya se consumió la linea actual, devuelve un salto de linea.
-					currentChar = (char) 13; // Carriage Return - ENTER
-					currentLine = file.nextLine(); // Inicializa la siguiente linea.
-					lineNumber++;
-					columnNumber = 0;
-				} else {
-					// Se llegó al final del archivo.
-					currentChar = (char) 3; // End of File - ETX
-					reachedEOF = true;
-					file.close();
-				}
-			}
-		}
+		char currentChar = buffer.next();
 
 		// Validar que el caracter pertenece al alfabeto de entrada.
 		if (!isValidChar(currentChar)) {
-			throw new InvalidCharacterError(lineNumber, columnNumber, currentChar);
+			throw new InvalidCharacterError(buffer.line(), buffer.column(), currentChar);
 		}
 		return currentChar;
 	}
@@ -874,25 +826,6 @@ public class LexicAnalyzer {
 	 * @return Devuelve el próximo caracter del archivo.
 	 */
 	private char readWithoutConsumeChar() {
-		char currentChar;
-		if (reachedEOF) {
-			currentChar = (char) 3; // End of File - ETX
-		} else {
-			if (currentLine.length() > 0) {
-				// Lee el próximo caracter de la linea actual.
-				currentChar = currentLine.charAt(0);
-			} else {
-				if (file.hasNextLine()) {
-					// Si ya se consumió la linea actual, devuelve un salto de linea.
-					currentChar = (char) 13; // Carriage Return - ENTER
-				} else {
-					// Se llegó al final del archivo.
-					currentChar = (char) 3; // End of File - ETX
-					reachedEOF = true;
-					file.close(); // Cierra el archivo.
-				}
-			}
-		}
-		return currentChar;
+		return buffer.peek();
 	}
 }
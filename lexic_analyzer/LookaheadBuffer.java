@@ -0,0 +1,94 @@
+package lexic_analyzer;
+
+import error.lexic.LexicalError;
+
+/**
+ * Buffer circular de tokens que provee al analizador sintáctico el token
+ * actual y hasta k - 1 tokens siguientes, sin consumirlos.
+ *
+ * El buffer se completa en bloque desde un origen de tokens (ver
+ * TokenSource.nextTokens) solo cuando alguno de los k tokens visibles
+ * todavía no fue leído, por lo que un error léxico se reporta recién cuando el
+ * token que lo contiene entra entre los tokens visibles, igual que si se
+ * leyeran los tokens de a uno. Luego del token EOF, los tokens siguientes son
+ * también el token EOF.
+ */
+public class LookaheadBuffer {
+	private static final int BATCH_SIZE = 64; // Tokens leídos por cada lectura en bloque.
+
+	private final TokenSource source; // Origen de los tokens: el analizador léxico o su hilo.
+	private final int lookahead; // Cantidad de tokens visibles (k), incluyendo el actual.
+	private final Token[] ring; // Tokens leídos y aún no consumidos.
+	private final int mask; // Capacidad del buffer menos uno (la capacidad es potencia de 2).
+	private long head = 0; // Posición absoluta del token actual.
+	private long tail = 0; // Posición absoluta siguiente al último token leído.
+	private boolean reachedEOF = false; // Flag que indica si ya se leyó el token EOF.
+
+	/**
+	 * @param source    - origen del que se leen los tokens.
+	 * @param lookahead - cantidad de tokens visibles k, incluyendo el actual. Debe
+	 *                  ser al menos 1.
+	 */
+	public LookaheadBuffer(TokenSource source, int lookahead) {
+		if (lookahead < 1) {
+			throw new IllegalArgumentException("La cantidad de tokens visibles debe ser al menos 1.");
+		}
+		this.source = source;
+		this.lookahead = lookahead;
+		int capacity = Integer.highestOneBit(lookahead + BATCH_SIZE - 1) << 1;
+		this.ring = new Token[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Obtiene un token sin consumirlo.
+	 *
+	 * @param i - distancia al token actual: 0 es el token actual, 1 el siguiente,
+	 *          y así hasta k - 1.
+	 * @return el token en esa posición.
+	 * @throws LexicalError si alguno de los tokens visibles aún no leídos no es
+	 *                      válido.
+	 */
+	public Token peek(int i) throws LexicalError {
+		if (i < 0 || i >= lookahead) {
+			throw new IndexOutOfBoundsException("Se pidió el token " + i + " con " + lookahead + " tokens visibles.");
+		}
+		if (head + lookahead > tail) {
+			fill(head + lookahead - 1); // Solo antes de la primera lectura o al alcanzar EOF.
+		}
+		return ring[(int) (Math.min(head + i, tail - 1) & mask)];
+	}
+
+	/**
+	 * Consume el token actual, de modo que el siguiente pasa a ser el actual.
+	 *
+	 * @throws LexicalError si el token que pasa a ser visible no es válido.
+	 */
+	public void advance() throws LexicalError {
+		head++;
+		if (head + lookahead > tail) {
+			fill(head + lookahead - 1);
+		}
+	}
+
+	/**
+	 * Lee tokens en bloque del origen hasta haber leído el token en la
+	 * posición absoluta dada, el token EOF o completar la capacidad del buffer.
+	 * Tras el token EOF no se lee nada más: las posiciones siguientes se
+	 * resuelven como el token EOF.
+	 */
+	private void fill(long position) throws LexicalError {
+		while (!reachedEOF && tail <= position) {
+			int offset = (int) (tail & mask);
+			int free = ring.length - (int) (tail - head);
+			int count = Math.min(free, ring.length - offset); // Sin pasar el final del arreglo.
+			int read = source.nextTokens(ring, offset, count);
+			tail += read;
+			reachedEOF = !source.hasNextToken();
+		}
+		if (head >= tail) {
+			// El token actual está más allá del token EOF.
+			head = tail - 1;
+		}
+	}
+}
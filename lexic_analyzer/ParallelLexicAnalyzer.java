@@ -0,0 +1,253 @@
+package lexic_analyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import error.lexic.LexicalError;
+
+/**
+ * Análisis léxico en paralelo de archivos de entrada grandes.
+ *
+ * El archivo se divide en regiones que comienzan en una linea nueva fuera de
+ * cualquier literal cadena, literal caracter o comentario multilinea. En esas
+ * posiciones el analizador léxico secuencial siempre se encuentra entre dos
+ * tokens, por lo que cada región puede analizarse de forma independiente en un
+ * hilo del ForkJoinPool, comenzando con el número de linea que le corresponde.
+ * Luego las secuencias de tokens de todas las regiones se concatenan en orden.
+ *
+ * El resultado es idéntico al del análisis secuencial: si alguna región
+ * contiene un error, se reporta el error de la primera región que falló, que es
+ * el primer error del archivo.
+ */
+public class ParallelLexicAnalyzer {
+	private static final int MIN_CHUNK_SIZE = 256 * 1024; // Caracteres mínimos por región.
+	private static final int CHUNKS_PER_THREAD = 4; // Regiones por hilo, para balancear la carga.
+
+	// Estados del análisis previo que busca los límites de las regiones.
+	private static final int CODE = 0;
+	private static final int LINE_COMMENT = 1;
+	private static final int MULTILINE_COMMENT = 2;
+	private static final int MULTILINE_COMMENT_STAR = 3;
+	private static final int STRING = 4;
+
+	/**
+	 * Analiza léxicamente un buffer de entrada completo, en paralelo si su tamaño
+	 * lo justifica.
+	 *
+	 * @param buffer - buffer con el contenido completo del archivo de entrada.
+	 * @param pool   - pool de hilos en el que se analizan las regiones.
+	 * @return la secuencia de tokens del archivo, hasta el token EOF inclusive.
+	 * @throws LexicalError el primer error léxico del archivo, si lo hay.
+	 */
+	public static TokenStream tokenize(SourceBuffer buffer, ForkJoinPool pool) throws LexicalError {
+		int chunkSize = Math.max(MIN_CHUNK_SIZE, buffer.length() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+		return tokenize(buffer, pool, chunkSize);
+	}
+
+	/**
+	 * Analiza léxicamente un buffer de entrada completo, dividiéndolo en regiones
+	 * de al menos el tamaño dado.
+	 *
+	 * @param buffer    - buffer con el contenido completo del archivo de entrada.
+	 * @param pool      - pool de hilos en el que se analizan las regiones.
+	 * @param chunkSize - cantidad mínima de caracteres de cada región.
+	 * @return la secuencia de tokens del archivo, hasta el token EOF inclusive.
+	 * @throws LexicalError el primer error léxico del archivo, si lo hay.
+	 */
+	static TokenStream tokenize(SourceBuffer buffer, ForkJoinPool pool, int chunkSize) throws LexicalError {
+		int[] bounds = findChunkBounds(buffer, chunkSize);
+		if (pool.getParallelism() == 1 || bounds.length <= 2) {
+			// No se justifica dividir el archivo.
+			return new LexicAnalyzer(buffer).tokenize();
+		}
+
+		int[] firstLines = countLines(buffer, bounds);
+		List<RegionTask> tasks = new ArrayList<RegionTask>();
+		for (int i = 0; i < bounds.length - 1; i++) {
+			tasks.add(new RegionTask(buffer.region(bounds[i], bounds[i + 1], firstLines[i], 0)));
+		}
+		for (RegionTask task : tasks) {
+			pool.execute(task);
+		}
+
+		// Se concatenan las regiones en orden, descartando el token EOF de todas
+		// salvo la última.
+		TokenStream tokens = new TokenStream(buffer);
+		for (int i = 0; i < tasks.size(); i++) {
+			RegionTask task = tasks.get(i);
+			task.join();
+			if (task.error != null) {
+				throw task.error;
+			}
+			boolean isLast = i == tasks.size() - 1;
+			tokens.addAll(task.tokens, isLast ? task.tokens.size() : task.tokens.size() - 1);
+		}
+		return tokens;
+	}
+
+	/**
+	 * Tarea que analiza léxicamente una región del archivo de entrada y conserva
+	 * su secuencia de tokens o el error léxico hallado.
+	 */
+	private static class RegionTask extends RecursiveAction {
+		private final SourceBuffer region;
+		private TokenStream tokens;
+		private LexicalError error;
+
+		RegionTask(SourceBuffer region) {
+			this.region = region;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				tokens = new LexicAnalyzer(region).tokenize();
+			} catch (LexicalError e) {
+				error = e;
+			}
+		}
+	}
+
+	/**
+	 * Recorre el contenido del buffer siguiendo solo los literales y comentarios,
+	 * de la misma forma que lo hace el analizador léxico, para hallar los límites
+	 * de las regiones: el comienzo de una linea, fuera de literales y
+	 * comentarios multilinea, a no menos de chunkSize caracteres del límite
+	 * anterior.
+	 *
+	 * @return las posiciones de comienzo de cada región, seguidas de la posición
+	 *         final del contenido.
+	 */
+	private static int[] findChunkBounds(SourceBuffer buffer, int chunkSize) {
+		int length = buffer.length();
+		List<Integer> bounds = new ArrayList<Integer>();
+		bounds.add(0);
+		int lastBound = 0;
+		int state = CODE;
+		int i = 0;
+
+		while (i < length) {
+			char currentChar = buffer.charAt(i);
+			switch (state) {
+				case CODE:
+					if (currentChar == '/' && i + 1 < length && buffer.charAt(i + 1) == '*') {
+						state = MULTILINE_COMMENT;
+						i++;
+					} else if (currentChar == '/' && i + 1 < length && buffer.charAt(i + 1) == '/') {
+						state = LINE_COMMENT;
+						i++;
+					} else if (currentChar == '"') {
+						state = STRING;
+					} else if (currentChar == '\'') {
+						// El literal caracter tiene un caracter, o dos si es un escape, y el cierre.
+						// Un salto de linea dentro del literal no puede ser un límite.
+						i = skipChar(buffer, i + 1);
+						if (buffer.charAt(i - 1) == '\\') {
+							i = skipChar(buffer, i);
+						}
+						i = skipChar(buffer, i) - 1;
+					} else if (currentChar == '\n' && i + 1 - lastBound >= chunkSize && i + 1 < length) {
+						lastBound = i + 1;
+						bounds.add(lastBound);
+					}
+					break;
+
+				case LINE_COMMENT:
+					if (isLineBreak(currentChar)) {
+						state = CODE;
+						continue; // El salto de linea se analiza nuevamente como código.
+					}
+					break;
+
+				case MULTILINE_COMMENT:
+					if (currentChar == '*') {
+						state = MULTILINE_COMMENT_STAR;
+					}
+					break;
+
+				case MULTILINE_COMMENT_STAR:
+					// Igual que en TransitionTable.MULTILINE_COMMENT, cualquier caracter que no
+					// sea / (incluso otro *) vuelve al cuerpo del comentario.
+					state = currentChar == '/' ? CODE : MULTILINE_COMMENT;
+					break;
+
+				case STRING:
+					if (currentChar == '"' || isLineBreak(currentChar)) {
+						// Un salto de linea dentro de la cadena es un error léxico, que se
+						// reportará al analizar la región que lo contiene.
+						state = CODE;
+					} else if (currentChar == '\\' && i + 1 < length
+							&& (buffer.charAt(i + 1) == '"' || buffer.charAt(i + 1) == '\\')) {
+						i++;
+					}
+					break;
+			}
+			i++;
+		}
+
+		bounds.add(length);
+		int[] result = new int[bounds.size()];
+		for (int j = 0; j < result.length; j++) {
+			result[j] = bounds.get(j);
+		}
+		return result;
+	}
+
+	/**
+	 * Avanza un caracter del buffer, tratando un salto de linea de más de un
+	 * caracter (\r\n) como uno solo, al igual que SourceBuffer.
+	 *
+	 * @return la posición siguiente al caracter.
+	 */
+	private static int skipChar(SourceBuffer buffer, int position) {
+		if (position >= buffer.length()) {
+			return position;
+		}
+		return position + Math.max(1, buffer.lineBreakLength(position));
+	}
+
+	/**
+	 * Caracteres que finalizan un comentario de una linea o una cadena: los
+	 * saltos de linea que reconoce SourceBuffer y los que LexicAnalyzer considera
+	 * como tales.
+	 */
+	private static boolean isLineBreak(char currentChar) {
+		switch (currentChar) {
+			case '\n':
+			case '\r':
+			case '\u2028':
+			case '\u2029':
+			case '\u0085':
+			case (char) 11: // vertical tab
+			case (char) 3: // end of file
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Calcula el número de linea del comienzo de cada región, contando los saltos
+	 * de linea previos de la misma forma que SourceBuffer.
+	 */
+	private static int[] countLines(SourceBuffer buffer, int[] bounds) {
+		int[] firstLines = new int[bounds.length - 1];
+		int line = 1;
+		int position = 0;
+		for (int i = 0; i < firstLines.length; i++) {
+			while (position < bounds[i]) {
+				int breakLength = buffer.lineBreakLength(position);
+				if (breakLength > 0) {
+					line++;
+					position += breakLength;
+				} else {
+					position++;
+				}
+			}
+			firstLines[i] = line;
+		}
+		return firstLines;
+	}
+}
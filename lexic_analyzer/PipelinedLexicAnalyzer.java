@@ -0,0 +1,200 @@
+package lexic_analyzer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import error.lexic.LexicalError;
+
+/**
+ * Análisis léxico en un hilo propio, en paralelo con el análisis sintáctico.
+ *
+ * Un hilo productor consume el archivo de entrada con un LexicAnalyzer y
+ * publica los tokens en bloques a través de una cola circular de un único
+ * productor y un único consumidor, sin bloqueos: cada extremo de la cola solo
+ * es escrito por uno de los hilos. El analizador sintáctico consume los bloques
+ * como cualquier otro TokenSource.
+ *
+ * El resultado es idéntico al del análisis en el mismo hilo: si el productor
+ * halla un error léxico, publica los tokens previos al error y luego el error,
+ * que se lanza recién cuando el consumidor pide el token que lo contiene.
+ */
+public class PipelinedLexicAnalyzer implements TokenSource {
+	private static final int BATCH_SIZE = 512; // Tokens por bloque publicado.
+	private static final int QUEUE_CAPACITY = 64; // Bloques en la cola (potencia de 2).
+	private static final int SPIN_LIMIT = 100; // Intentos antes de suspender el hilo que espera.
+	private static final long PARK_NANOS = 20_000; // Tiempo de suspensión del hilo que espera.
+
+	private final BatchQueue queue = new BatchQueue(QUEUE_CAPACITY);
+	private final Thread producer;
+	private volatile boolean closed = false; // Flag que indica que el consumidor ya no pedirá tokens.
+	private Batch current = null; // Bloque que está consumiendo el analizador sintáctico.
+	private int position = 0; // Próximo token a entregar del bloque actual.
+	private boolean reachedEOFToken = false; // Flag que indica si ya se entregó el token EOF.
+
+	/**
+	 * Inicia el análisis léxico del archivo en un nuevo hilo.
+	 *
+	 * @param lexic - analizador léxico del archivo de entrada, que a partir de
+	 *              ahora solo usará el hilo productor.
+	 */
+	public PipelinedLexicAnalyzer(LexicAnalyzer lexic) {
+		producer = new Thread(() -> produce(lexic), "lexic-analyzer");
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	/**
+	 * Cuerpo del hilo productor: reconoce los tokens en bloques y los publica
+	 * hasta el token EOF o el primer error léxico.
+	 */
+	private void produce(LexicAnalyzer lexic) {
+		try {
+			while (lexic.hasNextToken()) {
+				Token[] tokens = new Token[BATCH_SIZE];
+				int read = lexic.nextTokens(tokens, 0, BATCH_SIZE);
+				if (!publish(new Batch(tokens, read, null, !lexic.hasNextToken()))) {
+					return;
+				}
+			}
+		} catch (LexicalError | RuntimeException | Error error) {
+			publish(new Batch(null, 0, error, true));
+		}
+	}
+
+	/**
+	 * Publica un bloque en la cola, esperando si está llena.
+	 *
+	 * @return false si el consumidor dejó de pedir tokens.
+	 */
+	private boolean publish(Batch batch) {
+		int spins = 0;
+		while (!queue.offer(batch)) {
+			if (closed) {
+				return false;
+			}
+			spins = await(spins);
+		}
+		return true;
+	}
+
+	@Override
+	public int nextTokens(Token[] tokens, int offset, int count) throws LexicalError {
+		if (reachedEOFToken) {
+			return 0;
+		}
+		if (current == null || position == current.size) {
+			current = take();
+			position = 0;
+		}
+		if (current.error != null) {
+			if (current.error instanceof LexicalError) {
+				throw (LexicalError) current.error;
+			} else if (current.error instanceof RuntimeException) {
+				throw (RuntimeException) current.error;
+			}
+			throw (Error) current.error;
+		}
+
+		int read = Math.min(count, current.size - position);
+		System.arraycopy(current.tokens, position, tokens, offset, read);
+		position += read;
+		reachedEOFToken = current.isLast && position == current.size;
+		return read;
+	}
+
+	@Override
+	public boolean hasNextToken() {
+		return !reachedEOFToken;
+	}
+
+	/**
+	 * Indica que no se pedirán más tokens, de modo que el hilo productor termine
+	 * aunque no haya consumido todo el archivo (por ejemplo, ante un error
+	 * sintáctico).
+	 */
+	public void close() {
+		closed = true;
+	}
+
+	/** Obtiene el próximo bloque de la cola, esperando si está vacía. */
+	private Batch take() {
+		int spins = 0;
+		Batch batch;
+		while ((batch = queue.poll()) == null) {
+			spins = await(spins);
+		}
+		return batch;
+	}
+
+	/**
+	 * Espera a que el otro hilo avance: primero cede el procesador y, tras
+	 * SPIN_LIMIT intentos, suspende el hilo brevemente.
+	 *
+	 * @return la cantidad de intentos realizados.
+	 */
+	private static int await(int spins) {
+		if (spins < SPIN_LIMIT) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+		return spins + 1;
+	}
+
+	/** Bloque de tokens consecutivos publicado por el hilo productor. */
+	private static class Batch {
+		private final Token[] tokens;
+		private final int size; // Cantidad de tokens válidos en tokens.
+		private final Throwable error; // Error hallado luego del bloque anterior, o null.
+		private final boolean isLast; // Flag que indica si el bloque termina con el token EOF.
+
+		Batch(Token[] tokens, int size, Throwable error, boolean isLast) {
+			this.tokens = tokens;
+			this.size = size;
+			this.error = error;
+			this.isLast = isLast;
+		}
+	}
+
+	/**
+	 * Cola circular de bloques para un único productor y un único consumidor.
+	 * El productor solo escribe tail y el consumidor solo escribe head; cada uno
+	 * publica su avance con una escritura ordenada (lazySet) que hace visibles
+	 * al otro hilo los accesos previos al arreglo.
+	 */
+	private static class BatchQueue {
+		private final Batch[] slots;
+		private final int mask;
+		private final AtomicLong head = new AtomicLong(); // Próximo bloque a consumir.
+		private final AtomicLong tail = new AtomicLong(); // Próximo lugar libre.
+
+		BatchQueue(int capacity) {
+			slots = new Batch[capacity];
+			mask = capacity - 1;
+		}
+
+		/** @return false si la cola está llena. */
+		boolean offer(Batch batch) {
+			long currentTail = tail.get();
+			if (currentTail - head.get() == slots.length) {
+				return false;
+			}
+			slots[(int) (currentTail & mask)] = batch;
+			tail.lazySet(currentTail + 1);
+			return true;
+		}
+
+		/** @return el próximo bloque, o null si la cola está vacía. */
+		Batch poll() {
+			long currentHead = head.get();
+			if (currentHead == tail.get()) {
+				return null;
+			}
+			int index = (int) (currentHead & mask);
+			Batch batch = slots[index];
+			slots[index] = null;
+			head.lazySet(currentHead + 1);
+			return batch;
+		}
+	}
+}
@@ -2,100 +2,74 @@ package lexic_analyzer;
 
 /**
  * Funcionalidad para reconocer tokens de tipo palabra reservada.
+ *
+ * Las palabras reservadas y los tipos primitivos se almacenan en una tabla
+ * indexada por una función de hash perfecta sobre la longitud, el primer y el
+ * último caracter de la palabra. De esta forma, un identificador se clasifica
+ * directamente a partir del rango del buffer de entrada que ocupa, con una
+ * única comparación contra la palabra candidata y sin construir un String.
  */
 public class ReservedWords {
-	/**
-	 * Recibe un token de tipo identificador y actualiza su tipo de forma acorde si
-	 * se trata de una palabra reservada de TinyRust+.
-	 * 
-	 * @param token - token de tipo identificador.
-	 * @return El mismo token modificado.
-	 */
-	public static Token matchReservedWord(Token token) {
-		// Solo puede ser palabra reservada si es un identificador.
-		// Verificamos por las dudas.
-		if (token.getToken() == "id") {
-			switch (token.getLexema()) {
-				case "fn":
-					token.setToken("p_func");
-					break;
-				case "class":
-					token.setToken("p_class");
-					break;
-				case "false":
-					token.setToken("p_false");
-					break;
-				case "true":
-					token.setToken("p_true");
-					break;
-				case "if":
-					token.setToken("p_if");
-					break;
-				case "else":
-					token.setToken("p_else");
-					break;
-				case "while":
-					token.setToken("p_while");
-					break;
-				case "return":
-					token.setToken("p_return");
-					break;
-				case "new":
-					token.setToken("p_new");
-					break;
-				case "nil":
-					token.setToken("p_nil");
-					break;
-				case "static":
-					token.setToken("p_static");
-					break;
-				case "pub":
-					token.setToken("p_pub");
-					break;
-				case "private":
-					token.setToken("p_private");
-					break;
-				case "void":
-					token.setToken("p_void");
-					break;
-				default:
-					break;
+	private static final int TABLE_SIZE = 32; // Potencia de 2, mayor a la cantidad de palabras.
+
+	// Palabras reservadas y tipos primitivos de TinyRust+.
+	private static final TokenKind[] RESERVED = {
+			TokenKind.P_FUNC, TokenKind.P_CLASS, TokenKind.P_FALSE, TokenKind.P_TRUE, TokenKind.P_IF,
+			TokenKind.P_ELSE, TokenKind.P_WHILE, TokenKind.P_RETURN, TokenKind.P_NEW, TokenKind.P_NIL,
+			TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_PRIVATE, TokenKind.P_VOID,
+			TokenKind.P_T_CHAR, TokenKind.P_T_I32, TokenKind.P_T_BOOL, TokenKind.P_T_STR, TokenKind.P_ARRAY,
+	};
+
+	private static final TokenKind[] KINDS = new TokenKind[TABLE_SIZE]; // Tipo de la palabra de cada posición.
+	private static final char[][] WORDS = new char[TABLE_SIZE][]; // Lexema de la palabra de cada posición.
+
+	static {
+		for (TokenKind kind : RESERVED) {
+			char[] word = kind.lexema().toCharArray();
+			int slot = hash(word.length, word[0], word[word.length - 1]);
+			if (KINDS[slot] != null) {
+				// Solo puede ocurrir si se agrega una palabra sin ajustar la función de hash.
+				throw new IllegalStateException("COLISION DE PALABRAS RESERVADAS: " + kind.lexema());
 			}
+			KINDS[slot] = kind;
+			WORDS[slot] = word;
 		}
-		return token;
 	}
 
 	/**
-	 * Recibe un token de identificador de tipo y actualiza su valor de forma acorde
-	 * si se trata de un tipo primitivo de TinyRust+.
-	 * 
-	 * @param token - token de identificador de tipo.
-	 * @return El mismo token modificado.
+	 * Función de hash perfecta para el conjunto de palabras reservadas y tipos
+	 * primitivos: no produce colisiones entre ellas.
 	 */
-	public static Token matchPrimitiveType(Token token) {
-		// Solo puede ser tipo primitivo si es un identificador de tipo.
-		// Verificamos por las dudas.
-		if (token.getToken() == "id_type") {
-			switch (token.getLexema()) {
-				case "Char":
-					token.setToken("p_t_char");
-					break;
-				case "I32":
-					token.setToken("p_t_i32");
-					break;
-				case "Bool":
-					token.setToken("p_t_bool");
-					break;
-				case "Str":
-					token.setToken("p_t_str");
-					break;
-				case "Array":
-					token.setToken("p_array");
-					break;
-				default:
-					break;
+	private static int hash(int length, char first, char last) {
+		return (length + first * 15 + last * 8) & (TABLE_SIZE - 1);
+	}
+
+	/**
+	 * Clasifica un identificador ya reconocido por el analizador léxico a partir
+	 * del rango del buffer de entrada que ocupa.
+	 *
+	 * @param buffer - buffer de entrada del analizador léxico.
+	 * @param start  - posición inicial del identificador (inclusive).
+	 * @param end    - posición final del identificador (exclusive).
+	 * @return el tipo de la palabra reservada o tipo primitivo si el
+	 *         identificador lo es. Caso contrario, ID_TYPE si comienza con
+	 *         mayúscula o ID si no.
+	 */
+	public static TokenKind classify(SourceBuffer buffer, int start, int end) {
+		int length = end - start;
+		char first = buffer.charAt(start);
+		int slot = hash(length, first, buffer.charAt(end - 1));
+		char[] word = WORDS[slot];
+
+		if (word != null && word.length == length) {
+			int i = 0;
+			while (i < length && word[i] == buffer.charAt(start + i)) {
+				i++;
+			}
+			if (i == length) {
+				return KINDS[slot];
 			}
 		}
-		return token;
+		return (first >= 'A' && first <= 'Z') ? TokenKind.ID_TYPE : TokenKind.ID;
 	}
 }
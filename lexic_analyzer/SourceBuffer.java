@@ -0,0 +1,325 @@
+package lexic_analyzer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffer de lectura del archivo fuente de TinyRust+.
+ * Mantiene el contenido completo del archivo en un arreglo de caracteres y lo
+ * recorre mediante un cursor entero, llevando el registro del número de linea
+ * y columna actuales. Leer un caracter no realiza ninguna reserva de memoria.
+ *
+ * Los saltos de linea (\n, \r\n o \r) se presentan al analizador léxico como un
+ * único caracter 13 (ENTER) y el final del archivo como el caracter 3 (ETX).
+ * Un salto de linea al final del archivo no inicia una nueva linea.
+ */
+public class SourceBuffer {
+	private static final char ENTER = (char) 13; // Carriage Return - ENTER
+	private static final char ETX = (char) 3; // End of File - ETX
+	private static final int DECODE_CHUNK = 64 * 1024; // Bytes copiados del archivo por cada lectura en bloque.
+
+	private final char[] source; // Contenido del archivo de entrada.
+	private final int length; // Cantidad de caracteres válidos en source.
+	private int cursor = 0; // Posición del próximo caracter a leer.
+	private int lineNumber = 0; // Linea leída actual del archivo de entrada.
+	private int columnNumber = 0; // Columna leída actual del archivo de entrada.
+	private boolean reachedEOF = false; // Flag que indica si ya se consumió todo el archivo de entrada.
+
+	public SourceBuffer(char[] source, int length) {
+		this(source, 0, length, 1, 0);
+	}
+
+	/**
+	 * Crea un buffer que recorre solo una región del contenido recibido, como si
+	 * fuera un archivo completo que comienza en la linea y columna dadas. El
+	 * cursor y las posiciones reportadas siguen siendo relativas al arreglo
+	 * completo.
+	 *
+	 * @param source      - contenido del archivo de entrada.
+	 * @param start       - posición inicial de la región.
+	 * @param end         - posición final de la región (exclusive).
+	 * @param firstLine   - número de linea de la posición inicial.
+	 * @param firstColumn - columna leída previa a la posición inicial.
+	 */
+	public SourceBuffer(char[] source, int start, int end, int firstLine, int firstColumn) {
+		this.source = source;
+		this.length = end;
+		this.cursor = start;
+
+		// Inicializar la lectura de la primer linea de la región.
+		if (start < end) {
+			lineNumber = firstLine;
+			columnNumber = firstColumn;
+		} else {
+			reachedEOF = true;
+		}
+	}
+
+	/**
+	 * Abre el archivo de entrada mapeándolo en memoria y decodifica su contenido
+	 * en bloque.
+	 *
+	 * El alfabeto de TinyRust+ es ASCII, por lo que en el caso habitual cada byte
+	 * se copia directamente como un caracter. Si el archivo contiene bytes fuera
+	 * del rango ASCII, se decodifica completo como UTF-8 (reemplazando las
+	 * secuencias mal formadas) y será el analizador léxico quien reporte el
+	 * caracter inválido.
+	 *
+	 * @param filePath - ruta del archivo de entrada.
+	 * @return un buffer listo para ser consumido por el analizador léxico.
+	 * @throws FileNotFoundException si el archivo no existe o no pudo leerse.
+	 */
+	public static SourceBuffer fromFile(String filePath) throws FileNotFoundException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			CharBuffer content = decode(mapped);
+			return new SourceBuffer(content.array(), content.limit());
+		} catch (IOException e) {
+			throw new FileNotFoundException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Decodifica un bloque de bytes a caracteres. Intenta primero la conversión
+	 * directa de ASCII y recurre al decodificador UTF-8 solo si encuentra un byte
+	 * fuera de ese rango.
+	 *
+	 * @param bytes - contenido del archivo de entrada.
+	 * @return los caracteres decodificados, respaldados por un arreglo.
+	 */
+	private static CharBuffer decode(ByteBuffer bytes) {
+		char[] content = new char[bytes.remaining()];
+		byte[] chunk = new byte[Math.min(content.length, DECODE_CHUNK)];
+		int offset = 0;
+		int nonAscii = 0; // Acumula el bit de signo de cada byte leído.
+
+		while (bytes.hasRemaining() && nonAscii >= 0) {
+			int count = Math.min(chunk.length, bytes.remaining());
+			bytes.get(chunk, 0, count);
+			for (int i = 0; i < count; i++) {
+				nonAscii |= chunk[i];
+				content[offset + i] = (char) chunk[i];
+			}
+			offset += count;
+		}
+
+		if (nonAscii >= 0) {
+			return CharBuffer.wrap(content);
+		}
+
+		// Se encontró un byte no ASCII: se decodifica el archivo completo como UTF-8.
+		bytes.rewind();
+		try {
+			return StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE)
+					.decode(bytes);
+		} catch (CharacterCodingException e) {
+			// No ocurre: las secuencias inválidas se reemplazan en lugar de reportarse.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Crea un nuevo buffer que recorre solo una región de este contenido, sin
+	 * copiarlo.
+	 *
+	 * @param start       - posición inicial de la región.
+	 * @param end         - posición final de la región (exclusive).
+	 * @param firstLine   - número de linea de la posición inicial.
+	 * @param firstColumn - columna leída previa a la posición inicial.
+	 * @return el buffer de la región.
+	 */
+	public SourceBuffer region(int start, int end, int firstLine, int firstColumn) {
+		return new SourceBuffer(source, start, end, firstLine, firstColumn);
+	}
+
+	/**
+	 * Crea un nuevo buffer con el contenido de este luego de aplicarle una
+	 * edición de texto. Este buffer no se modifica.
+	 *
+	 * @param offset        - posición del contenido en la que comienza la edición.
+	 * @param removedLength - cantidad de caracteres eliminados a partir de offset.
+	 * @param insertedText  - texto insertado en offset.
+	 * @return un buffer con el contenido editado, listo para consumirse desde el
+	 *         comienzo.
+	 */
+	public SourceBuffer edit(int offset, int removedLength, String insertedText) {
+		int tail = length - offset - removedLength;
+		char[] edited = new char[offset + insertedText.length() + tail];
+		System.arraycopy(source, 0, edited, 0, offset);
+		insertedText.getChars(0, insertedText.length(), edited, offset);
+		System.arraycopy(source, offset + removedLength, edited, offset + insertedText.length(), tail);
+		return new SourceBuffer(edited, edited.length);
+	}
+
+	/**
+	 * Lee el próximo caracter del buffer consumiéndolo.
+	 * Si el archivo se terminó de leer por completo,
+	 * devuelve el caracter 3 (ETX - End of Text).
+	 *
+	 * Al leer un caracter actualiza el registro de número de linea y columna
+	 * actuales.
+	 *
+	 * @return Devuelve el próximo caracter del archivo.
+	 */
+	public char next() {
+		char currentChar;
+		if (reachedEOF) {
+			currentChar = ETX;
+		} else {
+			int breakLength = lineBreakLength(cursor);
+			if (breakLength == 0) {
+				// Lee el próximo caracter de la linea actual.
+				currentChar = source[cursor++];
+				columnNumber++;
+			} else {
+				if (cursor + breakLength < length) {
+					// Si ya se consumió la linea actual, devuelve un salto de linea.
+					currentChar = ENTER;
+					cursor += breakLength; // Posicionarse al comienzo de la siguiente linea.
+					lineNumber++;
+					columnNumber = 0;
+				} else {
+					// Se llegó al final del archivo.
+					currentChar = ETX;
+					reachedEOF = true;
+				}
+			}
+		}
+		return currentChar;
+	}
+
+	/**
+	 * Lee el próximo caracter del buffer sin consumirlo.
+	 * Si el archivo se terminó de leer por completo,
+	 * devuelve el caracter 3 (ETX - End of Text).
+	 *
+	 * @return Devuelve el próximo caracter del archivo.
+	 */
+	public char peek() {
+		char currentChar;
+		if (reachedEOF) {
+			currentChar = ETX;
+		} else {
+			int breakLength = lineBreakLength(cursor);
+			if (breakLength == 0) {
+				// Lee el próximo caracter de la linea actual.
+				currentChar = source[cursor];
+			} else {
+				if (cursor + breakLength < length) {
+					// Si ya se consumió la linea actual, devuelve un salto de linea.
+					currentChar = ENTER;
+				} else {
+					// Se llegó al final del archivo.
+					currentChar = ETX;
+					reachedEOF = true;
+				}
+			}
+		}
+		return currentChar;
+	}
+
+	/**
+	 * Construye una cadena con el contenido del buffer entre dos posiciones.
+	 * Es la única operación del buffer que reserva memoria, junto con intern.
+	 *
+	 * @param start - posición inicial (inclusive).
+	 * @param end   - posición final (exclusive).
+	 * @return el contenido del buffer en el rango dado.
+	 */
+	public String slice(int start, int end) {
+		return new String(source, start, end - start);
+	}
+
+	/**
+	 * Agrega el contenido del buffer entre dos posiciones al final de un
+	 * StringBuilder, sin construir un String intermedio.
+	 *
+	 * @param builder - destino del contenido.
+	 * @param start   - posición inicial (inclusive).
+	 * @param end     - posición final (exclusive).
+	 */
+	public void appendTo(StringBuilder builder, int start, int end) {
+		builder.append(source, start, end - start);
+	}
+
+	/**
+	 * Obtiene del pool la instancia canónica del contenido del buffer entre dos
+	 * posiciones. Solo reserva memoria la primera vez que aparece cada lexema.
+	 *
+	 * @param pool  - pool de lexemas de la compilación.
+	 * @param start - posición inicial (inclusive).
+	 * @param end   - posición final (exclusive).
+	 * @return el contenido del buffer en el rango dado.
+	 */
+	public String intern(SymbolPool pool, int start, int end) {
+		return pool.intern(source, start, end);
+	}
+
+	/**
+	 * Lee un caracter ya consumido del buffer, sin alterar el cursor.
+	 *
+	 * @param position - posición del caracter, menor a position().
+	 * @return el caracter en esa posición.
+	 */
+	public char charAt(int position) {
+		return source[position];
+	}
+
+	/** @return la posición final (exclusive) del contenido del buffer. */
+	public int length() {
+		return length;
+	}
+
+	/** @return la posición del próximo caracter a leer. */
+	public int position() {
+		return cursor;
+	}
+
+	public int line() {
+		return lineNumber;
+	}
+
+	public int column() {
+		return columnNumber;
+	}
+
+	public boolean reachedEOF() {
+		return reachedEOF;
+	}
+
+	/**
+	 * Determina si en la posición dada comienza un salto de linea y cuántos
+	 * caracteres ocupa. Se consideran los mismos separadores de linea que
+	 * reconoce java.util.Scanner.
+	 *
+	 * @param position - posición del buffer a analizar.
+	 * @return la longitud del salto de linea, o 0 si no hay un salto de linea.
+	 */
+	int lineBreakLength(int position) {
+		if (position >= length) {
+			return 1; // El final del buffer se trata como el cierre de la última linea.
+		}
+		switch (source[position]) {
+			case '\r':
+				return (position + 1 < length && source[position + 1] == '\n') ? 2 : 1;
+			case '\n':
+			case '\u2028':
+			case '\u2029':
+			case '\u0085':
+				return 1;
+			default:
+				return 0;
+		}
+	}
+}
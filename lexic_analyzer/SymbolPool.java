@@ -0,0 +1,101 @@
+package lexic_analyzer;
+
+/**
+ * Pool de lexemas de una compilación de TinyRust+.
+ *
+ * Asocia cada secuencia de caracteres a una única instancia de String, de modo
+ * que todas las apariciones de un mismo identificador o literal en el archivo
+ * de entrada comparten el mismo objeto. Así, la tabla de símbolos y el AST no
+ * almacenan copias repetidas de los nombres y las comparaciones entre ellos
+ * (String.equals) se resuelven por identidad.
+ *
+ * Se implementa como una tabla de hash de direccionamiento abierto con sondeo
+ * lineal, consultada directamente con un rango de caracteres: el String solo se
+ * construye la primera vez que aparece cada lexema.
+ */
+public class SymbolPool {
+	private static final int INITIAL_CAPACITY = 1024; // Debe ser potencia de 2.
+
+	private String[] entries = new String[INITIAL_CAPACITY]; // Lexemas almacenados, null si la celda está libre.
+	private int[] hashes = new int[INITIAL_CAPACITY]; // Hash del lexema de cada celda ocupada.
+	private int size = 0; // Cantidad de lexemas almacenados.
+
+	/**
+	 * Devuelve la instancia canónica del lexema formado por un rango de
+	 * caracteres, creándola si es la primera vez que aparece.
+	 *
+	 * @param chars - arreglo que contiene el lexema.
+	 * @param start - posición inicial del lexema (inclusive).
+	 * @param end   - posición final del lexema (exclusive).
+	 * @return el String canónico con el contenido del rango.
+	 */
+	public String intern(char[] chars, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+
+		int mask = entries.length - 1;
+		int slot = spread(hash) & mask;
+		String entry;
+		while ((entry = entries[slot]) != null) {
+			if (hashes[slot] == hash && matches(entry, chars, start, end)) {
+				return entry;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		entry = new String(chars, start, end - start);
+		entries[slot] = entry;
+		hashes[slot] = hash;
+		if (++size * 2 > entries.length) {
+			grow();
+		}
+		return entry;
+	}
+
+	/** @return la cantidad de lexemas distintos almacenados. */
+	public int size() {
+		return size;
+	}
+
+	/** Mezcla los bits altos del hash en los bajos, que son los que indexan la tabla. */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean matches(String entry, char[] chars, int start, int end) {
+		if (entry.length() != end - start) {
+			return false;
+		}
+		for (int i = 0; i < entry.length(); i++) {
+			if (entry.charAt(i) != chars[start + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Duplica la capacidad de la tabla y reubica los lexemas almacenados, para
+	 * mantener la ocupación por debajo de la mitad.
+	 */
+	private void grow() {
+		String[] oldEntries = entries;
+		int[] oldHashes = hashes;
+		entries = new String[oldEntries.length * 2];
+		hashes = new int[oldEntries.length * 2];
+
+		int mask = entries.length - 1;
+		for (int i = 0; i < oldEntries.length; i++) {
+			if (oldEntries[i] != null) {
+				int slot = spread(oldHashes[i]) & mask;
+				while (entries[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				entries[slot] = oldEntries[i];
+				hashes[slot] = oldHashes[i];
+			}
+		}
+	}
+}
@@ -8,12 +8,12 @@ import semantic_analyzer.symbol_table.Location;
  * tipo de token y su lexema.
  */
 public class Token extends Location {
-	private String token;
+	private TokenKind kind;
 	private String lexema;
 
-	public Token(String token, String lexema, int line, int col) {
+	public Token(TokenKind kind, String lexema, int line, int col) {
 		super(line, col);
-		this.token = token;
+		this.kind = kind;
 		this.lexema = lexema;
 	}
 
@@ -26,19 +26,28 @@ public class Token extends Location {
 		this.lexema += lastChar;
 	}
 
-	public String getToken() {
-		return this.token;
+	public TokenKind getKind() {
+		return this.kind;
 	}
 
 	public String getLexema() {
 		return this.lexema;
 	}
 
-	public void setToken(String token) {
-		this.token = token;
+	public void setKind(TokenKind kind) {
+		this.kind = kind;
 	}
 
 	public void setLexema(String lexema) {
 		this.lexema = lexema;
 	}
+
+	/**
+	 * Actualiza la linea y columna del token, por ejemplo cuando una edición
+	 * previa del archivo lo desplaza.
+	 */
+	@Override
+	public void setPosition(int line, int col) {
+		super.setPosition(line, col);
+	}
 }
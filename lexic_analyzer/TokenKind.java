@@ -0,0 +1,113 @@
+package lexic_analyzer;
+
+/**
+ * Tipos de token del lenguaje TinyRust+.
+ *
+ * Cada tipo conserva el nombre con el que se lo muestra en la salida del
+ * análisis léxico y, si el tipo siempre corresponde al mismo lexema (palabras
+ * reservadas, operadores y delimitadores), ese lexema.
+ * Como hay menos de 64 tipos, cada uno puede representarse como un bit de un
+ * long, lo que permite al analizador sintáctico verificar la pertenencia de un
+ * token a un conjunto con una única operación AND.
+ */
+public enum TokenKind {
+	EOF("EOF", "End Of File"),
+
+	// Operadores y delimitadores.
+	OP_ADD("op_add", "+"),
+	OP_SUB("op_sub", "-"),
+	OP_PROD("op_prod", "*"),
+	OP_DIV("op_div", "/"),
+	OP_MOD("op_mod", "%"),
+	OP_OR("op_or", "||"),
+	OP_AND("op_and", "&&"),
+	OP_NOT("op_not", "!"),
+	OP_EQ("op_eq", "=="),
+	OP_NOT_EQ("op_not_eq", "!="),
+	OP_LESS("op_less", "<"),
+	OP_LESS_EQ("op_less_eq", "<="),
+	OP_GREAT("op_great", ">"),
+	OP_GREAT_EQ("op_great_eq", ">="),
+	ASSIGNMENT("assignment", "="),
+	RETURN_TYPE("return_type", "->"),
+	SEMICOLON("semicolon", ";"),
+	COLON("colon", ":"),
+	COMMA("comma", ","),
+	DOT("dot", "."),
+	OPEN_CURLY("open_curly", "{"),
+	CLOSE_CURLY("close_curly", "}"),
+	OPEN_PAR("open_par", "("),
+	CLOSE_PAR("close_par", ")"),
+	OPEN_BRACKET("open_bracket", "["),
+	CLOSE_BRACKET("close_bracket", "]"),
+
+	// Literales e identificadores.
+	LIT_INT("lit_int"),
+	LIT_STRING("lit_string"),
+	LIT_CHAR("lit_char"),
+	ID("id"),
+	ID_TYPE("id_type"),
+
+	// Palabras reservadas.
+	P_CLASS("p_class", "class"),
+	P_FUNC("p_func", "fn"),
+	P_IF("p_if", "if"),
+	P_ELSE("p_else", "else"),
+	P_WHILE("p_while", "while"),
+	P_RETURN("p_return", "return"),
+	P_NEW("p_new", "new"),
+	P_NIL("p_nil", "nil"),
+	P_TRUE("p_true", "true"),
+	P_FALSE("p_false", "false"),
+	P_STATIC("p_static", "static"),
+	P_PUB("p_pub", "pub"),
+	P_PRIVATE("p_private", "private"),
+	P_VOID("p_void", "void"),
+
+	// Tipos primitivos.
+	P_T_BOOL("p_t_bool", "Bool"),
+	P_T_I32("p_t_i32", "I32"),
+	P_T_STR("p_t_str", "Str"),
+	P_T_CHAR("p_t_char", "Char"),
+	P_ARRAY("p_array", "Array");
+
+	private final String tokenName; // Nombre del tipo en la salida del análisis léxico.
+	private final String lexema; // Lexema fijo del tipo, o null si el lexema es variable.
+	private final long mask; // Bit que representa al tipo en un conjunto de tipos.
+
+	private TokenKind(String tokenName) {
+		this(tokenName, null);
+	}
+
+	private TokenKind(String tokenName, String lexema) {
+		this.tokenName = tokenName;
+		this.lexema = lexema;
+		this.mask = 1L << ordinal();
+	}
+
+	public String tokenName() {
+		return tokenName;
+	}
+
+	public String lexema() {
+		return lexema;
+	}
+
+	public long mask() {
+		return mask;
+	}
+
+	/**
+	 * Construye el conjunto de tipos de token dado como máscara de bits.
+	 *
+	 * @param kinds - tipos de token del conjunto.
+	 * @return máscara con un bit encendido por cada tipo.
+	 */
+	public static long maskOf(TokenKind... kinds) {
+		long mask = 0;
+		for (TokenKind kind : kinds) {
+			mask |= kind.mask;
+		}
+		return mask;
+	}
+}
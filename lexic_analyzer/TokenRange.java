@@ -0,0 +1,73 @@
+package lexic_analyzer;
+
+import error.lexic.LexicalError;
+
+/**
+ * Origen de tokens ya reconocidos, almacenados en un arreglo. Entrega los
+ * tokens de un rango del arreglo y, a continuación, un token EOF o el error
+ * léxico hallado luego del último token del rango.
+ */
+public class TokenRange implements TokenSource {
+	private final Token[] tokens;
+	private final int end; // Posición siguiente al último token del rango.
+	private final Token eof; // Token EOF que se entrega al final del rango, o null.
+	private final LexicalError error; // Error que se lanza al final del rango, o null.
+	private int position; // Próximo token a entregar.
+	private boolean reachedEOFToken = false; // Flag que indica si ya se entregó el token EOF.
+
+	/**
+	 * @param tokens - arreglo de tokens, que no debe modificarse mientras se
+	 *               lean tokens del rango.
+	 * @param from   - posición del primer token del rango.
+	 * @param to     - posición siguiente al último token del rango.
+	 * @param eof    - token EOF que se entrega luego del último token del rango.
+	 */
+	public TokenRange(Token[] tokens, int from, int to, Token eof) {
+		this(tokens, from, to, eof, null);
+	}
+
+	/**
+	 * @param tokens - arreglo de tokens, que no debe modificarse mientras se
+	 *               lean tokens del rango.
+	 * @param from   - posición del primer token del rango.
+	 * @param to     - posición siguiente al último token del rango.
+	 * @param error  - error léxico que se lanza al pedir un token luego del
+	 *               último token del rango.
+	 */
+	public TokenRange(Token[] tokens, int from, int to, LexicalError error) {
+		this(tokens, from, to, null, error);
+	}
+
+	private TokenRange(Token[] tokens, int from, int to, Token eof, LexicalError error) {
+		this.tokens = tokens;
+		this.position = from;
+		this.end = to;
+		this.eof = eof;
+		this.error = error;
+	}
+
+	@Override
+	public int nextTokens(Token[] tokens, int offset, int count) throws LexicalError {
+		if (reachedEOFToken) {
+			return 0;
+		}
+		if (position == end && error != null) {
+			throw error;
+		}
+
+		int read = Math.min(count, end - position);
+		System.arraycopy(this.tokens, position, tokens, offset, read);
+		position += read;
+		if (read < count && position == end && eof != null) {
+			tokens[offset + read] = eof;
+			reachedEOFToken = true;
+			read++;
+		}
+		return read;
+	}
+
+	@Override
+	public boolean hasNextToken() {
+		return !reachedEOFToken;
+	}
+}
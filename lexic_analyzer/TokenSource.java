@@ -0,0 +1,29 @@
+package lexic_analyzer;
+
+import error.lexic.LexicalError;
+
+/**
+ * Origen de tokens leídos en bloque, en el orden del archivo de entrada. Lo
+ * implementan el analizador léxico y el análisis léxico en un hilo propio
+ * (PipelinedLexicAnalyzer), y lo consume LookaheadBuffer.
+ */
+public interface TokenSource {
+	/**
+	 * Obtiene en bloque los siguientes tokens y los almacena en un arreglo,
+	 * hasta completar la cantidad pedida o entregar el token EOF.
+	 * 
+	 * Si ocurre un error léxico luego de haber obtenido al menos un token, se
+	 * devuelven los tokens obtenidos y el error se lanza en la siguiente llamada.
+	 * 
+	 * @param tokens - arreglo destino de los tokens.
+	 * @param offset - posición del arreglo en la que se almacena el primer token.
+	 * @param count  - cantidad máxima de tokens a obtener.
+	 * @return la cantidad de tokens obtenidos, 0 si ya se entregó el token EOF.
+	 * @throws LexicalError si el siguiente token del archivo de entrada no es
+	 *                      válido.
+	 */
+	int nextTokens(Token[] tokens, int offset, int count) throws LexicalError;
+
+	/** @return false si ya se entregó el token EOF. */
+	boolean hasNextToken();
+}
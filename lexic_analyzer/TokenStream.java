@@ -0,0 +1,199 @@
+package lexic_analyzer;
+
+import java.util.Arrays;
+
+/**
+ * Secuencia de tokens reconocidos por el analizador léxico, almacenada en
+ * arreglos paralelos de tipos primitivos (uno por atributo del token) en lugar
+ * de un objeto Token por elemento.
+ *
+ * Los lexemas no se copian: cada token registra la posición y longitud de su
+ * lexema dentro del buffer de entrada, salvo los tipos de lexema fijo, que se
+ * obtienen de TokenKind. Cada token ocupa así 17 bytes.
+ */
+public class TokenStream {
+	private static final int INITIAL_CAPACITY = 256;
+	private static final TokenKind[] KINDS = TokenKind.values();
+
+	private final SourceBuffer source; // Buffer de entrada del que provienen los lexemas.
+	private byte[] kinds = new byte[INITIAL_CAPACITY]; // Ordinal del tipo de cada token.
+	private int[] starts = new int[INITIAL_CAPACITY]; // Posición del lexema en el buffer.
+	private int[] lengths = new int[INITIAL_CAPACITY]; // Longitud del lexema.
+	private int[] lines = new int[INITIAL_CAPACITY]; // Linea de comienzo del token.
+	private int[] cols = new int[INITIAL_CAPACITY]; // Columna de comienzo del token.
+	private int size = 0; // Cantidad de tokens almacenados.
+
+	public TokenStream(SourceBuffer source) {
+		this.source = source;
+	}
+
+	/**
+	 * Agrega un token al final de la secuencia.
+	 *
+	 * @param kind   - tipo del token.
+	 * @param start  - posición del lexema en el buffer de entrada.
+	 * @param length - longitud del lexema.
+	 * @param line   - linea de comienzo del token.
+	 * @param col    - columna de comienzo del token.
+	 */
+	public void add(TokenKind kind, int start, int length, int line, int col) {
+		if (size == kinds.length) {
+			grow();
+		}
+		kinds[size] = (byte) kind.ordinal();
+		starts[size] = start;
+		lengths[size] = length;
+		lines[size] = line;
+		cols[size] = col;
+		size++;
+	}
+
+	/**
+	 * Agrega al final de la secuencia los primeros tokens de otra secuencia, cuyos
+	 * lexemas deben provenir del mismo contenido de entrada.
+	 *
+	 * @param other - secuencia de la que se copian los tokens.
+	 * @param count - cantidad de tokens a copiar.
+	 */
+	public void addAll(TokenStream other, int count) {
+		while (size + count > kinds.length) {
+			grow();
+		}
+		System.arraycopy(other.kinds, 0, kinds, size, count);
+		System.arraycopy(other.starts, 0, starts, size, count);
+		System.arraycopy(other.lengths, 0, lengths, size, count);
+		System.arraycopy(other.lines, 0, lines, size, count);
+		System.arraycopy(other.cols, 0, cols, size, count);
+		size += count;
+	}
+
+	/**
+	 * Agrega al final de la secuencia los tokens de otra secuencia a partir de
+	 * una posición, desplazando sus posiciones en el buffer y sus lineas. La
+	 * columna solo se desplaza en los tokens que están en la misma linea que el
+	 * primero copiado, ya que las lineas siguientes comienzan en la columna 0.
+	 *
+	 * @param other       - secuencia de la que se copian los tokens.
+	 * @param from        - posición del primer token a copiar.
+	 * @param startDelta  - desplazamiento de la posición de los lexemas.
+	 * @param lineDelta   - desplazamiento del número de linea.
+	 * @param columnDelta - desplazamiento de la columna en la primera linea.
+	 */
+	public void addShifted(TokenStream other, int from, int startDelta, int lineDelta, int columnDelta) {
+		int count = other.size - from;
+		int firstLine = other.lines[from];
+		while (size + count > kinds.length) {
+			grow();
+		}
+		System.arraycopy(other.kinds, from, kinds, size, count);
+		System.arraycopy(other.lengths, from, lengths, size, count);
+		for (int i = 0; i < count; i++) {
+			int line = other.lines[from + i];
+			starts[size + i] = other.starts[from + i] + startDelta;
+			lines[size + i] = line + lineDelta;
+			cols[size + i] = line == firstLine ? other.cols[from + i] + columnDelta : other.cols[from + i];
+		}
+		size += count;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public SourceBuffer getSource() {
+		return source;
+	}
+
+	public TokenKind getKind(int index) {
+		return KINDS[kinds[index]];
+	}
+
+	/** @return la posición del lexema del token en el buffer de entrada. */
+	public int getStart(int index) {
+		return starts[index];
+	}
+
+	public int getLine(int index) {
+		return lines[index];
+	}
+
+	public int getCol(int index) {
+		return cols[index];
+	}
+
+	/**
+	 * Agrega el lexema de un token al final de un StringBuilder, sin construir
+	 * un String intermedio.
+	 *
+	 * @param index   - posición del token en la secuencia.
+	 * @param builder - destino del lexema.
+	 */
+	public void appendLexema(int index, StringBuilder builder) {
+		String fixedLexema = getKind(index).lexema();
+		if (fixedLexema != null) {
+			builder.append(fixedLexema);
+		} else {
+			source.appendTo(builder, starts[index], starts[index] + lengths[index]);
+		}
+	}
+
+	/**
+	 * @param index - posición del token en la secuencia.
+	 * @return el lexema del token.
+	 */
+	public String getLexema(int index) {
+		String fixedLexema = getKind(index).lexema();
+		if (fixedLexema != null) {
+			return fixedLexema;
+		}
+		return source.slice(starts[index], starts[index] + lengths[index]);
+	}
+
+	/**
+	 * @param index - posición del token en la secuencia.
+	 * @return el hash del lexema del token, igual a getLexema(index).hashCode(),
+	 *         sin construir el String.
+	 */
+	public int lexemaHash(int index) {
+		String fixedLexema = getKind(index).lexema();
+		if (fixedLexema != null) {
+			return fixedLexema.hashCode();
+		}
+		int hash = 0;
+		for (int i = starts[index]; i < starts[index] + lengths[index]; i++) {
+			hash = 31 * hash + source.charAt(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * @param index  - posición del token en la secuencia.
+	 * @param lexema - lexema con el que se compara.
+	 * @return true si el lexema del token es igual al recibido, sin construir
+	 *         un String.
+	 */
+	public boolean lexemaEquals(int index, String lexema) {
+		String fixedLexema = getKind(index).lexema();
+		if (fixedLexema != null) {
+			return fixedLexema.equals(lexema);
+		}
+		if (lengths[index] != lexema.length()) {
+			return false;
+		}
+		for (int i = 0; i < lengths[index]; i++) {
+			if (source.charAt(starts[index] + i) != lexema.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void grow() {
+		int capacity = kinds.length * 2;
+		kinds = Arrays.copyOf(kinds, capacity);
+		starts = Arrays.copyOf(starts, capacity);
+		lengths = Arrays.copyOf(lengths, capacity);
+		lines = Arrays.copyOf(lines, capacity);
+		cols = Arrays.copyOf(cols, capacity);
+	}
+}
@@ -0,0 +1,127 @@
+package lexic_analyzer;
+
+/**
+ * Tablas de transición de los autómatas del analizador léxico de TinyRust+.
+ *
+ * Cada caracter de entrada se traduce primero a una clase de caracter mediante
+ * una tabla de búsqueda, y luego cada autómata se representa como una matriz
+ * de enteros indexada por [estado][clase de caracter]. Cada celda contiene el
+ * estado destino y, en el bit CONSUME, si el caracter leído debe consumirse
+ * del archivo de entrada.
+ *
+ * Los estados ACCEPT y REJECT son finales y comunes a todos los autómatas; no
+ * tienen fila en las matrices.
+ */
+final class TransitionTable {
+	// Clases de caracter.
+	static final int LETTER = 0; // Letra minúscula o mayúscula.
+	static final int DIGIT = 1; // Dígito numérico.
+	static final int UNDERSCORE = 2; // Guión bajo.
+	static final int SLASH = 3; // Barra, comienzo y fin de comentarios.
+	static final int STAR = 4; // Asterisco, delimitador de comentarios multilinea.
+	static final int OPERATOR = 5; // Resto de operadores y delimitadores.
+	static final int SPACE = 6; // Espacio y tabulación.
+	static final int LINE_BREAK = 7; // Salto de linea, tabulación vertical, ENTER y ETX.
+	static final int OTHER = 8; // Cualquier otro caracter.
+	static final int EOF = 9; // Fin del archivo de entrada (no es un caracter del archivo).
+
+	// Estados finales comunes a todos los autómatas.
+	static final int ACCEPT = 8;
+	static final int REJECT = 9;
+
+	// Codificación de las celdas de las matrices.
+	static final int CONSUME = 0x10; // Consumir el caracter leído al transicionar.
+	static final int STATE_MASK = 0x0F;
+
+	/**
+	 * Autómata de identificadores. El primer caracter ya fue consumido al
+	 * invocarlo, por lo que el estado inicial se obtiene de la fila START.
+	 * 0: START, inicial.
+	 * 1: BODY, se leyó una letra y luego letras, dígitos o _.
+	 * Un operador finaliza el identificador sin consumirse; un espacio o salto de
+	 * linea lo finaliza consumiéndose. Cualquier otro caracter, o comenzar con un
+	 * dígito o _, produce un identificador mal formado.
+	 */
+	static final int[][] IDENTIFIER = {
+			// LETTER, DIGIT, UNDERSCORE, SLASH, STAR, OPERATOR, SPACE, LINE_BREAK, OTHER, EOF
+			{ 1, REJECT, REJECT, REJECT, REJECT, REJECT, REJECT, REJECT, REJECT, REJECT }, // START
+			{ 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, ACCEPT, ACCEPT, ACCEPT, ACCEPT | CONSUME, ACCEPT | CONSUME,
+					REJECT | CONSUME, ACCEPT }, // BODY
+	};
+	static final int IDENTIFIER_START = 0;
+
+	/**
+	 * Autómata de comentarios multilinea. Se invoca con el / inicial ya
+	 * consumido.
+	 * 0: OPEN, se espera el * de apertura.
+	 * 1: BODY, dentro del comentario.
+	 * 2: STAR_SEEN, se leyó un * dentro del comentario. Cualquier caracter que no
+	 * sea / vuelve al estado BODY.
+	 * Llegar al final del archivo antes del cierre rechaza el comentario.
+	 */
+	static final int[][] MULTILINE_COMMENT = {
+			// LETTER, DIGIT, UNDERSCORE, SLASH, STAR, OPERATOR, SPACE, LINE_BREAK, OTHER, EOF
+			{ REJECT, REJECT, REJECT, REJECT, 1 | CONSUME, REJECT, REJECT, REJECT, REJECT, REJECT }, // OPEN
+			{ 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 2 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME,
+					1 | CONSUME, REJECT }, // BODY
+			{ 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, ACCEPT | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME,
+					1 | CONSUME, 1 | CONSUME, REJECT }, // STAR_SEEN
+	};
+	static final int MULTILINE_COMMENT_START = 0;
+
+	/**
+	 * Autómata de comentarios de una linea. Se invoca con el / inicial ya
+	 * consumido.
+	 * 0: OPEN, se espera el segundo /.
+	 * 1: BODY, dentro del comentario. Finaliza al consumir un salto de linea o al
+	 * llegar al final del archivo.
+	 */
+	static final int[][] COMMENT = {
+			// LETTER, DIGIT, UNDERSCORE, SLASH, STAR, OPERATOR, SPACE, LINE_BREAK, OTHER, EOF
+			{ REJECT, REJECT, REJECT, 1 | CONSUME, REJECT, REJECT, REJECT, REJECT, REJECT, REJECT }, // OPEN
+			{ 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME, 1 | CONSUME,
+					ACCEPT | CONSUME, 1 | CONSUME, ACCEPT }, // BODY
+	};
+	static final int COMMENT_START = 0;
+
+	private static final byte[] CHAR_CLASSES = new byte[128];
+
+	static {
+		for (int c = 0; c < CHAR_CLASSES.length; c++) {
+			CHAR_CLASSES[c] = OTHER;
+		}
+		for (int c = 'a'; c <= 'z'; c++) {
+			CHAR_CLASSES[c] = LETTER;
+		}
+		for (int c = 'A'; c <= 'Z'; c++) {
+			CHAR_CLASSES[c] = LETTER;
+		}
+		for (int c = '0'; c <= '9'; c++) {
+			CHAR_CLASSES[c] = DIGIT;
+		}
+		for (char c : "+-%=!<>&|()[]{},\"';.:".toCharArray()) {
+			CHAR_CLASSES[c] = OPERATOR;
+		}
+		CHAR_CLASSES['_'] = UNDERSCORE;
+		CHAR_CLASSES['/'] = SLASH;
+		CHAR_CLASSES['*'] = STAR;
+		CHAR_CLASSES[' '] = SPACE;
+		CHAR_CLASSES['\t'] = SPACE;
+		CHAR_CLASSES[10] = LINE_BREAK; // new line
+		CHAR_CLASSES[11] = LINE_BREAK; // vertical tab
+		CHAR_CLASSES[13] = LINE_BREAK; // enter
+		CHAR_CLASSES[3] = LINE_BREAK; // end of file
+	}
+
+	private TransitionTable() {
+	}
+
+	/**
+	 * @param c - caracter leído del archivo de entrada.
+	 * @return la clase del caracter. Todo caracter fuera de ASCII es de clase
+	 *         OTHER.
+	 */
+	static int classOf(char c) {
+		return c < CHAR_CLASSES.length ? CHAR_CLASSES[c] : OTHER;
+	}
+}
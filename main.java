@@ -1,6 +1,8 @@
 import java.io.IOException;
+import java.util.Arrays;
 
 import syntactic_analyzer.Executor;
+import syntactic_analyzer.IncrementalVerifier;
 
 /**
  * Punto de entrada del compilador de TinyRust+.
@@ -10,6 +12,24 @@ import syntactic_analyzer.Executor;
 class TinyRustCompiler {
 	public static void main(String[] args) {
 		try {
+			// Las opciones preceden a la ruta del archivo de entrada: --sintactico limita
+			// la ejecución al análisis sintáctico y --errores reporta todos los errores
+			// sintácticos del archivo en lugar de solo el primero. --incremental aplica
+			// las ediciones del archivo indicado como segundo argumento y verifica el
+			// análisis incremental contra el análisis completo.
+			boolean parseOnly = false;
+			boolean allErrors = false;
+			boolean incremental = false;
+			int options = 0;
+			while (options < args.length && (args[options].equals("--sintactico") || args[options].equals("--errores")
+					|| args[options].equals("--incremental"))) {
+				parseOnly = parseOnly || args[options].equals("--sintactico");
+				allErrors = allErrors || args[options].equals("--errores");
+				incremental = incremental || args[options].equals("--incremental");
+				options++;
+			}
+			args = Arrays.copyOfRange(args, options, args.length);
+
 			// Se lee la ruta del archivo de los argumentos de entrada.
 			String inputPath = args[0];
 			String outputPath = null;
@@ -18,13 +38,20 @@ class TinyRustCompiler {
 				throw new IOException("ERROR: EL ARCHIVO DE ENTRADA DEBE TENER EXTENSION .rs");
 			}
 
+			if (incremental) {
+				if (args.length < 2) {
+					throw new IOException("ERROR: DEBE ESPECIFICARSE UN ARCHIVO DE EDICIONES EN EL COMANDO.");
+				}
+				System.exit(new IncrementalVerifier().run(inputPath, args[1]) ? 0 : 1);
+			}
+
 			// Si se especificó una segunda ruta, se inicializa el archivo de salida.
 			if (args.length > 1) {
 				outputPath = args[1];
 			}
 
 			// Se inicializa la ejecución del compilador.
-			new Executor().run(inputPath, outputPath);
+			new Executor(parseOnly, allErrors).run(inputPath, outputPath);
 
 		} catch (ArrayIndexOutOfBoundsException e) {
 			System.out.println("ERROR: DEBE ESPECIFICARSE UN ARCHIVO DE ENTRADA EN EL COMANDO.");
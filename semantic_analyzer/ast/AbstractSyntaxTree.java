@@ -70,6 +70,10 @@ public class AbstractSyntaxTree implements Node {
 		}
 	}
 
+	public TreeList<ClassNode> classes() {
+		return classes;
+	}
+
 	public void setClasses(TreeList<ClassNode> classes) throws InternalError {
 		this.classes = classes;
 		addPredefinedClasses();
@@ -25,18 +25,9 @@ public class AccessStaticMethodNode extends MethodCallNode {
 
 	@Override
 	public void validate(SymbolTable ts) throws ASTError {
-		if (methodName().equals("create")) {
-			throw new ASTError(loc,
-					"SE INTENTO ACCEDER EXPLICITAMENTE AL METODO create DE LA CLASE " + super.className()
-							+ ", ESTE METODO ES ACCESIBLE UNICAMENTE A TRAVES DEL CONSTRUCTOR DE LA CLASE.");
-		}
-
-		// Validar que el método sea estático.
-		if (!super.getMethod(ts).isStatic()) {
-			throw new ASTError(loc,
-					"SE INTENTO INVOCAR DE MANERA ESTATICA AL METODO NO ESTATICO " + super.methodName() + " DE LA CLASE "
-							+ super.className());
-		}
+		// Validar que no se invoque explícitamente al constructor y que el método sea
+		// estático.
+		SemanticRules.checkStaticCall(ts, loc, super.className(), super.methodName());
 
 		super.validate(ts); // Validar que la llamada al método sea válida.
 
@@ -2,7 +2,6 @@ package semantic_analyzer.ast;
 
 import error.semantic.sentences.ASTError;
 import error.semantic.sentences.InternalError;
-import error.semantic.sentences.UnmatchedTypeError;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Type;
@@ -63,9 +62,7 @@ public class BinaryExpressionNode extends ExpressionNode {
 
 		// En caso de que el tipo esperado de los operandos sea null,
 		// se valida que ambos operandos sean del mismo tipo.
-		if (!leftOperand.resolveType().equals(rightOperand.resolveType())) {
-			throw new UnmatchedTypeError(loc, leftOperand.resolveType(), rightOperand.resolveType());
-		}
+		SemanticRules.checkOperands(loc, leftOperand.resolveType(), rightOperand.resolveType());
 		super.validateType(ts); // Validar que esta expresión sea del tipo esperado para su contexto.
 	}
 
@@ -1,6 +1,6 @@
 package semantic_analyzer.ast;
 
-import java.util.Iterator;
+import java.util.List;
 
 import error.semantic.sentences.ASTError;
 import semantic_analyzer.symbol_table.Location;
@@ -8,7 +8,7 @@ import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Void;
 import util.Json;
 
-public class BlockNode extends SentenceNode {
+public class BlockNode extends CompoundSentenceNode {
 	private TreeList<SentenceNode> sentences;
 
 	public BlockNode(TreeList<SentenceNode> sentences, Location loc) {
@@ -25,16 +25,17 @@ public class BlockNode extends SentenceNode {
 	}
 
 	@Override
-	public void validate(SymbolTable ts) throws ASTError {
-		Iterator<SentenceNode> sentencesIter = sentences.iterator();
-
-		// Validar cada sentencia del bloque.
-		while (sentencesIter.hasNext()) {
-			SentenceNode sentence = sentencesIter.next();
-
+	protected List<SentenceNode> startValidation(SymbolTable ts) throws ASTError {
+		// Cada sentencia del bloque se valida con el tipo de retorno esperado del bloque.
+		for (SentenceNode sentence : sentences) {
 			sentence.setExpectedReturnType(super.expectedReturnType());
-			sentence.validate(ts);
+		}
+		return sentences;
+	}
 
+	@Override
+	protected void endValidation() {
+		for (SentenceNode sentence : sentences) {
 			// Si la sentencia tiene un tipo de retorno concreto, determina el retorno de
 			// todo el bloque.
 			if (sentence.resolvedReturnType() != null) {
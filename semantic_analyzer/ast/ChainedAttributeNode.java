@@ -1,8 +1,6 @@
 package semantic_analyzer.ast;
 
 import error.semantic.sentences.ASTError;
-import error.semantic.sentences.InternalError;
-import error.semantic.sentences.NotFoundError;
 import semantic_analyzer.symbol_table.AttributeEntry;
 import semantic_analyzer.symbol_table.ClassEntry;
 import semantic_analyzer.symbol_table.Location;
@@ -32,37 +30,13 @@ public class ChainedAttributeNode extends ChainedAccessNode {
     @Override
     protected Type validateAndResolveType(SymbolTable ts, ClassEntry accessedClass) throws ASTError {
         Type returnType;
-        // Obtener la entrada de la TS del atributo accedido.
-        AttributeEntry attrEntry = accessedClass.attributes().get(super.accessedEntity());
-
-        if (attrEntry == null) {
-            throw new NotFoundError(loc, "SE INTENTO ACCEDER AL ATRIBUTO " + super.accessedEntity() + " DE LA CLASE "
-                    + accessedClass.name() + ", PERO LA CLASE NO POSEE TAL ATRIBUTO.");
-        }
-
-        // Validar que no se accedan atributos privados de otras clases.
-        try {
-            if (!attrEntry.isPublic() // El atributo es privado.
-                    && (attrEntry.isInherited() // Es heredado (no visible) o...
-                            || !accessedClass.name().equals(ts.currentClass().name())) // La clase no es la actual.
-            ) {
-                // Si el atributo es privado, no se puede acceder desde una clase distinta.
-                throw new ASTError(loc, "EL CAMPO " + super.accessedEntity() + " DE LA CLASE "
-                        + accessedClass.name() + " NO ES VISIBLE EN ESTE CONTEXTO PORQUE ES PRIVADO.");
-            }
-        } catch (error.semantic.declarations.InternalError e) {
-            throw new InternalError(loc, e.getMessage());
-        }
+        // Obtener la entrada de la TS del atributo accedido y validar que sea visible.
+        AttributeEntry attrEntry = SemanticRules.attribute(ts, loc, accessedClass, super.accessedEntity());
 
         if (super.chainedAccess() != null) {
             // Recursivo: resolver y validar el encadenado si existe.
-            ClassEntry attrClass = ts.getClass(attrEntry.type().type());
-            if (attrClass == null) {
-                // La clase debería existir ya que la TS ya está validada y consolidada.
-                throw new InternalError(loc,
-                        "EL TIPO DEL ATRIBUTO " + super.accessedEntity() + " DE LA CLASE "
-                                + accessedClass.name() + " NO EXISTE EN LA TS.");
-            }
+            ClassEntry attrClass = SemanticRules.chainedClass(ts, loc, attrEntry.type(),
+                    "EL TIPO DEL ATRIBUTO " + super.accessedEntity() + " DE LA CLASE " + accessedClass.name());
             returnType = super.chainedAccess().validateAndResolveType(ts, attrClass);
         } else {
             // Tope recursivo: devolver el tipo del atributo.
@@ -1,7 +1,6 @@
 package semantic_analyzer.ast;
 
 import error.semantic.sentences.ASTError;
-import error.semantic.sentences.InternalError;
 import semantic_analyzer.symbol_table.ClassEntry;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Type;
@@ -41,12 +40,8 @@ public class ChainedExpressionNode extends ExpressionNode {
         // Resolver el tipo de la expresión parentizada.
         if (chainedAccess != null) {
             // Resolver y validar el encadenado.
-            ClassEntry expTypeClass = ts.getClass(expression.resolveType().type());
-            if (expTypeClass == null) {
-                // La clase debería existir ya que la TS ya está validada y consolidada.
-                throw new InternalError(loc,
-                        "LA CLASE DEL TIPO" + expression.resolveType().type() + " NO EXISTE EN LA TS.");
-            }
+            ClassEntry expTypeClass = SemanticRules.chainedClass(ts, loc, expression.resolveType(),
+                    "LA CLASE DEL TIPO" + expression.resolveType().type());
             resolvedType = chainedAccess.validateAndResolveType(ts, expTypeClass);
         } else {
             // Si no hay encadenado, devolver el tipo de la expresión.
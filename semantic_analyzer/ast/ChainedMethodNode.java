@@ -1,17 +1,14 @@
 package semantic_analyzer.ast;
 
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 
 import error.semantic.sentences.ASTError;
-import error.semantic.sentences.InternalError;
-import error.semantic.sentences.NotFoundError;
 import semantic_analyzer.symbol_table.ClassEntry;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.MethodEntry;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Type;
-import semantic_analyzer.types.Void;
 import util.Json;
 
 public class ChainedMethodNode extends ChainedAccessNode {
@@ -36,32 +33,16 @@ public class ChainedMethodNode extends ChainedAccessNode {
 	@Override
 	protected Type validateAndResolveType(SymbolTable ts, ClassEntry accessedClass) throws ASTError {
 		Type returnType;
-		// Obtener la entrada de la TS del método accedido.
-		MethodEntry methodEntry = accessedClass.methods().get(super.accessedEntity());
-
-		if (methodEntry == null) {
-			throw new NotFoundError(loc, "SE INTENTO ACCEDER AL METODO " + super.accessedEntity() + " DE LA CLASE "
-					+ accessedClass.name() + ", PERO LA CLASE NO IMPLEMENTA TAL METODO.");
-		}
+		// Obtener la entrada de la TS del método accedido y validar que existe.
+		MethodEntry methodEntry = SemanticRules.chainedMethod(loc, accessedClass, super.accessedEntity());
 
 		validateArgs(ts, methodEntry); // Validar argumentos del método.
 
 		if (super.chainedAccess() != null) {
-			// Recursivo: resolver y validar el encadenado si existe.
-
-			// Si el método retorna void, entonces no se puede encadenar nada.
-			if (methodEntry.returnType().equals(new Void())) {
-				throw new ASTError(loc, "EL METODO " + super.accessedEntity()
-						+ " NO RETORNA NINGUN VALOR, NO SE PUEDE ACCEDER A ENCADENADOS DE void.");
-			}
-
-			ClassEntry returnTypeClass = ts.getClass(methodEntry.returnType().type());
-			if (returnTypeClass == null) {
-				// La clase debería existir ya que la TS ya está validada y consolidada.
-				throw new InternalError(loc,
-						"LA CLASE DE RETORNO DEL METODO " + super.accessedEntity() + " DE LA CLASE "
-								+ accessedClass.name() + " NO EXISTE EN LA TS.");
-			}
+			// Recursivo: resolver y validar el encadenado si existe. Si el método
+			// retorna void, entonces no se puede encadenar nada.
+			ClassEntry returnTypeClass = SemanticRules.returnClass(ts, loc, methodEntry, super.accessedEntity(),
+					accessedClass.name());
 
 			// Llamado recursivo.
 			returnType = super.chainedAccess().validateAndResolveType(ts, returnTypeClass);
@@ -75,24 +56,16 @@ public class ChainedMethodNode extends ChainedAccessNode {
 	}
 
 	private void validateArgs(SymbolTable ts, MethodEntry methodEntry) throws ASTError {
-		// 1. Armar una estructura práctica para validar los argumentos.
-		HashMap<Number, Type> formalArgsMap = new HashMap<Number, Type>(); // Argumentos formales del método.
-		methodEntry.arguments().values().forEach((arg) -> {
-			// Armar map de posiciones a tipos de argumento.
-			formalArgsMap.put(arg.position(), arg.type());
-		});
+		// 1. Obtener los tipos de los argumentos formales del método, por posición.
+		List<Type> formalTypes = methodEntry.formalTypes();
 
 		// 2. Validar que la cantidad de argumentos coincida.
-		if (arguments.size() != formalArgsMap.size()) {
-			throw new ASTError(loc, "LA CANTIDAD DE ARGUMENTOS PARA EL METODO " + methodEntry.name()
-					+ " NO ES CORRECTA. SE ESPERABAN " + formalArgsMap.size() + " ARGUMENTOS.");
-		}
+		SemanticRules.checkArgsCount(loc, formalTypes, arguments.size(), methodEntry.name());
 
 		// 3. Validar que el tipo de cada argumento coincida.
 		Iterator<ExpressionNode> argsIterator = arguments.iterator();
-		for (int i = 0; i < formalArgsMap.size(); i++) {
-			Type argFormalType = formalArgsMap.get(i + 1);
-			argsIterator.next().setExpectedResolveType(argFormalType);
+		for (int i = 0; i < formalTypes.size(); i++) {
+			argsIterator.next().setExpectedResolveType(formalTypes.get(i));
 		}
 		arguments.validate(ts); // Validará que cada expresión tenga el tipo esperado.
 
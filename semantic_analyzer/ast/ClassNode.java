@@ -33,6 +33,10 @@ public class ClassNode implements Node {
 		return json.toString();
 	}
 
+	public String name() {
+		return name;
+	}
+
 	@Override
 	public void validate(SymbolTable ts) throws ASTError {
 		try {
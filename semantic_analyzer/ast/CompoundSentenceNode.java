@@ -0,0 +1,66 @@
+package semantic_analyzer.ast;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+
+import error.semantic.sentences.ASTError;
+import semantic_analyzer.symbol_table.Location;
+import semantic_analyzer.symbol_table.SymbolTable;
+
+/**
+ * Sentencia que contiene otras sentencias: bloque, if-else y while.
+ *
+ * Al igual que el analizador sintáctico al reconocerlas, las sentencias
+ * compuestas anidadas se validan con una pila explícita en lugar de una
+ * llamada recursiva por nivel, por lo que sentencias anidadas a cualquier
+ * profundidad no desbordan la pila de Java durante la validación.
+ */
+public abstract class CompoundSentenceNode extends SentenceNode {
+	protected CompoundSentenceNode(Location loc) {
+		super(loc);
+	}
+
+	/**
+	 * Valida las partes de la sentencia que no son sentencias (la condición) y
+	 * asigna el tipo de retorno esperado a las sentencias que contiene.
+	 *
+	 * @return Las sentencias contenidas, en el orden en que deben validarse.
+	 * @throws ASTError - Si la sentencia contiene algún error semántico.
+	 */
+	protected abstract List<SentenceNode> startValidation(SymbolTable ts) throws ASTError;
+
+	/**
+	 * Resuelve el tipo de retorno de la sentencia una vez validadas todas las
+	 * sentencias que contiene.
+	 */
+	protected abstract void endValidation();
+
+	@Override
+	public final void validate(SymbolTable ts) throws ASTError {
+		// Pila de sentencias compuestas en validación, junto a las sentencias que
+		// aún les resta validar.
+		ArrayDeque<CompoundSentenceNode> nodes = new ArrayDeque<CompoundSentenceNode>();
+		ArrayDeque<Iterator<SentenceNode>> pending = new ArrayDeque<Iterator<SentenceNode>>();
+		nodes.push(this);
+		pending.push(startValidation(ts).iterator());
+
+		while (!nodes.isEmpty()) {
+			Iterator<SentenceNode> sentences = pending.peek();
+			if (!sentences.hasNext()) {
+				// Se validaron todas las sentencias contenidas.
+				pending.pop();
+				nodes.pop().endValidation();
+			} else {
+				SentenceNode sentence = sentences.next();
+				if (sentence instanceof CompoundSentenceNode) {
+					CompoundSentenceNode compound = (CompoundSentenceNode) sentence;
+					nodes.push(compound);
+					pending.push(compound.startValidation(ts).iterator());
+				} else {
+					sentence.validate(ts);
+				}
+			}
+		}
+	}
+}
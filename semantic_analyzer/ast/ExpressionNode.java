@@ -1,11 +1,8 @@
 package semantic_analyzer.ast;
 
 import error.semantic.sentences.ASTError;
-import error.semantic.sentences.InternalError;
-import error.semantic.sentences.UnmatchedTypeError;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
-import semantic_analyzer.types.Array;
 import semantic_analyzer.types.Type;
 
 public abstract class ExpressionNode implements Node {
@@ -35,18 +32,7 @@ public abstract class ExpressionNode implements Node {
 	 * @throws ASTError - Si el tipo resuelto no coincide con el tipo esperado.
 	 */
 	public void validateType(SymbolTable ts) throws ASTError {
-		if (resolveType == null) {
-			throw new InternalError(loc,
-					"SE ESPERABA QUE LA EXPRESION TUVIERA UN TIPO RESUELTO PARA ESTE MOMENTO, PERO SU TIPO ES null.");
-		}
-		if (expectedResolveType != null
-				&& !expectedResolveType.equals(resolveType)
-				&& ((resolveType instanceof Array || !ts.isSubclass(resolveType, expectedResolveType)))) {
-			// Si el tipo no coincide porque es una subclase, no se lanza excepción.
-			// Si el tipo no coincide y es un arreglo, es porque el subtipo no
-			// coincide y sí se lanza excepción.
-			throw new UnmatchedTypeError(loc, expectedResolveType, resolveType);
-		}
+		SemanticRules.checkType(ts, loc, resolveType, expectedResolveType);
 	}
 
 	@Override
@@ -1,12 +1,16 @@
 package semantic_analyzer.ast;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import error.semantic.sentences.ASTError;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Bool;
 import util.Json;
 
-public class IfElseNode extends SentenceNode {
+public class IfElseNode extends CompoundSentenceNode {
 	private ExpressionNode condition;
 	private SentenceNode block;
 	private SentenceNode elseBlock;
@@ -29,18 +33,23 @@ public class IfElseNode extends SentenceNode {
 	}
 
 	@Override
-	public void validate(SymbolTable ts) throws ASTError {
+	protected List<SentenceNode> startValidation(SymbolTable ts) throws ASTError {
 		// Validar que la condición sea una expresión booleana:
 		condition.setExpectedResolveType(new Bool());
 		condition.validate(ts);
 
 		// Validar las sentencias de cada bloque.
 		block.setExpectedReturnType(super.expectedReturnType());
-		block.validate(ts);
-		if (elseBlock != null) {
-			elseBlock.setExpectedReturnType(super.expectedReturnType());
-			elseBlock.validate(ts);
+		if (elseBlock == null) {
+			return Collections.singletonList(block);
+		}
+		elseBlock.setExpectedReturnType(super.expectedReturnType());
+		return Arrays.asList(block, elseBlock);
+	}
 
+	@Override
+	protected void endValidation() {
+		if (elseBlock != null) {
 			// Validar el retorno de ambos bloques.
 			if (block.resolvedReturnType() != null // El bloque if tiene un retorno.
 					&& block.resolvedReturnType().equals(elseBlock.resolvedReturnType())) {
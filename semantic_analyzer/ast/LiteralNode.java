@@ -5,6 +5,7 @@ import semantic_analyzer.types.I32;
 import semantic_analyzer.types.PrimitiveType;
 import semantic_analyzer.types.Str;
 import error.semantic.sentences.ASTError;
+import lexic_analyzer.TokenKind;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Bool;
@@ -14,25 +15,25 @@ import util.Json;
 public class LiteralNode extends ExpressionNode {
 	private PrimitiveType<?> literal;
 
-	public LiteralNode(String value, String type, Location loc) {
+	public LiteralNode(String value, TokenKind type, Location loc) {
 		super(loc);
 		switch (type) {
-			case "p_true":
+			case P_TRUE:
 				this.literal = new Bool(true);
 				break;
-			case "p_false":
+			case P_FALSE:
 				this.literal = new Bool(false);
 				break;
-			case "lit_string":
+			case LIT_STRING:
 				this.literal = new Str(value.substring(1, value.length() - 1)); // Eliminar comillas dobles del literal.
 				break;
-			case "lit_int":
+			case LIT_INT:
 				this.literal = new I32(Integer.valueOf(value)); // Convierte el valor de String a int.
 				break;
-			case "lit_char":
+			case LIT_CHAR:
 				this.literal = new Char(value.charAt(1)); // Elimina comillas simples del literal.
 				break;
-			case "p_nil":
+			case P_NIL:
 				this.literal = new Void();
 				break;
 			default:
@@ -1,17 +1,14 @@
 package semantic_analyzer.ast;
 
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 
-import error.semantic.sentences.InternalError;
-import error.semantic.sentences.NotFoundError;
 import error.semantic.sentences.ASTError;
 import semantic_analyzer.symbol_table.ClassEntry;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.MethodEntry;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Type;
-import semantic_analyzer.types.Void;
 
 public abstract class MethodCallNode extends ExpressionNode {
     private String className; // Si es null indica que debe accederse a la clase actual.
@@ -31,39 +28,12 @@ public abstract class MethodCallNode extends ExpressionNode {
     abstract public String toJson();
 
     public MethodEntry getMethod(SymbolTable ts) throws ASTError {
-        ClassEntry classEntry;
-        MethodEntry methodEntry;
-
         // Obtener la entrada de la TS de la clase accedida.
-        if (className == null) {
-            try {
-                classEntry = ts.currentClass();
-                className = classEntry.name();
-            } catch (error.semantic.declarations.InternalError e) {
-                // Lanzar un error si no existe una clase actual.
-                throw new InternalError(loc, e.getMessage());
-            }
-        } else {
-            classEntry = ts.getClass(className);
-            if (classEntry == null) {
-                throw new NotFoundError(loc, "SE INTENTO ACCEDER A LA CLASE NO DECLARADA " + className);
-            }
-        }
+        ClassEntry classEntry = SemanticRules.calledClass(ts, loc, className);
+        className = classEntry.name();
 
-        // Obtener la entrada de la TS del método accedido.
-        if (methodName.equals("create")) {
-            methodEntry = classEntry.constructor();
-        } else {
-            methodEntry = classEntry.methods().get(methodName);
-        }
-
-        // Validar que el método existe en la clase.
-        if (methodEntry == null) {
-            throw new NotFoundError(loc, "SE INTENTO ACCEDER AL METODO " + methodName + " DE LA CLASE "
-                    + className + ", PERO LA CLASE NO IMPLEMENTA TAL METODO.");
-        }
-
-        return methodEntry;
+        // Obtener la entrada de la TS del método accedido y validar que existe.
+        return SemanticRules.calledMethod(loc, classEntry, methodName);
     }
 
     /**
@@ -83,20 +53,9 @@ public abstract class MethodCallNode extends ExpressionNode {
         if (chainedAccess != null) {
             // Recursivo: resolver y validar el encadenado.
 
-            // Si el método retorna void, entonces no se puede encadenar nada.
-            if (methodEntry.returnType().equals(new Void())) {
-                throw new ASTError(loc, "EL METODO " + methodName
-                        + " NO RETORNA NINGUN VALOR, NO SE PUEDE ACCEDER A ENCADENADOS DE void.");
-            }
-
-            // Buscar la clase en la TS para validar el encadenado.
-            ClassEntry returnTypeClass = ts.getClass(methodEntry.returnType().type());
-            if (returnTypeClass == null) {
-                // La clase debería existir ya que la TS ya está validada y consolidada.
-                throw new InternalError(loc,
-                        "LA CLASE DE RETORNO DEL METODO " + methodName + " DE LA CLASE "
-                                + className + " NO EXISTE EN LA TS.");
-            }
+            // Buscar la clase en la TS para validar el encadenado. Si el método
+            // retorna void, entonces no se puede encadenar nada.
+            ClassEntry returnTypeClass = SemanticRules.returnClass(ts, loc, methodEntry, methodName, className);
 
             // Llamado recursivo.
             resolveType = chainedAccess.validateAndResolveType(ts, returnTypeClass);
@@ -115,24 +74,16 @@ public abstract class MethodCallNode extends ExpressionNode {
      * Es decir, que la cantidad, tipo y orden de los argumentos sea correcta.
      */
     private void validateArgs(SymbolTable ts, MethodEntry methodEntry) throws ASTError {
-        // 1. Armar una estructura práctica para validar los argumentos.
-        HashMap<Number, Type> formalArgsMap = new HashMap<Number, Type>(); // Argumentos formales del método.
-        methodEntry.arguments().values().forEach((arg) -> {
-            // Armar map de posiciones a tipos de argumento.
-            formalArgsMap.put(arg.position(), arg.type());
-        });
+        // 1. Obtener los tipos de los argumentos formales del método, por posición.
+        List<Type> formalTypes = methodEntry.formalTypes();
 
         // 2. Validar que la cantidad de argumentos coincida.
-        if (arguments.size() != formalArgsMap.size()) {
-            throw new ASTError(loc, "LA CANTIDAD DE ARGUMENTOS PARA EL METODO " + methodName
-                    + " NO ES CORRECTA. SE ESPERABAN " + formalArgsMap.size() + " ARGUMENTOS.");
-        }
+        SemanticRules.checkArgsCount(loc, formalTypes, arguments.size(), methodName);
 
         // 3. Validar que el tipo de cada argumento coincida.
         Iterator<ExpressionNode> argsIterator = arguments.iterator();
-        for (int i = 0; i < formalArgsMap.size(); i++) {
-            Type argFormalType = formalArgsMap.get(i + 1);
-            argsIterator.next().setExpectedResolveType(argFormalType);
+        for (int i = 0; i < formalTypes.size(); i++) {
+            argsIterator.next().setExpectedResolveType(formalTypes.get(i));
         }
         arguments.validate(ts); // Validará que cada expresión tenga el tipo esperado.
     }
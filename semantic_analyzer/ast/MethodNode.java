@@ -47,11 +47,7 @@ public class MethodNode implements Node {
 				block.validate(ts); // Se validan las sentencias del bloque.
 
 				// Se valida el tipo de retorno del bloque. Excepto si es el constructor.
-				if (!name.equals("create") && !expectedReturnType.equals(block.resolvedReturnType())) {
-					// El bloque no retorna el tipo correcto en todas sus ramas.
-					throw new ASTError(loc, "EL METODO " + name + " DEBE RETORNAR UN VALOR DEL TIPO "
-							+ expectedReturnType.toJson() + " EN TODAS LAS RAMAS DEL BLOQUE.");
-				}
+				SemanticRules.checkReturn(loc, name, expectedReturnType, block.resolvedReturnType());
 
 				ts.endMethod();
 			}
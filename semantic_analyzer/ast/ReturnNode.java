@@ -1,6 +1,7 @@
 package semantic_analyzer.ast;
 
 import error.semantic.sentences.ASTError;
+import lexic_analyzer.TokenKind;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
 import util.Json;
@@ -10,7 +11,7 @@ public class ReturnNode extends SentenceNode {
 
 	public ReturnNode(Location loc) {
 		super(loc);
-		this.returnValue = new LiteralNode("nil", "p_nil", loc);
+		this.returnValue = new LiteralNode("nil", TokenKind.P_NIL, loc);
 	}
 
 	public ReturnNode(ExpressionNode expression, Location loc) {
@@ -0,0 +1,320 @@
+package semantic_analyzer.ast;
+
+import java.util.List;
+
+import error.semantic.sentences.ASTError;
+import error.semantic.sentences.InternalError;
+import error.semantic.sentences.NotFoundError;
+import error.semantic.sentences.UnmatchedTypeError;
+import semantic_analyzer.symbol_table.AttributeEntry;
+import semantic_analyzer.symbol_table.ClassEntry;
+import semantic_analyzer.symbol_table.Location;
+import semantic_analyzer.symbol_table.MethodEntry;
+import semantic_analyzer.symbol_table.SymbolTable;
+import semantic_analyzer.symbol_table.VariableEntry;
+import semantic_analyzer.types.Array;
+import semantic_analyzer.types.ClassType;
+import semantic_analyzer.types.Type;
+import semantic_analyzer.types.Void;
+
+/**
+ * Reglas semánticas de los nodos del AST que consultan la TS: cada regla
+ * valida un nodo a partir de sus datos (nombres, tipos y ubicación) y lanza el
+ * error correspondiente. Las comparten los nodos que aplican una misma regla
+ * (por ejemplo, las llamadas a métodos con y sin encadenamiento), por lo que
+ * validan con los mismos mensajes.
+ */
+final class SemanticRules {
+	private SemanticRules() {
+	}
+
+	/**
+	 * Valida que el tipo resuelto de una expresión coincide con el tipo esperado
+	 * para su contexto. Si no hay un tipo esperado definido, cualquier tipo
+	 * resuelto es aceptado.
+	 *
+	 * @throws ASTError - Si el tipo resuelto no coincide con el tipo esperado.
+	 */
+	static void checkType(SymbolTable ts, Location loc, Type resolveType, Type expectedResolveType)
+			throws ASTError {
+		if (resolveType == null) {
+			throw new InternalError(loc,
+					"SE ESPERABA QUE LA EXPRESION TUVIERA UN TIPO RESUELTO PARA ESTE MOMENTO, PERO SU TIPO ES null.");
+		}
+		if (expectedResolveType != null
+				&& !expectedResolveType.equals(resolveType)
+				&& ((resolveType instanceof Array || !ts.isSubclass(resolveType, expectedResolveType)))) {
+			// Si el tipo no coincide porque es una subclase, no se lanza excepción.
+			// Si el tipo no coincide y es un arreglo, es porque el subtipo no
+			// coincide y sí se lanza excepción.
+			throw new UnmatchedTypeError(loc, expectedResolveType, resolveType);
+		}
+	}
+
+	/** Valida que ambos operandos de una expresión binaria sean del mismo tipo. */
+	static void checkOperands(Location loc, Type leftType, Type rightType) throws ASTError {
+		if (!leftType.equals(rightType)) {
+			throw new UnmatchedTypeError(loc, leftType, rightType);
+		}
+	}
+
+	/**
+	 * Valida que el bloque de un método retorne el tipo del método en todas sus
+	 * ramas. Excepto si es el constructor.
+	 */
+	static void checkReturn(Location loc, String methodName, Type expectedReturnType, Type blockReturnType)
+			throws ASTError {
+		if (!methodName.equals("create") && !expectedReturnType.equals(blockReturnType)) {
+			throw new ASTError(loc, "EL METODO " + methodName + " DEBE RETORNAR UN VALOR DEL TIPO "
+					+ expectedReturnType.toJson() + " EN TODAS LAS RAMAS DEL BLOQUE.");
+		}
+	}
+
+	/**
+	 * Valida que la variable con tal nombre exista en el ámbito actual y sea
+	 * accesible desde él.
+	 *
+	 * @return el tipo de la variable.
+	 */
+	static Type variableType(SymbolTable ts, Location loc, String identifier) throws ASTError {
+		if (identifier.equals("self")) {
+			// El acceso a self se trata de forma especial,
+			// ya que es una referencia no una variable.
+			try {
+				Type varType = new ClassType(ts.currentClass().name());
+
+				// Validar que no se acceda self en el método main.
+				if (ts.currentClass().name().equals("main")) {
+					throw new ASTError(loc,
+							"SE INTENTO ACCEDER A LA VARIABLE " + identifier + " PERO NO ESTA DEFINIDA EN EL AMBITO ACTUAL.");
+				}
+
+				// Validar que no se acceda self en un contexto estático.
+				if (ts.currentMethod().isStatic()) {
+					throw new ASTError(loc,
+							"NO SE PERMITE ACCEDER A LA REFERENCIA \"self\" DENTRO DE UN METODO ESTATICO.");
+				}
+				return varType;
+			} catch (error.semantic.declarations.InternalError e) {
+				throw new InternalError(loc, e.getMessage());
+			}
+		}
+
+		// Si es una variable normal, se obtiene del contexto actual de la TS.
+		try {
+			VariableEntry var = ts.getVariable(identifier);
+
+			// Validar que la variable exista.
+			if (var == null) {
+				throw new ASTError(loc,
+						"SE INTENTO ACCEDER A LA VARIABLE " + identifier + " PERO NO ESTA DEFINIDA EN EL AMBITO ACTUAL.");
+			}
+
+			if (var instanceof AttributeEntry) {
+				// Validar que no se accede a un atributo (de instancia) en un método estático.
+				if (ts.currentMethod().isStatic()) {
+					throw new ASTError(loc,
+							"SE INTENTO ACCEDER AL ATRIBUTO " + identifier
+									+ " DENTRO DEL METODO ESTATICO " + ts.currentMethod().name()
+									+ ". NO SE PERMITE ACCEDER A ATRIBUTOS DINAMICOS DENTRO DE UN CONTEXTO ESTATICO.");
+				}
+
+				// Validar que no se accedan atributos privados heredados de otras clases.
+				AttributeEntry attr = (AttributeEntry) (var);
+				if (attr.isInherited() && !attr.isPublic()) {
+					throw new ASTError(loc, "EL ATRIBUTO " + var.name() + " DE LA CLASE "
+							+ ts.currentClass().name() + " NO ES VISIBLE EN ESTE CONTEXTO PORQUE ES UN ATRIBUTO PRIVADO HEREDADO.");
+				}
+			}
+
+			return var.type();
+		} catch (error.semantic.declarations.InternalError e) {
+			throw new InternalError(loc, e.getMessage());
+		}
+	}
+
+	/**
+	 * Valida que un acceso a variable tenga encadenado si es obligatorio.
+	 * Ejemplo: acceso self simple.
+	 */
+	static void checkMandatoryChain(Location loc, boolean mandatoryChain, boolean hasChain) throws ASTError {
+		if (!hasChain && mandatoryChain) {
+			throw new ASTError(loc,
+					"NO SE PERMITE REASIGNAR EL IDENTIFICADOR \"self\", ESTE ES UNA REFERENCIA A LA CLASE ACTUAL.");
+		}
+	}
+
+	/**
+	 * @param description - entidad cuyo tipo se busca, en el mensaje de error.
+	 * @return la entrada de la TS de la clase del tipo dado, sobre la que se
+	 *         valida un encadenado.
+	 */
+	static ClassEntry chainedClass(SymbolTable ts, Location loc, Type type, String description)
+			throws ASTError {
+		ClassEntry classEntry = ts.getClass(type.type());
+		if (classEntry == null) {
+			// La clase debería existir ya que la TS ya está validada y consolidada.
+			throw new InternalError(loc, description + " NO EXISTE EN LA TS.");
+		}
+		return classEntry;
+	}
+
+	/**
+	 * @return la entrada de la TS de la clase de retorno del método dado, sobre
+	 *         la que se valida su encadenado.
+	 */
+	static ClassEntry returnClass(SymbolTable ts, Location loc, MethodEntry methodEntry, String methodName,
+			String className) throws ASTError {
+		// Si el método retorna void, entonces no se puede encadenar nada.
+		if (methodEntry.returnType().equals(new Void())) {
+			throw new ASTError(loc, "EL METODO " + methodName
+					+ " NO RETORNA NINGUN VALOR, NO SE PUEDE ACCEDER A ENCADENADOS DE void.");
+		}
+		return chainedClass(ts, loc, methodEntry.returnType(),
+				"LA CLASE DE RETORNO DEL METODO " + methodName + " DE LA CLASE " + className);
+	}
+
+	/**
+	 * @param className - nombre de la clase, o null para la clase actual.
+	 * @return la entrada de la TS de la clase cuyo método se invoca.
+	 */
+	static ClassEntry calledClass(SymbolTable ts, Location loc, String className) throws ASTError {
+		if (className == null) {
+			try {
+				return ts.currentClass();
+			} catch (error.semantic.declarations.InternalError e) {
+				// Lanzar un error si no existe una clase actual.
+				throw new InternalError(loc, e.getMessage());
+			}
+		}
+		ClassEntry classEntry = ts.getClass(className);
+		if (classEntry == null) {
+			throw new NotFoundError(loc, "SE INTENTO ACCEDER A LA CLASE NO DECLARADA " + className);
+		}
+		return classEntry;
+	}
+
+	/**
+	 * @return la entrada de la TS del método invocado de la clase dada. El
+	 *         método create es el constructor.
+	 */
+	static MethodEntry calledMethod(Location loc, ClassEntry classEntry, String methodName) throws ASTError {
+		if (methodName.equals("create")) {
+			return found(loc, classEntry.constructor(), classEntry, methodName);
+		}
+		return chainedMethod(loc, classEntry, methodName);
+	}
+
+	/** @return la entrada de la TS del método accedido de la clase dada. */
+	static MethodEntry chainedMethod(Location loc, ClassEntry classEntry, String methodName) throws ASTError {
+		return found(loc, classEntry.methods().get(methodName), classEntry, methodName);
+	}
+
+	/** Valida que el método existe en la clase. */
+	private static MethodEntry found(Location loc, MethodEntry methodEntry, ClassEntry classEntry, String methodName)
+			throws ASTError {
+		if (methodEntry == null) {
+			throw new NotFoundError(loc, "SE INTENTO ACCEDER AL METODO " + methodName + " DE LA CLASE "
+					+ classEntry.name() + ", PERO LA CLASE NO IMPLEMENTA TAL METODO.");
+		}
+		return methodEntry;
+	}
+
+	/**
+	 * Valida una llamada a un método de la clase actual: no puede invocarse
+	 * explícitamente al constructor, ni a un método NO estático dentro de un
+	 * método estático.
+	 */
+	static void checkSelfCall(SymbolTable ts, Location loc, String methodName) throws ASTError {
+		if (methodName.equals("create")) {
+			throw new ASTError(loc,
+					"SE INTENTO ACCEDER EXPLICITAMENTE AL METODO create DE LA CLASE ACTUAL, ESTE METODO ES ACCESIBLE UNICAMENTE A TRAVES DEL CONSTRUCTOR DE LA CLASE.");
+		}
+		try {
+			if (ts.currentMethod().isStatic() && !calledMethod(loc, calledClass(ts, loc, null), methodName).isStatic()) {
+				throw new ASTError(loc,
+						"SE INTENTO ACCEDER AL METODO NO ESTATICO " + methodName
+								+ " DENTRO DEL METODO ESTATICO " + ts.currentMethod().name()
+								+ ". NO SE PERMITE ACCEDER A METODOS DINAMICOS DENTRO DE UN CONTEXTO ESTATICO.");
+			}
+		} catch (error.semantic.declarations.InternalError e) {
+			throw new InternalError(loc, e.getMessage());
+		}
+	}
+
+	/**
+	 * Valida una llamada estática: no puede invocarse explícitamente al
+	 * constructor, y el método debe ser estático.
+	 */
+	static void checkStaticCall(SymbolTable ts, Location loc, String className, String methodName)
+			throws ASTError {
+		if (methodName.equals("create")) {
+			throw new ASTError(loc,
+					"SE INTENTO ACCEDER EXPLICITAMENTE AL METODO create DE LA CLASE " + className
+							+ ", ESTE METODO ES ACCESIBLE UNICAMENTE A TRAVES DEL CONSTRUCTOR DE LA CLASE.");
+		}
+		if (!calledMethod(loc, calledClass(ts, loc, className), methodName).isStatic()) {
+			throw new ASTError(loc,
+					"SE INTENTO INVOCAR DE MANERA ESTATICA AL METODO NO ESTATICO " + methodName + " DE LA CLASE "
+							+ className);
+		}
+	}
+
+	/**
+	 * Valida que la cantidad de argumentos de una llamada coincida con la de los
+	 * argumentos formales del método. El tipo de cada argumento se valida luego
+	 * como el tipo esperado de su expresión.
+	 */
+	static void checkArgsCount(Location loc, List<Type> formalTypes, int argsCount, String methodName)
+			throws ASTError {
+		if (argsCount != formalTypes.size()) {
+			throw new ASTError(loc, "LA CANTIDAD DE ARGUMENTOS PARA EL METODO " + methodName
+					+ " NO ES CORRECTA. SE ESPERABAN " + formalTypes.size() + " ARGUMENTOS.");
+		}
+	}
+
+	/**
+	 * Valida que el atributo accedido exista en la clase dada y sea visible:
+	 * los atributos privados no se pueden acceder desde otra clase ni desde una
+	 * subclase.
+	 *
+	 * @return la entrada de la TS del atributo.
+	 */
+	static AttributeEntry attribute(SymbolTable ts, Location loc, ClassEntry accessedClass, String attrName)
+			throws ASTError {
+		AttributeEntry attrEntry = accessedClass.attributes().get(attrName);
+
+		if (attrEntry == null) {
+			throw new NotFoundError(loc, "SE INTENTO ACCEDER AL ATRIBUTO " + attrName + " DE LA CLASE "
+					+ accessedClass.name() + ", PERO LA CLASE NO POSEE TAL ATRIBUTO.");
+		}
+
+		try {
+			if (!attrEntry.isPublic() // El atributo es privado.
+					&& (attrEntry.isInherited() // Es heredado (no visible) o...
+							|| !accessedClass.name().equals(ts.currentClass().name())) // La clase no es la actual.
+			) {
+				// Si el atributo es privado, no se puede acceder desde una clase distinta.
+				throw new ASTError(loc, "EL CAMPO " + attrName + " DE LA CLASE "
+						+ accessedClass.name() + " NO ES VISIBLE EN ESTE CONTEXTO PORQUE ES PRIVADO.");
+			}
+		} catch (error.semantic.declarations.InternalError e) {
+			throw new InternalError(loc, e.getMessage());
+		}
+		return attrEntry;
+	}
+
+	/**
+	 * Valida que el atributo accedido por índice sea de tipo arreglo.
+	 *
+	 * @return el tipo de los elementos del arreglo.
+	 */
+	static Type arrayItemsType(Location loc, AttributeEntry attr, String className) throws ASTError {
+		if (!new Array().equals(attr.type())) {
+			throw new ASTError(loc,
+					"SE INTENTO ACCEDER A UN INDICE DEL ATRIBUTO " + attr.name() + " DE LA CLASE "
+							+ className + ", PERO EL ATRIBUTO NO ES DE TIPO Array.");
+		}
+		return ((Array) attr.type()).itemsType();
+	}
+}
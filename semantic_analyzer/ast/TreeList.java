@@ -1,8 +1,10 @@
 package semantic_analyzer.ast;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 
 import error.semantic.sentences.ASTError;
 import semantic_analyzer.symbol_table.Location;
@@ -45,9 +47,11 @@ public class TreeList<T extends Node> extends LinkedList<T> implements Node {
 
 	@Override
 	public String toJson() {
-		return Json.toStringArray(this.stream()
-				.map(elem -> elem.toJson()) // Generar el JSON de cada elemento
-				.toList());
+		List<String> elements = new ArrayList<String>(size());
+		for (T elem : this) {
+			elements.add(elem.toJson()); // Generar el JSON de cada elemento
+		}
+		return Json.toStringArray(elements);
 	}
 
 	@Override
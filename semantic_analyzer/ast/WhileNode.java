@@ -1,12 +1,15 @@
 package semantic_analyzer.ast;
 
+import java.util.Collections;
+import java.util.List;
+
 import error.semantic.sentences.ASTError;
 import semantic_analyzer.symbol_table.Location;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Bool;
 import util.Json;
 
-public class WhileNode extends SentenceNode {
+public class WhileNode extends CompoundSentenceNode {
 	private ExpressionNode condition;
 	private SentenceNode block;
 
@@ -26,12 +29,16 @@ public class WhileNode extends SentenceNode {
 	}
 
 	@Override
-	public void validate(SymbolTable ts) throws ASTError {
+	protected List<SentenceNode> startValidation(SymbolTable ts) throws ASTError {
 		condition.setExpectedResolveType(new Bool()); // Validar que el tipo de la condición sea booleano
 		condition.validate(ts);
 
 		block.setExpectedReturnType(super.expectedReturnType());
-		block.validate(ts); // Validar las sentencias del bloque.
+		return Collections.singletonList(block); // Validar las sentencias del bloque.
+	}
+
+	@Override
+	protected void endValidation() {
 		super.setResolvedReturnType(block.resolvedReturnType()); // Para validar el retorno del método.
 	}
 }
@@ -3,9 +3,10 @@ package semantic_analyzer.symbol_table;
 import semantic_analyzer.types.Type;
 import util.Json;
 
-public class AttributeEntry extends VariableEntry {
+public class AttributeEntry extends VariableEntry implements MemberEntry {
 	private boolean isPublic = false;
 	private boolean isInherited = false;
+	private int offset = -1; // Posición del atributo en la disposición de la clase, o -1 si aún no se asignó.
 
 	public AttributeEntry(String name, Type type, int position, boolean isPublic, Location loc) {
 		// Inicialización por defecto.
@@ -14,15 +15,21 @@ public class AttributeEntry extends VariableEntry {
 		this.isInherited = false;
 	}
 
-	public AttributeEntry(AttributeEntry attr, int position) {
-		// Clonar instancia.
-		super(attr.name, attr.type, position, attr.locationDecl);
+	public AttributeEntry(AttributeEntry attr) {
+		// Vista del atributo heredado: comparte los datos de la entrada que lo declara.
+		super(attr.name, attr.type, attr.position, attr.locationDecl);
 		this.isPublic = attr.isPublic;
 		this.isInherited = true;
+		this.offset = attr.offset;
 	}
 
 	@Override
 	public String toJson() {
+		return toJson(position);
+	}
+
+	@Override
+	public String toJson(int position) {
 		Json json = new Json();
 		json.addAttr("nombre", name);
 		json.addAttr("posicion", position);
@@ -38,4 +45,17 @@ public class AttributeEntry extends VariableEntry {
 	public boolean isInherited() {
 		return isInherited;
 	}
+
+	/**
+	 * @return posición del atributo en la disposición de los objetos de la clase
+	 *         (ver ClassEntry.fields), igual en la clase que lo declara y en sus
+	 *         subclases.
+	 */
+	public int offset() {
+		return offset;
+	}
+
+	void setOffset(int offset) {
+		this.offset = offset;
+	}
 }
@@ -1,8 +1,12 @@
 package semantic_analyzer.symbol_table;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
-
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import error.semantic.declarations.BadFormedConstructorError;
 import error.semantic.declarations.ConsolidationError;
@@ -20,16 +24,40 @@ public class ClassEntry implements TableElement {
 	private Location locationExtendsFrom;
 	private boolean extendable = true;
 	private ConstructorEntry constructor;
-	private TableList<MethodEntry> methods;
-	private TableList<AttributeEntry> attributes;
+	private LayeredTableList<MethodEntry> methods;
+	private LayeredTableList<AttributeEntry> attributes;
 	private boolean consolidated = false;
+	// Intervalo de la clase en el recorrido en preorden del árbol de herencia: su
+	// posición y la de su último descendiente, o -1 si aún no se asignó.
+	private int preorder = -1;
+	private int lastDescendant = -1;
+	// Disposición de la clase consolidada: métodos dinámicos por posición en la
+	// vtable y atributos por posición en los objetos, o null si aún no se asignó.
+	private List<MethodEntry> vtable = null;
+	private List<AttributeEntry> fields = null;
 
 	public ClassEntry(String name, Location loc) {
 		this.name = name;
 		this.locationDecl = loc;
 		this.constructor = new ConstructorEntry(false, new ClassType(name), loc);
-		this.methods = new TableList<MethodEntry>();
-		this.attributes = new TableList<AttributeEntry>();
+		this.methods = new LayeredTableList<MethodEntry>(method -> method);
+		this.attributes = new LayeredTableList<AttributeEntry>(AttributeEntry::new);
+	}
+
+	/**
+	 * Clonar instancia sin consolidar: la consolidación agrega los miembros
+	 * heredados a las tablas de la copia, sin modificar las de la entrada
+	 * original.
+	 */
+	public ClassEntry(ClassEntry entry) {
+		this.name = entry.name;
+		this.locationDecl = entry.locationDecl;
+		this.extendsFrom = entry.extendsFrom;
+		this.locationExtendsFrom = entry.locationExtendsFrom;
+		this.extendable = entry.extendable;
+		this.constructor = entry.constructor;
+		this.methods = entry.methods.copy();
+		this.attributes = entry.attributes.copy();
 	}
 
 	public ClassEntry(String name, boolean extendable, ConstructorEntry constructor, Location loc) {
@@ -43,13 +71,23 @@ public class ClassEntry implements TableElement {
 
 	@Override
 	public String toJson() {
+		return toJson(new IdentityHashMap<LayeredTableList<AttributeEntry>, List<AttributeEntry>>(),
+				new IdentityHashMap<LayeredTableList<MethodEntry>, List<MethodEntry>>());
+	}
+
+	/**
+	 * Genera el JSON de la clase reutilizando los órdenes de las tablas de
+	 * miembros ya calculados para otras clases (ver LayeredTableList.order).
+	 */
+	String toJson(Map<LayeredTableList<AttributeEntry>, List<AttributeEntry>> attributeOrders,
+			Map<LayeredTableList<MethodEntry>, List<MethodEntry>> methodOrders) {
 		Json json = new Json();
 		json.addAttr("nombre", name);
 		json.addAttr("heredaDe", extendsFrom);
 		json.addAttr("heredable", extendable);
-		json.addAttr("atributos", attributes);
+		json.addAttr("atributos", () -> attributes.toJson(attributeOrders));
 		json.addAttr("constructor", constructor);
-		json.addAttr("metodos", methods);
+		json.addAttr("metodos", () -> methods.toJson(methodOrders));
 		return json.toString();
 	}
 
@@ -101,7 +139,7 @@ public class ClassEntry implements TableElement {
 			superClass.consolidate(classes, superClassesTree);
 
 			// 1. Validar que exista el tipo de cada atributo.
-			Iterator<AttributeEntry> attributesIter = attributes.values().iterator();
+			Iterator<AttributeEntry> attributesIter = attributes.declared().values().iterator();
 			while (attributesIter.hasNext()) { // Iterar sobre cada atributo de la clase.
 				AttributeEntry attr = attributesIter.next();
 				if (classes.get(attr.type().type()) == null) {
@@ -110,104 +148,204 @@ public class ClassEntry implements TableElement {
 				}
 			}
 
-			// 2. Consolidar atributos.
-			Iterator<AttributeEntry> superAttrsIter = superClass.attributes().values().iterator();
-			while (superAttrsIter.hasNext()) { // Iterar sobre cada atributo de la supercalse.
-				AttributeEntry superAttr = superAttrsIter.next();
-				if (attributes.containsKey(superAttr.name())) {
-					// No es válido redeclarar atributos.
-					throw new ConsolidationError(superAttr.locationDecl(),
+			// 2. Consolidar atributos. No es válido redeclarar atributos de la
+			// superclase: si se redeclaran varios, se reporta el primero en el orden de
+			// la tabla de la superclase.
+			HashMap<String, ConsolidationError> errors = new HashMap<String, ConsolidationError>();
+			for (AttributeEntry attr : attributes.declared().values()) {
+				AttributeEntry superAttr = superClass.attributes.find(attr.name());
+				if (superAttr != null) {
+					errors.put(superAttr.name(), new ConsolidationError(superAttr.locationDecl(),
 							"NO ESTA PERMITIDO REDEFINIR ATRIBUTOS DE UNA SUPERCLASE. SE ESTA REDEFINIENDO EL ATRIBUTO "
-									+ superAttr.name());
-				} else {
-					// El atributo no se redefine, entonces se agrega a la subclase.
-					AttributeEntry newAttr = new AttributeEntry(superAttr, attributes.size() + 1); // Clonar
-					attributes.put(newAttr.name(), newAttr);
+									+ superAttr.name()));
 				}
 			}
+			throwFirstError(errors, superClass.attributes);
+			// Ningún atributo se redefine, entonces se heredan todos sin clonarlos.
+			attributes.inherit(superClass.attributes);
 
 			// 3. Validar que exista el tipo de retorno y el tipo de cada argumento formal
 			// de cada método.
-			Iterator<MethodEntry> methodsIter = methods.values().iterator();
+			Iterator<MethodEntry> methodsIter = methods.declared().values().iterator();
 			while (methodsIter.hasNext()) { // Iterar sobre cada método de la clase.
 				MethodEntry method = methodsIter.next();
 				method.validate(classes);
 			}
 
-			// 4. Consolidar métodos.
-			Iterator<MethodEntry> superMethodsIter = superClass.methods().values().iterator();
-			while (superMethodsIter.hasNext()) { // Iterar sobre cada método de la superclase.
-				MethodEntry superMethod = superMethodsIter.next();
-				if (methods.containsKey(superMethod.name())) {
-					// Si la subclase redeclara un método, se valida que la firma coincida.
-					MethodEntry subMethod = methods.get(superMethod.name());
-					if (superMethod.isStatic()) {
-						// No es válido redeclarar métodos estáticos.
-						throw new ConsolidationError(subMethod.locationDecl(),
-								"NO ESTA PERMITIDO REDEFINIR METODOS ESTATICOS DE UNA SUPERCLASE. SE ESTA REDEFINIENDO EL METODO ESTATICO "
-										+ superMethod.name());
+			// 4. Consolidar métodos: si la subclase redeclara un método, se valida que la
+			// firma coincida. Si varios no coinciden, se reporta el primero en el orden
+			// de la tabla de la superclase.
+			for (MethodEntry subMethod : methods.declared().values()) {
+				MethodEntry superMethod = superClass.methods.find(subMethod.name());
+				if (superMethod != null) {
+					ConsolidationError error = overrideError(superMethod, subMethod);
+					if (error != null) {
+						errors.put(superMethod.name(), error);
 					}
+				}
+			}
+			throwFirstError(errors, superClass.methods);
+			// Los métodos que no se redefinen se heredan sin clonarlos.
+			methods.inherit(superClass.methods);
+		}
+		setConsolidated(true);
+	}
 
-					if (subMethod.isStatic()) {
-						// No es válido redeclarar un método estático si en la superclase era dinámico.
-						throw new ConsolidationError(subMethod.locationDecl(),
-								"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTO MODIFICADOR. EL SUB METODO "
-										+ superMethod.name()
-										+ " ES ESTATICO, MIENTRAS QUE EL SUPER METODO ES DINAMICO.");
-					}
+	/**
+	 * Devuelve el error de redefinir el método de la superclase con el de la
+	 * subclase, o null si sus firmas coinciden.
+	 */
+	private ConsolidationError overrideError(MethodEntry superMethod, MethodEntry subMethod) {
+		if (superMethod.isStatic()) {
+			// No es válido redeclarar métodos estáticos.
+			return new ConsolidationError(subMethod.locationDecl(),
+					"NO ESTA PERMITIDO REDEFINIR METODOS ESTATICOS DE UNA SUPERCLASE. SE ESTA REDEFINIENDO EL METODO ESTATICO "
+							+ superMethod.name());
+		}
 
-					// Validar mismo tipo de retorno.
-					if (!(superMethod.returnType().type().equals(subMethod.returnType().type()))) {
-						throw new ConsolidationError(subMethod.locationDecl(),
-								"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: TIPO DE RETORNO NO COINCIDE. (METODO "
-										+ superMethod.name() + ")");
-					}
+		if (subMethod.isStatic()) {
+			// No es válido redeclarar un método estático si en la superclase era dinámico.
+			return new ConsolidationError(subMethod.locationDecl(),
+					"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTO MODIFICADOR. EL SUB METODO "
+							+ superMethod.name()
+							+ " ES ESTATICO, MIENTRAS QUE EL SUPER METODO ES DINAMICO.");
+		}
 
-					// Validar misma cantidad de argumentos.
-					if (superMethod.arguments().size() != subMethod.arguments().size()) {
-						throw new ConsolidationError(subMethod.locationDecl(),
-								"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: CANTIDAD DE ARGUMENTOS NO COINCIDE. (METODO "
-										+ superMethod.name() + ")");
-					}
+		// Validar mismo tipo de retorno.
+		if (!(superMethod.returnType().type().equals(subMethod.returnType().type()))) {
+			return new ConsolidationError(subMethod.locationDecl(),
+					"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: TIPO DE RETORNO NO COINCIDE. (METODO "
+							+ superMethod.name() + ")");
+		}
 
-					// Por practicidad, se arma un mapeo de posición y tipo de cada argumento del
-					// método de la subclase.
-					HashMap<Number, Type> subMethodArgTypes = new HashMap<Number, Type>();
-					subMethod.arguments().values().forEach((arg) -> {
-						subMethodArgTypes.put(arg.position(), arg.type());
-					});
-					// Validar misma posición y tipo de cada argumento.
-					if (!superMethod.arguments().values().stream().allMatch(
-							(superArgument) -> {
-								return subMethodArgTypes.get(superArgument.position()).type()
-										.equals(superArgument.type().type());
-							})) {
-						throw new ConsolidationError(subMethod.locationDecl(),
-								"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: TIPO Y ORDEN DE ARGUMENTOS NO COINCIDE. (METODO "
-										+ superMethod.name() + ")");
-					}
-				} else {
-					// El método no se redefine, entonces se agrega a la subclase.
-					MethodEntry newMethod = new MethodEntry(superMethod, methods.size() + 1); // Clonar
-					methods.put(newMethod.name(), newMethod);
+		// Validar misma cantidad de argumentos.
+		if (superMethod.arguments().size() != subMethod.arguments().size()) {
+			return new ConsolidationError(subMethod.locationDecl(),
+					"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: CANTIDAD DE ARGUMENTOS NO COINCIDE. (METODO "
+							+ superMethod.name() + ")");
+		}
+
+		// Por practicidad, se arma un mapeo de posición y tipo de cada argumento del
+		// método de la subclase.
+		HashMap<Number, Type> subMethodArgTypes = new HashMap<Number, Type>();
+		subMethod.arguments().values().forEach((arg) -> {
+			subMethodArgTypes.put(arg.position(), arg.type());
+		});
+		// Validar misma posición y tipo de cada argumento.
+		if (!superMethod.arguments().values().stream().allMatch(
+				(superArgument) -> {
+					return subMethodArgTypes.get(superArgument.position()).type()
+							.equals(superArgument.type().type());
+				})) {
+			return new ConsolidationError(subMethod.locationDecl(),
+					"NO ESTA PERMITIDO REDEFINIR METODOS DE UNA SUPERCLASE CON DISTINTA FIRMA: TIPO Y ORDEN DE ARGUMENTOS NO COINCIDE. (METODO "
+							+ superMethod.name() + ")");
+		}
+		return null;
+	}
+
+	/**
+	 * Lanza el error del primer miembro de la tabla de la superclase (en su
+	 * orden) que tenga uno, si hay alguno. El orden de la tabla solo se calcula
+	 * si hay más de un error.
+	 * 
+	 * @param errors - errores por nombre del miembro de la superclase.
+	 */
+	private static <T extends MemberEntry> void throwFirstError(HashMap<String, ConsolidationError> errors,
+			LayeredTableList<T> superTable) throws ConsolidationError {
+		if (errors.size() == 1) {
+			throw errors.values().iterator().next();
+		}
+		if (errors.size() > 1) {
+			for (T superMember : superTable.order(new IdentityHashMap<LayeredTableList<T>, List<T>>())) {
+				ConsolidationError error = errors.get(superMember.name());
+				if (error != null) {
+					throw error;
 				}
 			}
 		}
-		setConsolidated(true);
+	}
+
+	/**
+	 * Asigna la disposición de la clase consolidada a partir de la de su
+	 * superclase, ya asignada: la vtable y los atributos de la superclase son un
+	 * prefijo de los de la clase. Cada método que la clase redefine ocupa la
+	 * posición del método de la superclase, y los métodos dinámicos y atributos
+	 * que declara se agregan a continuación, en el orden de declaración. También
+	 * arma los tipos de los argumentos formales de cada método que declara (ver
+	 * MethodEntry.formalTypes).
+	 * 
+	 * @param superClass - superclase, o null si la clase no hereda de otra.
+	 */
+	void layout(ClassEntry superClass) {
+		List<MethodEntry> vtable = new ArrayList<MethodEntry>();
+		List<AttributeEntry> fields = new ArrayList<AttributeEntry>();
+		if (superClass != null) {
+			vtable.addAll(superClass.vtable);
+			fields.addAll(superClass.fields);
+		}
+
+		List<MethodEntry> declaredMethods = new ArrayList<MethodEntry>(methods.declared().values());
+		declaredMethods.sort(Comparator.comparingInt(MethodEntry::position));
+		if (constructor != null) { // La clase main no tiene constructor.
+			constructor.formalTypes();
+		}
+		for (MethodEntry method : declaredMethods) {
+			method.formalTypes();
+			if (method.isStatic()) {
+				continue; // Los métodos estáticos no se despachan dinámicamente.
+			}
+			MethodEntry superMethod = superClass != null ? superClass.methods().get(method.name()) : null;
+			if (superMethod != null) {
+				method.setVtableSlot(superMethod.vtableSlot());
+				vtable.set(method.vtableSlot(), method);
+			} else {
+				method.setVtableSlot(vtable.size());
+				vtable.add(method);
+			}
+		}
+
+		List<AttributeEntry> declaredAttributes = new ArrayList<AttributeEntry>(attributes.declared().values());
+		declaredAttributes.sort(Comparator.comparingInt(AttributeEntry::position));
+		for (AttributeEntry attr : declaredAttributes) {
+			attr.setOffset(fields.size());
+			fields.add(attr);
+		}
+
+		this.vtable = vtable;
+		this.fields = fields;
 	}
 
 	public String name() {
 		return name;
 	}
 
-	public TableList<AttributeEntry> attributes() {
+	public LayeredTableList<AttributeEntry> attributes() {
 		return this.attributes;
 	}
 
-	public TableList<MethodEntry> methods() {
+	public LayeredTableList<MethodEntry> methods() {
 		return this.methods;
 	}
 
+	/**
+	 * @return métodos dinámicos que ejecutan los objetos de la clase, por su
+	 *         posición en la vtable (ver MethodEntry.vtableSlot), o null si la
+	 *         tabla de símbolos aún no se consolidó.
+	 */
+	public List<MethodEntry> vtable() {
+		return this.vtable;
+	}
+
+	/**
+	 * @return atributos de los objetos de la clase, por su posición en la
+	 *         disposición (ver AttributeEntry.offset), o null si la tabla de
+	 *         símbolos aún no se consolidó.
+	 */
+	public List<AttributeEntry> fields() {
+		return this.fields;
+	}
+
 	public MethodEntry constructor() {
 		return this.constructor;
 	}
@@ -237,4 +375,25 @@ public class ClassEntry implements TableElement {
 		this.consolidated = consolidated;
 	}
 
+	/**
+	 * @return true si la clase tiene asignado su intervalo en el árbol de
+	 *         herencia (ver SymbolTable.consolidate).
+	 */
+	boolean hasHierarchyInterval() {
+		return preorder >= 0;
+	}
+
+	void setHierarchyInterval(int preorder, int lastDescendant) {
+		this.preorder = preorder;
+		this.lastDescendant = lastDescendant;
+	}
+
+	/**
+	 * @return true si esta clase es igual o desciende de la clase dada, según
+	 *         los intervalos de ambas en el árbol de herencia.
+	 */
+	boolean isDescendantOf(ClassEntry ancestor) {
+		return ancestor.preorder <= preorder && preorder <= ancestor.lastDescendant;
+	}
+
 }
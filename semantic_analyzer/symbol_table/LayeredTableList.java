@@ -0,0 +1,200 @@
+package semantic_analyzer.symbol_table;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import util.Json;
+
+/**
+ * Tabla de miembros (atributos o métodos) de una clase, organizada en capas:
+ * guarda solo los miembros que declara (o redefine) la clase y, al
+ * consolidarse, una referencia a la capa de la superclase, de la que toma los
+ * miembros heredados sin clonarlos.
+ *
+ * Buscar un miembro heredado devuelve la entrada de la clase que lo declara
+ * (para los atributos, una vista que comparte sus datos y lo marca como
+ * heredado). El resultado de cada búsqueda en las capas superiores, incluso si
+ * el miembro no existe, se cachea por nombre, por lo que las búsquedas
+ * siguientes son de tiempo constante y devuelven la misma entrada.
+ *
+ * La posición de cada miembro heredado en la clase y el orden de la tabla
+ * consolidada (los del JSON, iguales a los de una tabla con un clon de cada
+ * miembro heredado) se calculan recién al generar el JSON.
+ */
+public class LayeredTableList<T extends MemberEntry> implements TableElement {
+	private TableList<T> declared;
+	private LayeredTableList<T> parent = null; // Capa de la superclase, o null si la tabla no hereda de otra.
+	private int inheritedCount = 0; // Cantidad de miembros heredados que la clase no redefine.
+	// Crea la entrada que devuelven las búsquedas de un miembro heredado a partir
+	// de la que lo declara.
+	private UnaryOperator<T> inherit;
+	private HashMap<String, T> resolved = null; // Búsquedas en las capas superiores: entrada hallada o null.
+
+	public LayeredTableList(UnaryOperator<T> inherit) {
+		this(new TableList<T>(), inherit); // Inicialización por defecto.
+	}
+
+	private LayeredTableList(TableList<T> declared, UnaryOperator<T> inherit) {
+		this.declared = declared;
+		this.inherit = inherit;
+	}
+
+	/**
+	 * Clonar instancia sin consolidar: la copia solo conserva los miembros
+	 * declarados, en el mismo orden de iteración (ver TableList.copy).
+	 */
+	public LayeredTableList<T> copy() {
+		return new LayeredTableList<T>(declared.copy(), inherit);
+	}
+
+	@Override
+	public String toJson() {
+		return toJson(new IdentityHashMap<LayeredTableList<T>, List<T>>());
+	}
+
+	/**
+	 * @param orders - órdenes de las tablas consolidadas ya calculados (ver
+	 *               order), que se reutilizan y se completan con los calculados
+	 *               para esta tabla y sus capas superiores.
+	 */
+	String toJson(Map<LayeredTableList<T>, List<T>> orders) {
+		// Los miembros heredados se agregan a continuación de los declarados, en el
+		// orden de la tabla de la superclase.
+		IdentityHashMap<T, Integer> positions = new IdentityHashMap<T, Integer>();
+		if (parent != null) {
+			int position = declared.size();
+			for (T superMember : parent.order(orders)) {
+				if (!declared.containsKey(superMember.name())) {
+					positions.put(superMember, ++position);
+				}
+			}
+		}
+
+		List<String> members = new ArrayList<String>();
+		for (T member : order(orders)) {
+			Integer position = positions.get(member);
+			members.add(position == null ? member.toJson() : member.toJson(position));
+		}
+		return Json.toStringArray(members);
+	}
+
+	/** Agregar un miembro declarado por la clase. */
+	public void put(String name, T member) {
+		declared.put(name, member);
+	}
+
+	/**
+	 * Devuelve el miembro con el nombre dado, declarado o heredado por la
+	 * clase. De no hallarse devuelve null.
+	 */
+	public T get(String name) {
+		T member = declared.get(name);
+		if (member != null || parent == null) {
+			return member;
+		}
+		if (resolved == null) {
+			resolved = new HashMap<String, T>();
+		} else if (resolved.containsKey(name)) {
+			return resolved.get(name);
+		}
+		member = parent.find(name);
+		if (member != null) {
+			member = inherit.apply(member);
+		}
+		resolved.put(name, member);
+		return member;
+	}
+
+	public boolean containsKey(String name) {
+		return get(name) != null;
+	}
+
+	public int size() {
+		return declared.size() + inheritedCount;
+	}
+
+	/**
+	 * @return entradas de todos los miembros de la tabla (las mismas que
+	 *         devuelve get), en el orden de la tabla consolidada.
+	 */
+	public List<T> values() {
+		List<T> values = new ArrayList<T>(size());
+		for (T member : order(new IdentityHashMap<LayeredTableList<T>, List<T>>())) {
+			values.add(get(member.name()));
+		}
+		return values;
+	}
+
+	/** @return miembros declarados por la clase. */
+	TableList<T> declared() {
+		return declared;
+	}
+
+	/**
+	 * Devuelve la entrada de la clase que declara el miembro con el nombre dado,
+	 * buscándolo desde esta capa hacia las superiores, sin cachear el resultado
+	 * (por lo que puede usarse mientras se consolidan otras clases en paralelo).
+	 * De no hallarse devuelve null.
+	 */
+	T find(String name) {
+		for (LayeredTableList<T> layer = this; layer != null; layer = layer.parent) {
+			T member = layer.declared.get(name);
+			if (member != null) {
+				return member;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Consolidar la tabla con la de la superclase, ya consolidada: los miembros
+	 * de la superclase que la clase no redefine se heredan de su capa.
+	 */
+	void inherit(LayeredTableList<T> superTable) {
+		int redefined = 0;
+		for (String name : declared.keySet()) {
+			if (superTable.find(name) != null) {
+				redefined++;
+			}
+		}
+		this.parent = superTable;
+		this.inheritedCount = superTable.size() - redefined;
+	}
+
+	/**
+	 * @return entradas que declaran cada miembro de la tabla consolidada, en el
+	 *         orden de iteración que tendría la tabla agregando a los miembros
+	 *         declarados un clon de cada miembro heredado, en el orden de la tabla
+	 *         de la superclase. Las capas se recorren de la superior a esta, sin
+	 *         recursión, y el orden de cada una se agrega a orders.
+	 */
+	List<T> order(Map<LayeredTableList<T>, List<T>> orders) {
+		ArrayDeque<LayeredTableList<T>> layers = new ArrayDeque<LayeredTableList<T>>();
+		LayeredTableList<T> layer = this;
+		while (layer != null && !orders.containsKey(layer)) {
+			layers.push(layer);
+			layer = layer.parent;
+		}
+
+		List<T> order = layer != null ? orders.get(layer) : null;
+		while (!layers.isEmpty()) {
+			layer = layers.pop();
+			// La tabla se arma solo para obtener su orden de iteración, con las mismas
+			// inserciones que haría la consolidación clonando cada miembro.
+			TableList<T> table = layer.declared.copy();
+			if (layer.parent != null) {
+				for (T superMember : order) {
+					table.putIfAbsent(superMember.name(), superMember);
+				}
+			}
+			order = new ArrayList<T>(table.values());
+			orders.put(layer, order);
+		}
+		return order;
+	}
+}
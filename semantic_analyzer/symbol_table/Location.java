@@ -20,4 +20,9 @@ public class Location {
 	public int getCol() {
 		return this.col;
 	}
+
+	protected void setPosition(int line, int col) {
+		this.line = line;
+		this.col = col;
+	}
 }
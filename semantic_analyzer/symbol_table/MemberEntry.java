@@ -0,0 +1,17 @@
+package semantic_analyzer.symbol_table;
+
+/**
+ * Entrada de un miembro de clase (atributo o método) en su tabla de
+ * miembros, identificada por su nombre.
+ */
+public interface MemberEntry extends TableElement {
+	public String name();
+
+	public int position();
+
+	/**
+	 * @return JSON del miembro heredado por una subclase, con su posición en la
+	 *         tabla consolidada de la subclase (ver LayeredTableList.toJson).
+	 */
+	public String toJson(int position);
+}
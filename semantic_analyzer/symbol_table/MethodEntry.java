@@ -1,6 +1,9 @@
 package semantic_analyzer.symbol_table;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import error.semantic.declarations.ConsolidationError;
 import error.semantic.declarations.DuplicatedEntityIdError;
@@ -9,14 +12,16 @@ import semantic_analyzer.types.Type;
 import semantic_analyzer.types.Void;
 import util.Json;
 
-public class MethodEntry implements TableElement {
+public class MethodEntry implements MemberEntry {
 	private String name;
 	private Location locationDecl;
 	private int position;
 	private Type returnType;
 	private boolean isStatic = false;
+	private int vtableSlot = -1; // Posición del método en la vtable de la clase, o -1 si es estático o aún no se asignó.
 	private TableList<ArgumentEntry> arguments;
 	private TableList<VariableEntry> blockVariables;
+	private List<Type> formalTypes = null; // Tipos de los argumentos formales por posición, o null si aún no se armó.
 
 	public MethodEntry(String name, boolean isStatic, int position, Type returnType, Location loc) {
 		// Inicialización por defecto.
@@ -40,17 +45,6 @@ public class MethodEntry implements TableElement {
 		this.locationDecl = loc;
 	}
 
-	public MethodEntry(MethodEntry method, int position) {
-		// Clonar instancia.
-		this.name = method.name;
-		this.position = position;
-		this.isStatic = method.isStatic;
-		this.returnType = method.returnType;
-		this.arguments = new TableList<ArgumentEntry>(method.arguments);
-		this.blockVariables = new TableList<VariableEntry>(method.blockVariables);
-		this.locationDecl = method.locationDecl;
-	}
-
 	@Override
 	public String toJson() {
 		Json json = new Json();
@@ -63,6 +57,20 @@ public class MethodEntry implements TableElement {
 		return json.toString();
 	}
 
+	@Override
+	public String toJson(int position) {
+		// Los argumentos y variables se listan en el orden de una copia de sus
+		// tablas, como en el JSON de los métodos heredados clonados.
+		Json json = new Json();
+		json.addAttr("nombre", name);
+		json.addAttr("posicion", position);
+		json.addAttr("static", isStatic);
+		json.addAttr("tipoRetorno", returnType);
+		json.addAttr("argumentosFormales", new TableList<ArgumentEntry>(arguments));
+		json.addAttr("variablesBloque", new TableList<VariableEntry>(blockVariables));
+		return json.toString();
+	}
+
 	/** Agregar argumento formal al método. */
 	public void addArgument(String name, Type type, Location loc)
 			throws IllegalSelfDeclarationError, DuplicatedEntityIdError {
@@ -75,6 +83,7 @@ public class MethodEntry implements TableElement {
 
 		ArgumentEntry arg = new ArgumentEntry(name, type, arguments.size() + 1, loc);
 		arguments.put(name, arg);
+		formalTypes = null;
 	}
 
 	/**
@@ -157,6 +166,10 @@ public class MethodEntry implements TableElement {
 		return name;
 	}
 
+	public int position() {
+		return position;
+	}
+
 	public Type returnType() {
 		return returnType;
 	}
@@ -165,6 +178,19 @@ public class MethodEntry implements TableElement {
 		return isStatic;
 	}
 
+	/**
+	 * @return posición del método en la vtable de la clase (ver
+	 *         ClassEntry.vtable), igual a la del método de la superclase que
+	 *         redefine, o -1 si el método es estático.
+	 */
+	public int vtableSlot() {
+		return vtableSlot;
+	}
+
+	void setVtableSlot(int vtableSlot) {
+		this.vtableSlot = vtableSlot;
+	}
+
 	public void setStatic(boolean isStatic) {
 		this.isStatic = isStatic;
 	}
@@ -177,6 +203,23 @@ public class MethodEntry implements TableElement {
 		return arguments;
 	}
 
+	/**
+	 * @return tipos de los argumentos formales del método por posición: el del
+	 *         argumento en la posición i + 1 está en el índice i. La lista es
+	 *         inmutable y se arma una sola vez (ver ClassEntry.layout), por lo que
+	 *         validar cada llamado al método no requiere recorrer sus argumentos.
+	 */
+	public List<Type> formalTypes() {
+		if (formalTypes == null) {
+			Type[] types = new Type[arguments.size()];
+			for (ArgumentEntry arg : arguments.values()) {
+				types[arg.position() - 1] = arg.type();
+			}
+			formalTypes = Collections.unmodifiableList(Arrays.asList(types));
+		}
+		return formalTypes;
+	}
+
 	public Location locationDecl() {
 		return locationDecl;
 	}
@@ -1,7 +1,18 @@
 package semantic_analyzer.symbol_table;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import error.semantic.SemanticalError;
 import error.semantic.declarations.ConsolidationError;
@@ -20,11 +31,16 @@ import semantic_analyzer.types.Void;
 import util.Json;
 
 public class SymbolTable implements TableElement {
+	private static final int LEVEL_CHUNK_SIZE = 64; // Cantidad máxima de clases a consolidar por tarea.
+
 	private String name;
 	private TableList<ClassEntry> classes;
 	private ClassEntry currentClass = null;
 	private MethodEntry currentMethod = null;
 	private boolean isConsolidated = false;
+	private boolean isHierarchyEncoded = false; // Flag que indica si las clases tienen asignado su intervalo de herencia.
+	private ForkJoinPool consolidationPool = null; // Pool en el que se consolidan las clases, o null si es secuencial.
+	private Set<String> lookups = null; // Nombres de las clases consultadas, o null si no se registran.
 
 	public SymbolTable(String name) throws InternalError {
 		this.name = name;
@@ -35,11 +51,74 @@ public class SymbolTable implements TableElement {
 	public String toJson() {
 		Json json = new Json();
 		json.addAttr("nombre", name);
-		json.addAttr("clases", classes);
+		// Las clases comparten los órdenes de las tablas de miembros de sus
+		// superclases, por lo que se calculan una sola vez para todo el JSON.
+		Map<LayeredTableList<AttributeEntry>, List<AttributeEntry>> attributeOrders =
+				new IdentityHashMap<LayeredTableList<AttributeEntry>, List<AttributeEntry>>();
+		Map<LayeredTableList<MethodEntry>, List<MethodEntry>> methodOrders =
+				new IdentityHashMap<LayeredTableList<MethodEntry>, List<MethodEntry>>();
+		json.addAttr("clases", () -> Json.toStringArray(
+				classes.values().stream()
+						.map(entry -> entry.toJson(attributeOrders, methodOrders))
+						.toList()));
 		return json.toString();
 	}
 
+	/**
+	 * Consolida la tabla: valida la herencia de cada clase y le agrega los
+	 * atributos y métodos heredados. Si está activa la consolidación en paralelo
+	 * (ver enableParallelConsolidation) y el árbol de herencia es válido, las
+	 * clases se consolidan por niveles del árbol (ver consolidateByLevels).
+	 * Luego asigna la vtable y la disposición de atributos de cada clase (ver
+	 * layout).
+	 */
 	public void consolidate() throws SemanticalError {
+		HashMap<String, List<ClassEntry>> subclassesTree = subclassesTree();
+		if (consolidationPool != null && encodeHierarchy(subclassesTree)) {
+			consolidateByLevels(subclassesTree);
+		} else {
+			consolidateSequentially();
+			// Asignar a cada clase su intervalo en el árbol de herencia.
+			encodeHierarchy(subclassesTree);
+		}
+		isHierarchyEncoded = true;
+		layout(subclassesTree);
+	}
+
+	/**
+	 * Asigna la disposición de cada clase consolidada (ver ClassEntry.layout),
+	 * recorriendo el árbol de herencia desde las raíces para que cada superclase
+	 * tenga su disposición antes que sus subclases.
+	 */
+	private void layout(HashMap<String, List<ClassEntry>> subclassesTree) {
+		ArrayDeque<ClassEntry> pending = new ArrayDeque<ClassEntry>(); // Clases con subclases por disponer.
+		for (ClassEntry root : classes.values()) {
+			if (root.extendsFrom() == null) {
+				root.layout(null);
+				pending.push(root);
+			}
+		}
+		while (!pending.isEmpty()) {
+			ClassEntry superClass = pending.pop();
+			for (ClassEntry subclass : subclassesTree.getOrDefault(superClass.name(), Collections.emptyList())) {
+				subclass.layout(superClass);
+				pending.push(subclass);
+			}
+		}
+	}
+
+	/**
+	 * Activa la consolidación en paralelo: las clases de cada nivel del árbol de
+	 * herencia se consolidan en los hilos del pool. El resultado y el error
+	 * reportado son los mismos que los de la consolidación secuencial.
+	 * 
+	 * @param pool - pool de hilos en el que se consolidan las clases.
+	 */
+	public void enableParallelConsolidation(ForkJoinPool pool) {
+		this.consolidationPool = pool;
+	}
+
+	private void consolidateSequentially() throws SemanticalError {
 		// Key: subclass name, Value: superclass entry.
 		HashMap<String, ClassEntry> ancestorsTree = new HashMap<String, ClassEntry>();
 		Iterator<ClassEntry> classesIter = classes.values().iterator();
@@ -79,6 +158,178 @@ public class SymbolTable implements TableElement {
 		}
 	}
 
+	/**
+	 * Consolida las clases de un árbol de herencia válido (sin superclases
+	 * inexistentes ni herencia circular) nivel por nivel, desde las raíces: las
+	 * clases de un mismo nivel solo dependen de sus superclases, ya consolidadas,
+	 * por lo que se consolidan en paralelo en los hilos del pool. El tiempo
+	 * depende de la profundidad del árbol y no de la cantidad de clases.
+	 * 
+	 * Si alguna clase no se puede consolidar, sus descendientes no se
+	 * consolidan, y se lanza el error que hubiera lanzado la consolidación
+	 * secuencial (ver firstConsolidationError).
+	 */
+	private void consolidateByLevels(HashMap<String, List<ClassEntry>> subclassesTree) throws SemanticalError {
+		// Key: subclass name, Value: superclass entry.
+		HashMap<String, ClassEntry> ancestorsTree = new HashMap<String, ClassEntry>();
+		List<ClassEntry> level = new ArrayList<ClassEntry>(); // Clases del nivel actual.
+		for (ClassEntry entry : classes.values()) {
+			if (entry.extendsFrom() == null) {
+				level.add(entry);
+			} else {
+				ancestorsTree.put(entry.name(), classes.get(entry.extendsFrom()));
+			}
+		}
+
+		// Errores de cada clase que no se pudo consolidar.
+		Map<ClassEntry, Exception> errors = new ConcurrentHashMap<ClassEntry, Exception>();
+		while (!level.isEmpty()) {
+			LevelTask task = new LevelTask(level, 0, level.size(), ancestorsTree, errors);
+			if (level.size() <= LEVEL_CHUNK_SIZE) {
+				task.compute(); // No se justifica consolidar el nivel en paralelo.
+			} else {
+				consolidationPool.invoke(task);
+			}
+
+			List<ClassEntry> nextLevel = new ArrayList<ClassEntry>();
+			for (ClassEntry entry : level) {
+				nextLevel.addAll(subclassesTree.getOrDefault(entry.name(), Collections.emptyList()));
+			}
+			level = nextLevel;
+		}
+
+		if (!errors.isEmpty()) {
+			Exception error = firstConsolidationError(ancestorsTree, errors);
+			if (error instanceof ConsolidationError) {
+				throw (ConsolidationError) error;
+			}
+			throw (RuntimeException) error;
+		}
+		isConsolidated = true;
+	}
+
+	/**
+	 * Determina cuál de los errores de consolidación hubiera lanzado la
+	 * consolidación secuencial, que recorre las clases en el orden de la tabla y
+	 * consolida cada clase luego de sus ancestros: el primer error en ese orden.
+	 */
+	private Exception firstConsolidationError(HashMap<String, ClassEntry> ancestorsTree,
+			Map<ClassEntry, Exception> errors) {
+		Set<ClassEntry> visited = new HashSet<ClassEntry>();
+		ArrayDeque<ClassEntry> ancestors = new ArrayDeque<ClassEntry>();
+		for (ClassEntry entry : classes.values()) {
+			// Apilar la clase y sus ancestros aún no visitados, y recorrerlos desde la raíz.
+			for (ClassEntry ancestor = entry; ancestor != null && visited.add(ancestor); ancestor = ancestorsTree
+					.get(ancestor.name())) {
+				ancestors.push(ancestor);
+			}
+			while (!ancestors.isEmpty()) {
+				Exception error = errors.get(ancestors.pop());
+				if (error != null) {
+					return error;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Tarea que consolida un rango de las clases de un nivel del árbol de
+	 * herencia, dividiéndolo en partes de a lo sumo LEVEL_CHUNK_SIZE clases. Las
+	 * clases cuya superclase no se pudo consolidar se omiten.
+	 */
+	private class LevelTask extends RecursiveAction {
+		private final List<ClassEntry> level;
+		private final int from;
+		private final int to;
+		private final HashMap<String, ClassEntry> ancestorsTree;
+		private final Map<ClassEntry, Exception> errors;
+
+		LevelTask(List<ClassEntry> level, int from, int to, HashMap<String, ClassEntry> ancestorsTree,
+				Map<ClassEntry, Exception> errors) {
+			this.level = level;
+			this.from = from;
+			this.to = to;
+			this.ancestorsTree = ancestorsTree;
+			this.errors = errors;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > LEVEL_CHUNK_SIZE) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new LevelTask(level, from, middle, ancestorsTree, errors),
+						new LevelTask(level, middle, to, ancestorsTree, errors));
+				return;
+			}
+			for (int i = from; i < to; i++) {
+				ClassEntry entry = level.get(i);
+				ClassEntry superClass = ancestorsTree.get(entry.name());
+				if (superClass != null && !superClass.isConsolidated()) {
+					continue; // Se omite porque la superclase no se pudo consolidar.
+				}
+				try {
+					entry.consolidate(classes, ancestorsTree);
+				} catch (ConsolidationError | RuntimeException error) {
+					errors.put(entry, error);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return el árbol de herencia de la tabla. Key: superclass name, Value:
+	 *         subclass entries.
+	 */
+	private HashMap<String, List<ClassEntry>> subclassesTree() {
+		HashMap<String, List<ClassEntry>> subclassesTree = new HashMap<String, List<ClassEntry>>();
+		for (ClassEntry entry : classes.values()) {
+			if (entry.extendsFrom() != null) {
+				subclassesTree.computeIfAbsent(entry.extendsFrom(), key -> new ArrayList<ClassEntry>()).add(entry);
+			}
+		}
+		return subclassesTree;
+	}
+
+	/**
+	 * Recorre en preorden el árbol de herencia de la tabla y asigna a cada clase
+	 * su posición en el recorrido y la de su último descendiente. Una clase es
+	 * subclase de otra si su posición está dentro del intervalo de la otra, por
+	 * lo que isSubclass no necesita subir por el árbol. El recorrido usa una pila
+	 * explícita, por lo que admite jerarquías de cualquier profundidad.
+	 * 
+	 * @return true si el recorrido alcanzó todas las clases de la tabla, es
+	 *         decir, si ninguna hereda de una clase inexistente ni forma parte de
+	 *         una herencia circular.
+	 */
+	private boolean encodeHierarchy(HashMap<String, List<ClassEntry>> subclassesTree) {
+		int position = 0;
+		ArrayDeque<ClassEntry> path = new ArrayDeque<ClassEntry>(); // Clases desde la raíz hasta la actual.
+		ArrayDeque<Integer> pathPositions = new ArrayDeque<Integer>(); // Posición de cada clase del camino.
+		ArrayDeque<Iterator<ClassEntry>> pending = new ArrayDeque<Iterator<ClassEntry>>(); // Subclases por recorrer.
+		for (ClassEntry root : classes.values()) {
+			if (root.extendsFrom() != null) {
+				continue;
+			}
+			path.push(root);
+			pathPositions.push(position++);
+			pending.push(subclassesTree.getOrDefault(root.name(), Collections.emptyList()).iterator());
+			while (!pending.isEmpty()) {
+				if (pending.peek().hasNext()) {
+					ClassEntry subclass = pending.peek().next();
+					path.push(subclass);
+					pathPositions.push(position++);
+					pending.push(subclassesTree.getOrDefault(subclass.name(), Collections.emptyList()).iterator());
+				} else {
+					// Se recorrieron todos los descendientes de la clase.
+					pending.pop();
+					path.pop().setHierarchyInterval(pathPositions.pop(), position - 1);
+				}
+			}
+		}
+		return position == classes.size();
+	}
+
 	public void addClass(String name, Location loc) throws DuplicatedEntityIdError {
 		if (classes.containsKey(name)) {
 			throw new DuplicatedEntityIdError(" LA CLASE", name, loc);
@@ -86,15 +337,29 @@ public class SymbolTable implements TableElement {
 
 		ClassEntry newClass = new ClassEntry(name, loc);
 		classes.put(name, newClass);
+		isHierarchyEncoded = false;
 		currentClass = newClass;
 	}
 
+	/**
+	 * Agrega a la tabla una clase ya construida en otra tabla de símbolos, por
+	 * ejemplo al reconocer cada clase del archivo en un hilo distinto.
+	 */
+	public void addClass(ClassEntry entry) throws DuplicatedEntityIdError {
+		if (classes.containsKey(entry.name())) {
+			throw new DuplicatedEntityIdError(" LA CLASE", entry.name(), entry.locationDecl());
+		}
+		classes.put(entry.name(), entry);
+		isHierarchyEncoded = false;
+	}
+
 	public void endClass() {
 		currentClass = null;
 		currentMethod = null;
 	}
 
 	public void startClass(String name) throws InternalError {
+		recordLookup(name);
 		ClassEntry classEntry = classes.get(name);
 		if (classEntry == null) {
 			throw new InternalError("SE INTENTO ACCEDER A LA CLASE INEXISTENTE " + name);
@@ -129,6 +394,7 @@ public class SymbolTable implements TableElement {
 	public void addMain(Location loc) throws SemanticalError {
 		ClassEntry phantomClass = new ClassEntry("main", false, null, loc);
 		classes.put("main", phantomClass);
+		isHierarchyEncoded = false;
 		currentClass = phantomClass;
 		addMethod("main", true, loc);
 	}
@@ -158,7 +424,10 @@ public class SymbolTable implements TableElement {
 
 	/**
 	 * Dados dos tipos de datos o clases, valida si la primera es una subclase de la
-	 * segunda.
+	 * segunda. Luego de consolidar la tabla, compara los intervalos de ambas
+	 * clases en el árbol de herencia (ver encodeHierarchy). Si se están
+	 * registrando las clases consultadas, sube por el árbol para registrar cada
+	 * ancestro.
 	 * 
 	 * @return true si la primer clase es igual o es una subclase de la segunda,
 	 *         false en el caso contrario.
@@ -167,15 +436,25 @@ public class SymbolTable implements TableElement {
 		Boolean isSub = false;
 
 		if (!subclass.equals(new Void())) { // Void no está en la TS.
+			String className = subclass.type();
+			if (isHierarchyEncoded && lookups == null && !className.equals(superclass.type())) {
+				ClassEntry subEntry = classes.get(className);
+				ClassEntry superEntry = classes.get(superclass.type());
+				if (subEntry != null && superEntry != null && subEntry.hasHierarchyInterval()
+						&& superEntry.hasHierarchyInterval()) {
+					return subEntry.isDescendantOf(superEntry);
+				}
+			}
+
 			// Se sube por el árbol de clases desde la subclase hasta hallar la superclase o
 			// hasta llegar a la clase base Object.
-			String className = subclass.type();
 			while (className != null && !isSub) {
 				if (className.equals(superclass.type())) {
 					// Se encontró la superclase en el árbol.
 					isSub = true;
 				} else {
 					// Subir en el arbol de clases.
+					recordLookup(className);
 					className = classes.get(className).extendsFrom();
 				}
 			}
@@ -214,9 +493,29 @@ public class SymbolTable implements TableElement {
 	 *         En caso de no existir tal clase retorna null.
 	 */
 	public ClassEntry getClass(String name) {
+		recordLookup(name);
 		return classes.get(name);
 	}
 
+	/**
+	 * Registra el nombre de cada clase que se consulte en la tabla a partir de
+	 * ahora (al iniciarla, al buscarla por nombre o al recorrer sus ancestros),
+	 * exista o no. Permite conocer de qué clases depende la validación de una
+	 * parte del AST.
+	 * 
+	 * @param lookups - conjunto en el que se agregan los nombres, o null para
+	 *                dejar de registrarlos.
+	 */
+	public void recordLookups(Set<String> lookups) {
+		this.lookups = lookups;
+	}
+
+	private void recordLookup(String name) {
+		if (lookups != null) {
+			lookups.add(name);
+		}
+	}
+
 	public ClassEntry currentClass() throws InternalError {
 		if (currentClass == null) {
 			throw new InternalError("SE INTENTO ACCEDER A LA CLASE ACTUAL Y NO EXISTE.");
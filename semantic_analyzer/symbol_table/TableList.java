@@ -14,6 +14,18 @@ public class TableList<T extends TableElement> extends HashMap<String, T> implem
 		super(tablelist); // Clonar instancia.
 	}
 
+	/**
+	 * Clonar instancia insertando los elementos de a uno, en el orden de
+	 * iteración de esta tabla. A diferencia del constructor de copia, que
+	 * reserva de entrada la capacidad final, la copia crece igual que la tabla
+	 * original, por lo que conserva su orden de iteración (y el de su JSON).
+	 */
+	public TableList<T> copy() {
+		TableList<T> copy = new TableList<T>();
+		this.forEach((key, elem) -> copy.put(key, elem));
+		return copy;
+	}
+
 	@Override
 	public String toJson() {
 		return Json.toStringArray(
@@ -1,6 +1,10 @@
 package syntactic_analyzer;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import error.lexic.LexicalError;
 import error.semantic.SemanticalError;
@@ -14,12 +18,55 @@ import util.Logger;
  * excepciones que se puedan lanzar durante el proceso.
  */
 public class Executor {
+	// Tamaño mínimo en bytes del archivo de entrada para analizarlo léxicamente en
+	// un hilo propio, en paralelo con el análisis sintáctico.
+	private static final long PIPELINE_MIN_SIZE = 1024 * 1024;
+	// Tamaño mínimo en bytes del archivo de entrada para reconocer sus clases en
+	// paralelo.
+	private static final long PARALLEL_CLASSES_MIN_SIZE = 256 * 1024;
+	private static final int MAX_ERRORS = 100; // Cantidad máxima de errores sintácticos a reportar.
+
+	private final boolean parseOnly; // Flag que indica si solo se verifica la sintaxis del archivo.
+	private final boolean allErrors; // Flag que indica si se reportan todos los errores sintácticos.
+
+	public Executor() {
+		this(false, false);
+	}
+
+	/**
+	 * @param parseOnly - si es true, el análisis se detiene en la etapa
+	 *                  sintáctica: solo se reconoce la sintaxis del archivo, sin
+	 *                  construir la tabla de símbolos ni el AST ni generar los
+	 *                  archivos JSON.
+	 * @param allErrors - si es true y el archivo contiene errores sintácticos, se
+	 *                  analiza nuevamente en modo recuperación para reportarlos
+	 *                  todos. Caso contrario se reporta solo el primero.
+	 */
+	public Executor(boolean parseOnly, boolean allErrors) {
+		this.parseOnly = parseOnly;
+		this.allErrors = allErrors;
+	}
+
 	public void run(String inputPath, String outputPath) {
 		String basePath = inputPath.substring(0, inputPath.length() - 3); // Eliminar extensión .rs
 
 		try {
+			long inputSize = new File(inputPath).length();
+			boolean multiprocessor = Runtime.getRuntime().availableProcessors() > 1;
+			boolean pipelined = inputSize >= PIPELINE_MIN_SIZE && multiprocessor;
+
 			// Patrón Singleton: se utiliza una única instancia del analizador.
-			SyntacticAnalyzer syntactic = new SyntacticAnalyzer(inputPath);
+			SyntacticAnalyzer syntactic = new SyntacticAnalyzer(inputPath, pipelined);
+			if (inputSize >= PARALLEL_CLASSES_MIN_SIZE && multiprocessor) {
+				syntactic.enableParallelClasses(ForkJoinPool.commonPool());
+			}
+
+			if (parseOnly) {
+				syntactic.enableParseOnly();
+				syntactic.run();
+				Logger.syntacticSuccess(outputPath);
+				return;
+			}
 
 			String tsJson = syntactic.run();
 			String astJson = syntactic.getAstJson();
@@ -34,7 +81,13 @@ public class Executor {
 			Logger.lexicError(error, outputPath);
 			System.exit(1);
 		} catch (SyntacticalError error) {
-			Logger.syntacticError(error, outputPath);
+			if (allErrors) {
+				// Se analiza nuevamente el archivo en modo recuperación para reportar todos
+				// los errores sintácticos de una vez.
+				Logger.syntacticErrors(collectErrors(inputPath, error), outputPath);
+			} else {
+				Logger.syntacticError(error, outputPath);
+			}
 			System.exit(1);
 		} catch (ASTError error) {
 			Logger.semanticSentError(error, outputPath);
@@ -42,6 +95,40 @@ public class Executor {
 		} catch (SemanticalError error) {
 			Logger.semanticDeclError(error, outputPath);
 			System.exit(1);
+		} catch (StackOverflowError error) {
+			// El reconocimiento y la validación de sentencias no dependen de la
+			// profundidad de anidamiento, pero la validación de expresiones y la
+			// generación del JSON del AST son recursivas.
+			System.out.println("\nERROR: EL ANIDAMIENTO DE EXPRESIONES O SENTENCIAS DEL ARCHIVO " + inputPath
+					+ " EXCEDE LA PILA DISPONIBLE PARA VALIDARLO O GENERAR SU AST. AUMENTE LA PILA DE LA JVM (-Xss).");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Analiza sintácticamente el archivo de entrada completo en modo recuperación
+	 * de errores.
+	 * 
+	 * @param inputPath  - ruta del archivo de entrada.
+	 * @param firstError - primer error sintáctico del archivo, que se reporta si
+	 *                   el nuevo análisis no registra ninguno.
+	 * @return los errores sintácticos del archivo, en orden y hasta MAX_ERRORS.
+	 */
+	private List<SyntacticalError> collectErrors(String inputPath, SyntacticalError firstError) {
+		List<SyntacticalError> errors = Collections.emptyList();
+		try {
+			SyntacticAnalyzer syntactic = new SyntacticAnalyzer(inputPath);
+			syntactic.enableErrorRecovery(MAX_ERRORS);
+			if (parseOnly) {
+				syntactic.enableParseOnly();
+			}
+			errors = syntactic.getErrors();
+			syntactic.run();
+		} catch (FileNotFoundException | LexicalError | SyntacticalError | SemanticalError error) {
+			// El análisis se detuvo: por alcanzar la cantidad máxima de errores, por un
+			// error del que no fue posible recuperarse o por un error léxico o semántico
+			// posterior a los errores sintácticos ya registrados.
 		}
+		return errors.isEmpty() ? Collections.singletonList(firstError) : errors;
 	}
 }
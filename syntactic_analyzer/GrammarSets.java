@@ -0,0 +1,450 @@
+package syntactic_analyzer;
+
+import lexic_analyzer.TokenKind;
+
+/**
+ * Conjuntos de primeros y siguientes de la gramática de TinyRust+, como
+ * máscaras de bits de tipos de token (ver TokenKind.maskOf).
+ *
+ * ARCHIVO GENERADO por GrammarSetsGenerator a partir de grammar.txt. No debe
+ * modificarse a mano: ante un cambio en la gramática, debe generarse nuevamente.
+ *
+ * Los terminales self, main y create se reconocen como id y el analizador
+ * sintáctico los verifica por lexema, por lo que no forman parte de las máscaras.
+ *
+ * Conflictos LL(1) de la gramática, que el analizador sintáctico resuelve
+ * factorizando las reglas o mirando el token siguiente:
+ * - Argumentos-Formales: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "("
+ * - Lista-Argumentos-Formales: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "Bool",
+ *   "I32", "Str", "Char", "idClase", "Array"
+ * - Lista-Declaración-Variables: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON
+ *   "idMétodoVariable"
+ * - Sentencia: LAS ALTERNATIVAS 7 Y 8 COMIENZAN CON "return"
+ * - ElseOp: LA ALTERNATIVA 1 COMIENZA CON SIGUIENTES DE LA REGLA: "else"
+ * - Asignación-Variable-Simple: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON
+ *   "idMétodoVariable"
+ * - Lista-Expresiones: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "+", "-", "!",
+ *   "nil", "true", "false", "intLiteral", "stringLiteral", "charLiteral", "(",
+ *   "self", "idMétodoVariable", "idClase", "new"
+ * - ExpCompuesta: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "+", "-", "!", "nil",
+ *   "true", "false", "intLiteral", "stringLiteral", "charLiteral", "(", "self",
+ *   "idMétodoVariable", "idClase", "new"
+ * - Operando: LAS ALTERNATIVAS 2 Y 3 COMIENZAN CON "(", "self",
+ *   "idMétodoVariable", "idClase", "new"
+ * - Primario: LAS ALTERNATIVAS 3 Y 4 COMIENZAN CON "idMétodoVariable"
+ * - AccesoVar: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "idMétodoVariable"
+ * - Llamada-Constructor: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "new"
+ * - Argumentos-Actuales: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "("
+ * - Encadenado: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON "."
+ * - Acceso-Variable-Encadenado: LAS ALTERNATIVAS 1 Y 2 COMIENZAN CON
+ *   "idMétodoVariable"
+ * - EncadenadoOp: LA ALTERNATIVA 1 COMIENZA CON SIGUIENTES DE LA REGLA: "."
+ */
+final class GrammarSets {
+	// Start
+	static final long FIRST_START = TokenKind.maskOf(TokenKind.P_CLASS, TokenKind.P_FUNC);
+	static final long FOLLOW_START = TokenKind.maskOf(TokenKind.EOF);
+
+	// Clases (deriva LAMBDA)
+	static final long FIRST_CLASES = TokenKind.maskOf(TokenKind.P_CLASS);
+	static final long FOLLOW_CLASES = TokenKind.maskOf(TokenKind.P_FUNC);
+
+	// Main
+	static final long FIRST_MAIN = TokenKind.maskOf(TokenKind.P_FUNC);
+	static final long FOLLOW_MAIN = TokenKind.maskOf(TokenKind.EOF);
+
+	// Miembros (deriva LAMBDA)
+	static final long FIRST_MIEMBROS = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_FUNC, TokenKind.P_STATIC,
+			TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR,
+			TokenKind.P_ARRAY);
+	static final long FOLLOW_MIEMBROS = TokenKind.maskOf(TokenKind.CLOSE_CURLY);
+
+	// Clase
+	static final long FIRST_CLASE = TokenKind.maskOf(TokenKind.P_CLASS);
+	static final long FOLLOW_CLASE = TokenKind.maskOf(TokenKind.P_CLASS, TokenKind.P_FUNC);
+
+	// ClaseHerenciaOp
+	static final long FIRST_CLASE_HERENCIA_OP = TokenKind.maskOf(TokenKind.COLON, TokenKind.OPEN_CURLY);
+	static final long FOLLOW_CLASE_HERENCIA_OP = TokenKind.maskOf(TokenKind.P_CLASS, TokenKind.P_FUNC);
+
+	// Herencia
+	static final long FIRST_HERENCIA = TokenKind.maskOf(TokenKind.COLON);
+	static final long FOLLOW_HERENCIA = TokenKind.maskOf(TokenKind.OPEN_CURLY);
+
+	// Miembro
+	static final long FIRST_MIEMBRO = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_FUNC, TokenKind.P_STATIC,
+			TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR,
+			TokenKind.P_ARRAY);
+	static final long FOLLOW_MIEMBRO = TokenKind.maskOf(TokenKind.CLOSE_CURLY, TokenKind.ID_TYPE, TokenKind.P_FUNC,
+			TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Atributo
+	static final long FIRST_ATRIBUTO = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_PUB, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_ATRIBUTO = TokenKind.maskOf(TokenKind.CLOSE_CURLY, TokenKind.ID_TYPE, TokenKind.P_FUNC,
+			TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Constructor
+	static final long FIRST_CONSTRUCTOR = 0L;
+	static final long FOLLOW_CONSTRUCTOR = TokenKind.maskOf(TokenKind.CLOSE_CURLY, TokenKind.ID_TYPE, TokenKind.P_FUNC,
+			TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Método
+	static final long FIRST_METODO = TokenKind.maskOf(TokenKind.P_FUNC, TokenKind.P_STATIC);
+	static final long FOLLOW_METODO = TokenKind.maskOf(TokenKind.CLOSE_CURLY, TokenKind.ID_TYPE, TokenKind.P_FUNC,
+			TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Argumentos-Formales
+	static final long FIRST_ARGUMENTOS_FORMALES = TokenKind.maskOf(TokenKind.OPEN_PAR);
+	static final long FOLLOW_ARGUMENTOS_FORMALES = TokenKind.maskOf(TokenKind.RETURN_TYPE, TokenKind.OPEN_CURLY);
+
+	// Lista-Argumentos-Formales
+	static final long FIRST_LISTA_ARGUMENTOS_FORMALES = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_LISTA_ARGUMENTOS_FORMALES = TokenKind.maskOf(TokenKind.CLOSE_PAR);
+
+	// Argumento-Formal
+	static final long FIRST_ARGUMENTO_FORMAL = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_ARGUMENTO_FORMAL = TokenKind.maskOf(TokenKind.COMMA, TokenKind.CLOSE_PAR);
+
+	// Forma-Método
+	static final long FIRST_FORMA_METODO = TokenKind.maskOf(TokenKind.P_STATIC);
+	static final long FOLLOW_FORMA_METODO = TokenKind.maskOf(TokenKind.P_FUNC);
+
+	// Visibilidad
+	static final long FIRST_VISIBILIDAD = TokenKind.maskOf(TokenKind.P_PUB);
+	static final long FOLLOW_VISIBILIDAD = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL, TokenKind.P_T_I32,
+			TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Tipo-Método
+	static final long FIRST_TIPO_METODO = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_VOID, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_TIPO_METODO = TokenKind.maskOf(TokenKind.OPEN_CURLY);
+
+	// Tipo
+	static final long FIRST_TIPO = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL, TokenKind.P_T_I32,
+			TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_TIPO = TokenKind.maskOf(TokenKind.COLON, TokenKind.OPEN_CURLY);
+
+	// Tipo-Primitivo
+	static final long FIRST_TIPO_PRIMITIVO = TokenKind.maskOf(TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR);
+	static final long FOLLOW_TIPO_PRIMITIVO = TokenKind.maskOf(TokenKind.COLON, TokenKind.OPEN_CURLY,
+			TokenKind.OPEN_BRACKET);
+
+	// Tipo-Referencia
+	static final long FIRST_TIPO_REFERENCIA = TokenKind.maskOf(TokenKind.ID_TYPE);
+	static final long FOLLOW_TIPO_REFERENCIA = TokenKind.maskOf(TokenKind.COLON, TokenKind.OPEN_CURLY);
+
+	// Tipo-Array
+	static final long FIRST_TIPO_ARRAY = TokenKind.maskOf(TokenKind.P_ARRAY);
+	static final long FOLLOW_TIPO_ARRAY = TokenKind.maskOf(TokenKind.COLON, TokenKind.OPEN_CURLY);
+
+	// Lista-Declaración-Variables
+	static final long FIRST_LISTA_DECLARACION_VARIABLES = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_LISTA_DECLARACION_VARIABLES = TokenKind.maskOf(TokenKind.SEMICOLON);
+
+	// Bloque-Método
+	static final long FIRST_BLOQUE_METODO = TokenKind.maskOf(TokenKind.OPEN_CURLY);
+	static final long FOLLOW_BLOQUE_METODO = TokenKind.maskOf(TokenKind.EOF, TokenKind.CLOSE_CURLY, TokenKind.ID_TYPE,
+			TokenKind.P_FUNC, TokenKind.P_STATIC, TokenKind.P_PUB, TokenKind.P_T_BOOL, TokenKind.P_T_I32,
+			TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Decl-Var-LocalesN (deriva LAMBDA)
+	static final long FIRST_DECL_VAR_LOCALES_N = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_DECL_VAR_LOCALES_N = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY,
+			TokenKind.CLOSE_CURLY, TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.P_IF, TokenKind.P_WHILE,
+			TokenKind.P_RETURN);
+
+	// Decl-Var-Locales
+	static final long FIRST_DECL_VAR_LOCALES = TokenKind.maskOf(TokenKind.ID_TYPE, TokenKind.P_T_BOOL,
+			TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+	static final long FOLLOW_DECL_VAR_LOCALES = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY,
+			TokenKind.CLOSE_CURLY, TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.ID_TYPE, TokenKind.P_IF,
+			TokenKind.P_WHILE, TokenKind.P_RETURN, TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR,
+			TokenKind.P_T_CHAR, TokenKind.P_ARRAY);
+
+	// Sentencias (deriva LAMBDA)
+	static final long FIRST_SENTENCIAS = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY, TokenKind.OPEN_PAR,
+			TokenKind.ID, TokenKind.P_IF, TokenKind.P_WHILE, TokenKind.P_RETURN);
+	static final long FOLLOW_SENTENCIAS = TokenKind.maskOf(TokenKind.CLOSE_CURLY);
+
+	// Sentencia
+	static final long FIRST_SENTENCIA = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY, TokenKind.OPEN_PAR,
+			TokenKind.ID, TokenKind.P_IF, TokenKind.P_WHILE, TokenKind.P_RETURN);
+	static final long FOLLOW_SENTENCIA = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY,
+			TokenKind.CLOSE_CURLY, TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.P_IF, TokenKind.P_ELSE,
+			TokenKind.P_WHILE, TokenKind.P_RETURN);
+
+	// ElseOp (deriva LAMBDA)
+	static final long FIRST_ELSE_OP = TokenKind.maskOf(TokenKind.P_ELSE);
+	static final long FOLLOW_ELSE_OP = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY,
+			TokenKind.CLOSE_CURLY, TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.P_IF, TokenKind.P_ELSE,
+			TokenKind.P_WHILE, TokenKind.P_RETURN);
+
+	// Bloque
+	static final long FIRST_BLOQUE = TokenKind.maskOf(TokenKind.OPEN_CURLY);
+	static final long FOLLOW_BLOQUE = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY, TokenKind.CLOSE_CURLY,
+			TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.P_IF, TokenKind.P_ELSE, TokenKind.P_WHILE, TokenKind.P_RETURN);
+
+	// Asignación
+	static final long FIRST_ASIGNACION = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_ASIGNACION = TokenKind.maskOf(TokenKind.SEMICOLON);
+
+	// Asignación-Variable-Simple
+	static final long FIRST_ASIGNACION_VARIABLE_SIMPLE = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_ASIGNACION_VARIABLE_SIMPLE = TokenKind.maskOf(TokenKind.ASSIGNMENT);
+
+	// Encadenado-SimpleN (deriva LAMBDA)
+	static final long FIRST_ENCADENADO_SIMPLE_N = TokenKind.maskOf(TokenKind.DOT);
+	static final long FOLLOW_ENCADENADO_SIMPLE_N = TokenKind.maskOf(TokenKind.ASSIGNMENT);
+
+	// Asignación-Self-Simple
+	static final long FIRST_ASIGNACION_SELF_SIMPLE = 0L;
+	static final long FOLLOW_ASIGNACION_SELF_SIMPLE = TokenKind.maskOf(TokenKind.ASSIGNMENT);
+
+	// Encadenado-Simple
+	static final long FIRST_ENCADENADO_SIMPLE = TokenKind.maskOf(TokenKind.DOT);
+	static final long FOLLOW_ENCADENADO_SIMPLE = TokenKind.maskOf(TokenKind.ASSIGNMENT, TokenKind.DOT);
+
+	// Sentencia-Simple
+	static final long FIRST_SENTENCIA_SIMPLE = TokenKind.maskOf(TokenKind.OPEN_PAR);
+	static final long FOLLOW_SENTENCIA_SIMPLE = TokenKind.maskOf(TokenKind.SEMICOLON);
+
+	// Lista-Expresiones
+	static final long FIRST_LISTA_EXPRESIONES = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_LISTA_EXPRESIONES = TokenKind.maskOf(TokenKind.CLOSE_PAR);
+
+	// Expresión
+	static final long FIRST_EXPRESION = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXPRESION = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR,
+			TokenKind.CLOSE_BRACKET);
+
+	// ExpOr
+	static final long FIRST_EXP_OR = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_OR = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR,
+			TokenKind.CLOSE_BRACKET);
+
+	// ExpOrP (deriva LAMBDA)
+	static final long FIRST_EXP_OR_P = TokenKind.maskOf(TokenKind.OP_OR);
+	static final long FOLLOW_EXP_OR_P = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR,
+			TokenKind.CLOSE_BRACKET);
+
+	// ExpAnd
+	static final long FIRST_EXP_AND = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_AND = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.SEMICOLON, TokenKind.COMMA,
+			TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpAndP (deriva LAMBDA)
+	static final long FIRST_EXP_AND_P = TokenKind.maskOf(TokenKind.OP_AND);
+	static final long FOLLOW_EXP_AND_P = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.SEMICOLON, TokenKind.COMMA,
+			TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpIgual
+	static final long FIRST_EXP_IGUAL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_IGUAL = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpIgualP (deriva LAMBDA)
+	static final long FIRST_EXP_IGUAL_P = TokenKind.maskOf(TokenKind.OP_EQ, TokenKind.OP_NOT_EQ);
+	static final long FOLLOW_EXP_IGUAL_P = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpCompuesta
+	static final long FIRST_EXP_COMPUESTA = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_COMPUESTA = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpAdd
+	static final long FIRST_EXP_ADD = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_ADD = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpAddP (deriva LAMBDA)
+	static final long FIRST_EXP_ADD_P = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB);
+	static final long FOLLOW_EXP_ADD_P = TokenKind.maskOf(TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpMul
+	static final long FIRST_EXP_MUL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_MUL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_OR,
+			TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ,
+			TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR,
+			TokenKind.CLOSE_BRACKET);
+
+	// ExpMulP (deriva LAMBDA)
+	static final long FIRST_EXP_MUL_P = TokenKind.maskOf(TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD);
+	static final long FOLLOW_EXP_MUL_P = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_OR,
+			TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ,
+			TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.CLOSE_PAR,
+			TokenKind.CLOSE_BRACKET);
+
+	// ExpUn
+	static final long FIRST_EXP_UN = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_EXP_UN = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// OpIgual
+	static final long FIRST_OP_IGUAL = TokenKind.maskOf(TokenKind.OP_EQ, TokenKind.OP_NOT_EQ);
+	static final long FOLLOW_OP_IGUAL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+
+	// OpCompuesto
+	static final long FIRST_OP_COMPUESTO = TokenKind.maskOf(TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT,
+			TokenKind.OP_GREAT_EQ);
+	static final long FOLLOW_OP_COMPUESTO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+
+	// OpAdd
+	static final long FIRST_OP_ADD = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB);
+	static final long FOLLOW_OP_ADD = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+
+	// OpUnario
+	static final long FIRST_OP_UNARIO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT);
+	static final long FOLLOW_OP_UNARIO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+
+	// OpMul
+	static final long FIRST_OP_MUL = TokenKind.maskOf(TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD);
+	static final long FOLLOW_OP_MUL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT,
+			TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR, TokenKind.ID,
+			TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+
+	// Operando
+	static final long FIRST_OPERANDO = TokenKind.maskOf(TokenKind.OPEN_PAR, TokenKind.LIT_INT, TokenKind.LIT_STRING,
+			TokenKind.LIT_CHAR, TokenKind.ID, TokenKind.ID_TYPE, TokenKind.P_NEW, TokenKind.P_NIL, TokenKind.P_TRUE,
+			TokenKind.P_FALSE);
+	static final long FOLLOW_OPERANDO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Literal
+	static final long FIRST_LITERAL = TokenKind.maskOf(TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR,
+			TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+	static final long FOLLOW_LITERAL = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Primario
+	static final long FIRST_PRIMARIO = TokenKind.maskOf(TokenKind.OPEN_PAR, TokenKind.ID, TokenKind.ID_TYPE,
+			TokenKind.P_NEW);
+	static final long FOLLOW_PRIMARIO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// ExpresionParentizada
+	static final long FIRST_EXPRESION_PARENTIZADA = TokenKind.maskOf(TokenKind.OPEN_PAR);
+	static final long FOLLOW_EXPRESION_PARENTIZADA = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// AccesoSelf
+	static final long FIRST_ACCESO_SELF = 0L;
+	static final long FOLLOW_ACCESO_SELF = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// AccesoVar
+	static final long FIRST_ACCESO_VAR = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_ACCESO_VAR = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Llamada-Método
+	static final long FIRST_LLAMADA_METODO = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_LLAMADA_METODO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Llamada-Método-Estático
+	static final long FIRST_LLAMADA_METODO_ESTATICO = TokenKind.maskOf(TokenKind.ID_TYPE);
+	static final long FOLLOW_LLAMADA_METODO_ESTATICO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Llamada-Constructor
+	static final long FIRST_LLAMADA_CONSTRUCTOR = TokenKind.maskOf(TokenKind.P_NEW);
+	static final long FOLLOW_LLAMADA_CONSTRUCTOR = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Argumentos-Actuales
+	static final long FIRST_ARGUMENTOS_ACTUALES = TokenKind.maskOf(TokenKind.OPEN_PAR);
+	static final long FOLLOW_ARGUMENTOS_ACTUALES = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Encadenado
+	static final long FIRST_ENCADENADO = TokenKind.maskOf(TokenKind.DOT);
+	static final long FOLLOW_ENCADENADO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Llamada-Método-Encadenado
+	static final long FIRST_LLAMADA_METODO_ENCADENADO = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_LLAMADA_METODO_ENCADENADO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// Acceso-Variable-Encadenado
+	static final long FIRST_ACCESO_VARIABLE_ENCADENADO = TokenKind.maskOf(TokenKind.ID);
+	static final long FOLLOW_ACCESO_VARIABLE_ENCADENADO = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB,
+			TokenKind.OP_PROD, TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ,
+			TokenKind.OP_NOT_EQ, TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ,
+			TokenKind.SEMICOLON, TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	// EncadenadoOp (deriva LAMBDA)
+	static final long FIRST_ENCADENADO_OP = TokenKind.maskOf(TokenKind.DOT);
+	static final long FOLLOW_ENCADENADO_OP = TokenKind.maskOf(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_PROD,
+			TokenKind.OP_DIV, TokenKind.OP_MOD, TokenKind.OP_OR, TokenKind.OP_AND, TokenKind.OP_EQ, TokenKind.OP_NOT_EQ,
+			TokenKind.OP_LESS, TokenKind.OP_LESS_EQ, TokenKind.OP_GREAT, TokenKind.OP_GREAT_EQ, TokenKind.SEMICOLON,
+			TokenKind.COMMA, TokenKind.DOT, TokenKind.CLOSE_PAR, TokenKind.CLOSE_BRACKET);
+
+	private GrammarSets() {
+	}
+}
@@ -0,0 +1,462 @@
+package syntactic_analyzer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lexic_analyzer.TokenKind;
+
+/**
+ * Generador de la clase GrammarSets a partir de la gramática de TinyRust+.
+ *
+ * Lee grammar.txt, calcula los conjuntos de primeros y siguientes de cada no
+ * terminal, verifica si la gramática es LL(1) y escribe una clase Java con un
+ * conjunto por constante, representado como máscara de bits de tipos de token
+ * (ver TokenKind.maskOf). Así, el analizador sintáctico resuelve cada decisión
+ * con una única operación AND y los conjuntos no se mantienen a mano.
+ *
+ * Debe ejecutarse desde el directorio raiz del proyecto luego de modificar la
+ * gramática:
+ *
+ * <pre>
+ * java syntactic_analyzer.GrammarSetsGenerator grammar.txt syntactic_analyzer/GrammarSets.java
+ * </pre>
+ *
+ * Los conflictos LL(1) hallados no impiden la generación: se muestran por
+ * pantalla y se listan en el comentario de la clase generada, ya que el
+ * analizador sintáctico los resuelve factorizando las reglas o mirando el
+ * token siguiente.
+ */
+public class GrammarSetsGenerator {
+	private static final String LAMBDA = "LAMBDA"; // Producción vacía.
+	private static final String END = "EOF"; // Fin de la entrada, siguiente del símbolo inicial.
+	private static final int LINE_WIDTH = 120; // Ancho máximo de las lineas generadas.
+
+	// Terminales de la gramática que no coinciden con el lexema de un tipo de token.
+	private static final Map<String, TokenKind> NAMED_TERMINALS = new LinkedHashMap<String, TokenKind>();
+	static {
+		NAMED_TERMINALS.put("idClase", TokenKind.ID_TYPE);
+		NAMED_TERMINALS.put("idMétodoVariable", TokenKind.ID);
+		NAMED_TERMINALS.put("intLiteral", TokenKind.LIT_INT);
+		NAMED_TERMINALS.put("stringLiteral", TokenKind.LIT_STRING);
+		NAMED_TERMINALS.put("charLiteral", TokenKind.LIT_CHAR);
+		NAMED_TERMINALS.put(END, TokenKind.EOF);
+	}
+
+	// Terminales que el analizador léxico reconoce como id y el analizador
+	// sintáctico verifica por lexema. No forman parte de las máscaras.
+	private static final Set<String> LEXEMA_TERMINALS = new HashSet<String>();
+	static {
+		LEXEMA_TERMINALS.add("self");
+		LEXEMA_TERMINALS.add("main");
+		LEXEMA_TERMINALS.add("create");
+	}
+
+	// Reglas de la gramática en orden de aparición: cada no terminal tiene una
+	// lista de alternativas y cada alternativa es una lista de símbolos. Los
+	// terminales se guardan con sus comillas y LAMBDA como alternativa vacía.
+	private Map<String, List<List<String>>> rules = new LinkedHashMap<String, List<List<String>>>();
+	private Map<String, Set<String>> firsts = new LinkedHashMap<String, Set<String>>();
+	private Map<String, Set<String>> follows = new LinkedHashMap<String, Set<String>>();
+	private Set<String> nullables = new HashSet<String>();
+	private List<String> conflicts = new ArrayList<String>();
+
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.out.println("USO: java syntactic_analyzer.GrammarSetsGenerator <GRAMATICA> <CLASE_DE_SALIDA>");
+			System.exit(1);
+		}
+		try {
+			GrammarSetsGenerator generator = new GrammarSetsGenerator();
+			generator.parseGrammar(Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8));
+			generator.computeFirsts();
+			generator.computeFollows();
+			generator.checkLL1();
+
+			Files.write(Paths.get(args[1]), generator.generateClass().getBytes(StandardCharsets.UTF_8));
+
+			for (String conflict : generator.conflicts) {
+				System.out.println("CONFLICTO LL(1): " + conflict);
+			}
+			System.out.println("GENERADO: " + args[1]);
+		} catch (IOException e) {
+			System.out.println("ERROR IO: " + e.getMessage());
+			System.exit(1);
+		} catch (IllegalArgumentException e) {
+			System.out.println("ERROR: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Interpreta las reglas de la gramática. Cada regla tiene la forma
+	 * {@code NoTerminal ::= alternativa | alternativa}, y puede continuar en las
+	 * lineas siguientes si estas comienzan con espacios. Las lineas que comienzan
+	 * con # son comentarios.
+	 */
+	private void parseGrammar(List<String> lines) {
+		String current = null;
+		for (String line : lines) {
+			if (line.trim().isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			String body;
+			if (Character.isWhitespace(line.charAt(0))) {
+				// Continuación de la regla anterior.
+				if (current == null) {
+					throw new IllegalArgumentException("ALTERNATIVA SIN REGLA: " + line.trim());
+				}
+				body = line.trim();
+				if (body.startsWith("|")) {
+					body = body.substring(1);
+				}
+			} else {
+				// Se aceptan tanto ::= como := para separar el no terminal de su definición.
+				int separator = line.indexOf("::=");
+				int separatorLength = 3;
+				if (separator < 0) {
+					separator = line.indexOf(":=");
+					separatorLength = 2;
+				}
+				if (separator < 0) {
+					throw new IllegalArgumentException("REGLA MAL FORMADA: " + line);
+				}
+				current = line.substring(0, separator).trim();
+				body = line.substring(separator + separatorLength);
+				if (!rules.containsKey(current)) {
+					rules.put(current, new ArrayList<List<String>>());
+				}
+			}
+			rules.get(current).addAll(parseAlternatives(body));
+		}
+
+		// Todo símbolo sin comillas debe ser un no terminal definido.
+		for (Map.Entry<String, List<List<String>>> rule : rules.entrySet()) {
+			for (List<String> alternative : rule.getValue()) {
+				for (String symbol : alternative) {
+					if (!isTerminal(symbol) && !rules.containsKey(symbol)) {
+						throw new IllegalArgumentException(
+								"NO TERMINAL SIN DEFINIR: " + symbol + " EN " + rule.getKey());
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Separa el cuerpo de una regla en alternativas y cada alternativa en
+	 * símbolos. Los | y espacios dentro de comillas forman parte del terminal.
+	 */
+	private List<List<String>> parseAlternatives(String body) {
+		List<List<String>> alternatives = new ArrayList<List<String>>();
+		List<String> alternative = new ArrayList<String>();
+		StringBuilder symbol = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i <= body.length(); i++) {
+			char currentChar = i < body.length() ? body.charAt(i) : '|';
+			if (currentChar == '"') {
+				quoted = !quoted;
+				symbol.append(currentChar);
+			} else if (quoted) {
+				symbol.append(currentChar);
+			} else if (Character.isWhitespace(currentChar) || currentChar == '|') {
+				if (symbol.length() > 0) {
+					if (!symbol.toString().equals(LAMBDA)) {
+						alternative.add(symbol.toString());
+					}
+					symbol.setLength(0);
+				}
+				if (currentChar == '|') {
+					alternatives.add(alternative);
+					alternative = new ArrayList<String>();
+				}
+			} else {
+				symbol.append(currentChar);
+			}
+		}
+		return alternatives;
+	}
+
+	private static boolean isTerminal(String symbol) {
+		return symbol.startsWith("\"");
+	}
+
+	/**
+	 * Calcula los primeros de cada no terminal y cuáles derivan la cadena vacía,
+	 * iterando hasta que ningún conjunto cambie.
+	 */
+	private void computeFirsts() {
+		for (String nonTerminal : rules.keySet()) {
+			firsts.put(nonTerminal, new LinkedHashSet<String>());
+		}
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Map.Entry<String, List<List<String>>> rule : rules.entrySet()) {
+				for (List<String> alternative : rule.getValue()) {
+					changed |= firsts.get(rule.getKey()).addAll(firstOf(alternative, 0));
+					if (isNullable(alternative, 0) && nullables.add(rule.getKey())) {
+						changed = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calcula los siguientes de cada no terminal, iterando hasta que ningún
+	 * conjunto cambie. El siguiente del símbolo inicial es el fin de la entrada.
+	 */
+	private void computeFollows() {
+		for (String nonTerminal : rules.keySet()) {
+			follows.put(nonTerminal, new LinkedHashSet<String>());
+		}
+		follows.get(rules.keySet().iterator().next()).add("\"" + END + "\"");
+
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Map.Entry<String, List<List<String>>> rule : rules.entrySet()) {
+				for (List<String> alternative : rule.getValue()) {
+					for (int i = 0; i < alternative.size(); i++) {
+						String symbol = alternative.get(i);
+						if (isTerminal(symbol)) {
+							continue;
+						}
+						Set<String> follow = follows.get(symbol);
+						changed |= follow.addAll(firstOf(alternative, i + 1));
+						if (isNullable(alternative, i + 1)) {
+							changed |= follow.addAll(follows.get(rule.getKey()));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/** @return los primeros de la secuencia de símbolos a partir de la posición dada. */
+	private Set<String> firstOf(List<String> symbols, int from) {
+		Set<String> result = new LinkedHashSet<String>();
+		for (int i = from; i < symbols.size(); i++) {
+			String symbol = symbols.get(i);
+			if (isTerminal(symbol)) {
+				result.add(symbol);
+				return result;
+			}
+			result.addAll(firsts.get(symbol));
+			if (!nullables.contains(symbol)) {
+				return result;
+			}
+		}
+		return result;
+	}
+
+	/** @return true si la secuencia de símbolos a partir de la posición dada deriva la cadena vacía. */
+	private boolean isNullable(List<String> symbols, int from) {
+		for (int i = from; i < symbols.size(); i++) {
+			if (isTerminal(symbols.get(i)) || !nullables.contains(symbols.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Verifica la condición LL(1) en cada no terminal: los primeros de sus
+	 * alternativas deben ser disjuntos y, si una alternativa deriva la cadena
+	 * vacía, los primeros de las demás deben ser disjuntos de sus siguientes.
+	 * Los terminales se comparan por lexema, ya que el analizador sintáctico
+	 * distingue self, main y create de los demás identificadores.
+	 */
+	private void checkLL1() {
+		for (Map.Entry<String, List<List<String>>> rule : rules.entrySet()) {
+			List<List<String>> alternatives = rule.getValue();
+			for (int i = 0; i < alternatives.size(); i++) {
+				for (int j = i + 1; j < alternatives.size(); j++) {
+					Set<String> shared = new LinkedHashSet<String>(firstOf(alternatives.get(i), 0));
+					shared.retainAll(firstOf(alternatives.get(j), 0));
+					if (!shared.isEmpty()) {
+						conflicts.add(rule.getKey() + ": LAS ALTERNATIVAS " + (i + 1) + " Y " + (j + 1)
+								+ " COMIENZAN CON " + String.join(", ", shared));
+					}
+					if (isNullable(alternatives.get(i), 0) && isNullable(alternatives.get(j), 0)) {
+						conflicts.add(rule.getKey() + ": LAS ALTERNATIVAS " + (i + 1) + " Y " + (j + 1)
+								+ " DERIVAN LAMBDA");
+					}
+				}
+				if (isNullable(alternatives.get(i), 0)) {
+					for (int j = 0; j < alternatives.size(); j++) {
+						Set<String> shared = new LinkedHashSet<String>(firstOf(alternatives.get(j), 0));
+						shared.retainAll(follows.get(rule.getKey()));
+						if (j != i && !shared.isEmpty()) {
+							conflicts.add(rule.getKey() + ": LA ALTERNATIVA " + (j + 1)
+									+ " COMIENZA CON SIGUIENTES DE LA REGLA: " + String.join(", ", shared));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/** @return el código fuente de la clase GrammarSets. */
+	private String generateClass() {
+		StringBuilder code = new StringBuilder();
+		code.append("package syntactic_analyzer;\n\n");
+		code.append("import lexic_analyzer.TokenKind;\n\n");
+		code.append("/**\n");
+		code.append(" * Conjuntos de primeros y siguientes de la gramática de TinyRust+, como\n");
+		code.append(" * máscaras de bits de tipos de token (ver TokenKind.maskOf).\n");
+		code.append(" *\n");
+		code.append(" * ARCHIVO GENERADO por GrammarSetsGenerator a partir de grammar.txt. No debe\n");
+		code.append(" * modificarse a mano: ante un cambio en la gramática, debe generarse nuevamente.\n");
+		code.append(" *\n");
+		code.append(" * Los terminales self, main y create se reconocen como id y el analizador\n");
+		code.append(" * sintáctico los verifica por lexema, por lo que no forman parte de las máscaras.\n");
+		if (!conflicts.isEmpty()) {
+			code.append(" *\n");
+			code.append(" * Conflictos LL(1) de la gramática, que el analizador sintáctico resuelve\n");
+			code.append(" * factorizando las reglas o mirando el token siguiente:\n");
+			for (String conflict : conflicts) {
+				appendComment(code, conflict);
+			}
+		}
+		code.append(" */\n");
+		code.append("final class GrammarSets {\n");
+
+		boolean first = true;
+		for (Map.Entry<String, List<List<String>>> rule : rules.entrySet()) {
+			if (!first) {
+				code.append("\n");
+			}
+			first = false;
+			String name = constantName(rule.getKey());
+			code.append("\t// ").append(rule.getKey());
+			if (nullables.contains(rule.getKey())) {
+				code.append(" (deriva LAMBDA)");
+			}
+			code.append("\n");
+			appendConstant(code, "FIRST_" + name, firsts.get(rule.getKey()));
+			appendConstant(code, "FOLLOW_" + name, follows.get(rule.getKey()));
+		}
+
+		code.append("\n\tprivate GrammarSets() {\n\t}\n");
+		code.append("}\n");
+		return code.toString();
+	}
+
+	/**
+	 * Agrega un elemento de la lista de conflictos al comentario de la clase,
+	 * partido en lineas de a lo sumo 80 caracteres.
+	 */
+	private static void appendComment(StringBuilder code, String text) {
+		StringBuilder line = new StringBuilder(" * -");
+		for (String word : text.split(" ")) {
+			if (line.length() + 1 + word.length() > 80) {
+				code.append(line).append("\n");
+				line = new StringBuilder(" *  ");
+			}
+			line.append(" ").append(word);
+		}
+		code.append(line).append("\n");
+	}
+
+	/**
+	 * Agrega la declaración de una constante con el conjunto de terminales dado,
+	 * ordenado por tipo de token y con las lineas de a lo sumo LINE_WIDTH
+	 * caracteres (contando cada tabulación como 4).
+	 */
+	private static void appendConstant(StringBuilder code, String name, Set<String> terminals) {
+		Set<TokenKind> kinds = new TreeSet<TokenKind>();
+		for (String terminal : terminals) {
+			TokenKind kind = kindOf(terminal);
+			if (kind != null) {
+				kinds.add(kind);
+			}
+		}
+
+		String declaration = "\tstatic final long " + name + " = ";
+		if (kinds.isEmpty()) {
+			code.append(declaration).append("0L;\n");
+			return;
+		}
+
+		StringBuilder line = new StringBuilder(declaration).append("TokenKind.maskOf(");
+		int count = 0;
+		for (TokenKind kind : kinds) {
+			String argument = "TokenKind." + kind.name() + (++count < kinds.size() ? "," : ");");
+			if (width(line) + 1 + argument.length() > LINE_WIDTH) {
+				code.append(line).append("\n");
+				line = new StringBuilder("\t\t\t").append(argument);
+			} else {
+				if (!line.toString().endsWith("(")) {
+					line.append(" ");
+				}
+				line.append(argument);
+			}
+		}
+		code.append(line).append("\n");
+	}
+
+	private static int width(CharSequence line) {
+		int width = 0;
+		for (int i = 0; i < line.length(); i++) {
+			width += line.charAt(i) == '\t' ? 4 : 1;
+		}
+		return width;
+	}
+
+	/**
+	 * @return el tipo de token de un terminal de la gramática, o null si es un
+	 *         terminal que se verifica por lexema.
+	 * @throws IllegalArgumentException si el terminal no corresponde a ningún
+	 *                                  tipo de token.
+	 */
+	private static TokenKind kindOf(String terminal) {
+		String lexema = terminal.substring(1, terminal.length() - 1);
+		if (LEXEMA_TERMINALS.contains(lexema)) {
+			return null;
+		}
+		if (NAMED_TERMINALS.containsKey(lexema)) {
+			return NAMED_TERMINALS.get(lexema);
+		}
+		for (TokenKind kind : TokenKind.values()) {
+			if (kind != TokenKind.EOF && lexema.equals(kind.lexema())) {
+				return kind;
+			}
+		}
+		throw new IllegalArgumentException("TERMINAL DESCONOCIDO: " + terminal);
+	}
+
+	/**
+	 * Convierte el nombre de un no terminal al de una constante: sin tildes, en
+	 * mayúsculas y con guiones bajos entre palabras. Por ejemplo, Tipo-Método
+	 * resulta TIPO_METODO y ExpOrP resulta EXP_OR_P.
+	 */
+	private static String constantName(String nonTerminal) {
+		String plain = Normalizer.normalize(nonTerminal, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < plain.length(); i++) {
+			char currentChar = plain.charAt(i);
+			if (currentChar == '-') {
+				name.append('_');
+			} else {
+				if (i > 0 && Character.isUpperCase(currentChar) && Character.isLowerCase(plain.charAt(i - 1))) {
+					name.append('_');
+				}
+				name.append(Character.toUpperCase(currentChar));
+			}
+		}
+		return name.toString();
+	}
+}
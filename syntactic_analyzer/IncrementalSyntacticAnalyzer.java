@@ -0,0 +1,366 @@
+package syntactic_analyzer;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import error.lexic.LexicalError;
+import error.semantic.SemanticalError;
+import error.syntactic.SyntacticalError;
+import lexic_analyzer.IncrementalLexicAnalyzer;
+import lexic_analyzer.LexicAnalyzer;
+import lexic_analyzer.SourceBuffer;
+import lexic_analyzer.Token;
+import lexic_analyzer.TokenKind;
+import lexic_analyzer.TokenRange;
+import lexic_analyzer.TokenStream;
+import semantic_analyzer.ast.ClassNode;
+import semantic_analyzer.symbol_table.ClassEntry;
+import semantic_analyzer.symbol_table.SymbolTable;
+import syntactic_analyzer.SyntacticAnalyzer.ParsedClass;
+import util.Json;
+
+/**
+ * Análisis sintáctico y semántico incremental de un archivo de entrada que se
+ * edita sucesivamente, por ejemplo desde un editor.
+ *
+ * Conserva el resultado del último análisis de cada clase del nivel superior,
+ * identificada por el contenido de sus tokens (tipo y lexema). Luego de una
+ * edición, el archivo se vuelve a analizar léxicamente solo en la región
+ * afectada (ver IncrementalLexicAnalyzer) y se separa en clases buscando la
+ * llave de cierre de cada una: las clases cuyo contenido no cambió reutilizan
+ * su ClassNode y su ClassEntry, actualizando la linea y columna de sus tokens,
+ * y solo se reconocen nuevamente las clases editadas y el método main.
+ *
+ * La tabla de símbolos se consolida a partir de copias de las entradas de
+ * clase sin consolidar, ya que la consolidación modifica las entradas. Del
+ * AST solo se validan las clases reconocidas nuevamente y aquellas cuya
+ * validación previa consultó alguna clase cuya declaración cambió, o cuyos
+ * ancestros cambiaron.
+ *
+ * El resultado y los errores reportados son los mismos que los de analizar el
+ * archivo editado completo con SyntacticAnalyzer: ante un error léxico o
+ * sintáctico en una clase, o si el archivo no se puede separar en clases, se
+ * lo analiza completo.
+ */
+public class IncrementalSyntacticAnalyzer {
+	private final String name; // Nombre del archivo de entrada, que identifica a la TS y al AST.
+	private SourceBuffer source; // Contenido actual del archivo.
+	private TokenStream tokens = null; // Tokens del contenido actual, o null si aún no se analizó.
+	private Map<Integer, List<AnalyzedClass>> classes = new HashMap<Integer, List<AnalyzedClass>>(); // Por hash.
+	private Map<String, String> declarations = new HashMap<String, String>(); // Clases en la última validación.
+	private SyntacticAnalyzer analyzer = null; // Último análisis, del que se obtiene el AST.
+
+	public IncrementalSyntacticAnalyzer(String inputPath) throws FileNotFoundException {
+		this.name = inputPath;
+		this.source = SourceBuffer.fromFile(inputPath);
+	}
+
+	/**
+	 * Aplica una edición de texto al contenido del archivo. El análisis se
+	 * realiza recién al invocar run.
+	 *
+	 * @param offset        - posición del contenido en la que comienza la edición.
+	 * @param removedLength - cantidad de caracteres eliminados a partir de offset.
+	 * @param insertedText  - texto insertado en offset.
+	 */
+	public void edit(int offset, int removedLength, String insertedText) {
+		if (tokens != null) {
+			try {
+				tokens = IncrementalLexicAnalyzer.relex(tokens, offset, removedLength, insertedText);
+				source = tokens.getSource();
+				return;
+			} catch (LexicalError error) {
+				// El contenido editado no es léxicamente válido: run reporta el error.
+			}
+		}
+		source = source.edit(offset, removedLength, insertedText);
+		tokens = null;
+	}
+
+	/**
+	 * Analiza el contenido actual del archivo, reutilizando el análisis previo
+	 * de las clases que no cambiaron.
+	 *
+	 * @return la tabla de símbolos si el análisis fue exitoso. Caso contrario
+	 *         lanzará una excepción.
+	 * @throws LexicalError     - Si algún token del archivo no es válido.
+	 * @throws SyntacticalError - Si la estructura sintáctica del archivo no se
+	 *                          corresponde con un programa válido de TinyRust+.
+	 * @throws SemanticalError  - Si alguna sentencia del archivo no respeta la
+	 *                          semántica de TinyRust+.
+	 */
+	public String run() throws LexicalError, SyntacticalError, SemanticalError {
+		analyzer = null;
+		if (tokens == null) {
+			try {
+				tokens = new LexicAnalyzer(source.region(0, source.length(), 1, 0)).tokenize();
+			} catch (LexicalError error) {
+				return runComplete();
+			}
+		}
+
+		// 1. Separar el archivo en clases del nivel superior y el método main.
+		List<Integer> classStarts = new ArrayList<Integer>();
+		int mainStart = splitClasses(classStarts);
+		if (mainStart < 0 || classStarts.isEmpty()) {
+			return runComplete();
+		}
+
+		// 2. Reutilizar las clases que no cambiaron y reconocer el resto.
+		SyntacticAnalyzer classParser = new SyntacticAnalyzer(name, null); // Solo configura parseClass.
+		Map<Integer, List<AnalyzedClass>> currentClasses = new HashMap<Integer, List<AnalyzedClass>>();
+		List<AnalyzedClass> analyzedClasses = new ArrayList<AnalyzedClass>();
+		for (int i = 0; i < classStarts.size(); i++) {
+			int from = classStarts.get(i);
+			int to = i + 1 < classStarts.size() ? classStarts.get(i + 1) : mainStart;
+			int hash = contentHash(from, to);
+			AnalyzedClass analyzedClass = reuse(hash, from, to);
+			if (analyzedClass == null) {
+				try {
+					analyzedClass = new AnalyzedClass(classParser, materialize(from, to));
+				} catch (LexicalError | SyntacticalError | SemanticalError error) {
+					// La clase contiene un error: se conservan también las clases ya
+					// reconocidas, para reutilizarlas luego de corregirlo.
+					currentClasses.forEach((key, list) -> classes.computeIfAbsent(key, k -> new ArrayList<AnalyzedClass>())
+							.addAll(list));
+					return runComplete();
+				}
+			}
+			analyzedClasses.add(analyzedClass);
+			currentClasses.computeIfAbsent(hash, key -> new ArrayList<AnalyzedClass>()).add(analyzedClass);
+		}
+		classes = currentClasses;
+
+		// 3. Las clases reutilizadas cuya validación depende de una declaración que
+		// cambió se reconocen nuevamente, ya que la validación modifica los nodos.
+		Set<String> changed = changedDeclarations(analyzedClasses);
+		for (AnalyzedClass analyzedClass : analyzedClasses) {
+			if (analyzedClass.mustValidate(changed) && analyzedClass.wasValidated) {
+				analyzedClass.reparse(classParser);
+			}
+		}
+		for (AnalyzedClass analyzedClass : analyzedClasses) {
+			if (analyzedClass.mustValidate(changed)) {
+				analyzedClass.lookups = null; // Se valida aunque un error detenga antes la validación.
+			}
+		}
+
+		// 4. Reconocer el método main con la TS y el AST completos.
+		Token[] mainTokens = materialize(mainStart, tokens.size() - 1);
+		Token eof = materialize(tokens.size() - 1, tokens.size())[0];
+		analyzer = new SyntacticAnalyzer(name, new TokenRange(mainTokens, 0, mainTokens.length, eof));
+		List<ParsedClass> parsedClasses = new ArrayList<ParsedClass>();
+		IdentityHashMap<ClassNode, AnalyzedClass> byNode = new IdentityHashMap<ClassNode, AnalyzedClass>();
+		for (AnalyzedClass analyzedClass : analyzedClasses) {
+			parsedClasses.add(new ParsedClass(analyzedClass.node, new ClassEntry(analyzedClass.entry)));
+			byNode.put(analyzedClass.node, analyzedClass);
+		}
+		analyzer.parseMainAfterClasses(parsedClasses);
+
+		// 5. Consolidar la TS y validar las clases del AST que lo requieran, en
+		// el mismo orden que AbstractSyntaxTree.validate.
+		SymbolTable ts = analyzer.getSymbolTable();
+		ts.consolidate();
+		declarations = new HashMap<String, String>();
+		for (AnalyzedClass analyzedClass : analyzedClasses) {
+			declarations.put(analyzedClass.entry.name(), analyzedClass.declaration);
+		}
+		for (ClassNode classNode : analyzer.getAst().classes()) {
+			AnalyzedClass analyzedClass = byNode.get(classNode);
+			if (analyzedClass == null) {
+				classNode.validate(ts); // Clases predefinidas y main.
+			} else if (analyzedClass.mustValidate(changed)) {
+				analyzedClass.validate(ts);
+			}
+		}
+
+		return Json.indent(ts.toJson());
+	}
+
+	public String getAstJson() {
+		return analyzer.getAstJson();
+	}
+
+	/**
+	 * Analiza el contenido actual completo con SyntacticAnalyzer, sin reutilizar
+	 * ninguna clase.
+	 */
+	private String runComplete() throws LexicalError, SyntacticalError, SemanticalError {
+		declarations = new HashMap<String, String>(); // Todas las clases se validarán nuevamente.
+		analyzer = new SyntacticAnalyzer(name, new LexicAnalyzer(source.region(0, source.length(), 1, 0)));
+		return analyzer.run();
+	}
+
+	/**
+	 * Separa los tokens en clases del nivel superior, buscando la llave de
+	 * cierre correspondiente a la primera llave de cada clase.
+	 *
+	 * @param classStarts - lista en la que se agrega la posición del token
+	 *                    "class" de cada clase.
+	 * @return la posición del primer token luego de las clases, o -1 si alguna
+	 *         clase no se cierra.
+	 */
+	private int splitClasses(List<Integer> classStarts) {
+		int depth = 0; // Nivel de anidamiento de llaves dentro de la clase actual.
+		boolean inClass = false;
+		for (int i = 0; i < tokens.size(); i++) {
+			TokenKind kind = tokens.getKind(i);
+			if (!inClass) {
+				if (kind != TokenKind.P_CLASS) {
+					return i;
+				}
+				classStarts.add(i);
+				inClass = true;
+			} else if (kind == TokenKind.OPEN_CURLY) {
+				depth++;
+			} else if (kind == TokenKind.CLOSE_CURLY && --depth <= 0) {
+				inClass = false;
+				depth = 0;
+			}
+		}
+		return -1;
+	}
+
+	/** @return un hash del tipo y lexema de los tokens en el rango dado. */
+	private int contentHash(int from, int to) {
+		int hash = 1;
+		for (int i = from; i < to; i++) {
+			hash = 31 * (31 * hash + tokens.getKind(i).ordinal()) + tokens.lexemaHash(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * Busca entre las clases del análisis previo una con los mismos tokens que
+	 * el rango dado. Si la halla, actualiza la linea y columna de sus tokens a
+	 * las del rango y la quita de las clases previas.
+	 *
+	 * @return la clase hallada, o null si ninguna coincide.
+	 */
+	private AnalyzedClass reuse(int hash, int from, int to) {
+		List<AnalyzedClass> candidates = classes.get(hash);
+		if (candidates == null) {
+			return null;
+		}
+		for (int c = 0; c < candidates.size(); c++) {
+			Token[] classTokens = candidates.get(c).tokens;
+			boolean isEqual = classTokens.length == to - from;
+			for (int i = 0; i < classTokens.length && isEqual; i++) {
+				isEqual = classTokens[i].getKind() == tokens.getKind(from + i)
+						&& tokens.lexemaEquals(from + i, classTokens[i].getLexema());
+			}
+			if (isEqual) {
+				for (int i = 0; i < classTokens.length; i++) {
+					classTokens[i].setPosition(tokens.getLine(from + i), tokens.getCol(from + i));
+				}
+				return candidates.remove(c);
+			}
+		}
+		return null;
+	}
+
+	/** @return objetos Token para los tokens en el rango dado. */
+	private Token[] materialize(int from, int to) {
+		Token[] result = new Token[to - from];
+		for (int i = from; i < to; i++) {
+			result[i - from] = new Token(tokens.getKind(i), tokens.getLexema(i), tokens.getLine(i), tokens.getCol(i));
+		}
+		return result;
+	}
+
+	/**
+	 * @return los nombres de las clases cuya declaración (sin consolidar) cambió
+	 *         desde la última validación, incluidas las clases agregadas o
+	 *         eliminadas, y los de sus subclases.
+	 */
+	private Set<String> changedDeclarations(List<AnalyzedClass> analyzedClasses) {
+		Set<String> changed = new HashSet<String>(declarations.keySet());
+		Map<String, ClassEntry> entries = new HashMap<String, ClassEntry>();
+		for (AnalyzedClass analyzedClass : analyzedClasses) {
+			String className = analyzedClass.entry.name();
+			entries.put(className, analyzedClass.entry);
+			if (analyzedClass.declaration.equals(declarations.get(className))) {
+				changed.remove(className);
+			} else {
+				changed.add(className);
+			}
+		}
+
+		// La declaración consolidada de una clase incluye la de sus ancestros.
+		Set<String> inherited = new HashSet<String>();
+		for (ClassEntry entry : entries.values()) {
+			ClassEntry ancestor = entry;
+			int depth = 0; // Límite ante herencia circular, que reporta la consolidación.
+			while (ancestor != null && depth++ <= entries.size()) {
+				if (changed.contains(ancestor.extendsFrom())) {
+					inherited.add(entry.name());
+					break;
+				}
+				ancestor = entries.get(ancestor.extendsFrom());
+			}
+		}
+		changed.addAll(inherited);
+		return changed;
+	}
+
+	/** Resultado del análisis de una clase del nivel superior. */
+	private static class AnalyzedClass {
+		private final Token[] tokens; // Tokens de la clase, referenciados por el nodo y la entrada.
+		private ClassNode node;
+		private ClassEntry entry; // Entrada sin consolidar.
+		private String declaration; // JSON de la entrada sin consolidar.
+		private boolean wasValidated = false; // Flag que indica si el nodo ya se validó alguna vez.
+		private Set<String> lookups = null; // Clases consultadas en la última validación exitosa, o null.
+
+		AnalyzedClass(SyntacticAnalyzer classParser, Token[] tokens)
+				throws LexicalError, SyntacticalError, SemanticalError {
+			this.tokens = tokens;
+			reparse(classParser);
+		}
+
+		/** Reconoce la clase a partir de sus tokens, con un nodo sin validar. */
+		void reparse(SyntacticAnalyzer classParser) throws LexicalError, SyntacticalError, SemanticalError {
+			ParsedClass parsedClass = classParser.parseClass(tokens, 0, tokens.length);
+			node = parsedClass.node();
+			entry = parsedClass.entry();
+			declaration = entry.toJson();
+			wasValidated = false;
+			lookups = null;
+		}
+
+		/**
+		 * @return true si el nodo nunca se validó con éxito o si su última
+		 *         validación consultó alguna de las clases dadas.
+		 */
+		boolean mustValidate(Set<String> changed) {
+			if (lookups == null) {
+				return true;
+			}
+			for (String className : lookups) {
+				if (changed.contains(className)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void validate(SymbolTable ts) throws SemanticalError {
+			wasValidated = true;
+			lookups = null;
+			Set<String> classLookups = new HashSet<String>();
+			ts.recordLookups(classLookups);
+			try {
+				node.validate(ts);
+			} finally {
+				ts.recordLookups(null);
+			}
+			lookups = classLookups;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package syntactic_analyzer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import error.lexic.LexicalError;
+import error.semantic.SemanticalError;
+import error.syntactic.SyntacticalError;
+import lexic_analyzer.IncrementalLexicAnalyzer;
+import lexic_analyzer.LexicAnalyzer;
+import lexic_analyzer.SourceBuffer;
+import lexic_analyzer.TokenStream;
+
+/**
+ * Verificador del análisis incremental.
+ *
+ * Aplica sucesivamente las ediciones de un archivo de ediciones a un archivo
+ * de entrada y, luego de cada una, compara el resultado del análisis
+ * incremental con el de analizar el contenido editado completo:
+ * - la secuencia de tokens obtenida con IncrementalLexicAnalyzer.relex a
+ * partir de la secuencia previa (tipo, posición, lexema, linea y columna de
+ * cada token) con la obtenida por LexicAnalyzer.tokenize;
+ * - la tabla de símbolos y el AST obtenidos con IncrementalSyntacticAnalyzer
+ * con los obtenidos por SyntacticAnalyzer, o bien el error reportado.
+ *
+ * Cada linea del archivo de ediciones tiene la forma "buscado => reemplazo" y
+ * reemplaza la primera aparición del texto buscado en el contenido actual. En
+ * ambos textos, \n representa un salto de linea, \t una tabulación y \\ una
+ * barra invertida. Se ignoran las lineas vacías y las que comienzan con //.
+ */
+public class IncrementalVerifier {
+	private static final String SEPARATOR = " => "; // Separador entre el texto buscado y el reemplazo.
+
+	/**
+	 * @param inputPath - ruta del archivo de entrada.
+	 * @param editsPath - ruta del archivo de ediciones.
+	 * @return true si todos los resultados del análisis incremental coinciden con
+	 *         los del análisis completo.
+	 */
+	public boolean run(String inputPath, String editsPath) {
+		List<String> edits;
+		IncrementalSyntacticAnalyzer incremental;
+		SourceBuffer source;
+		try {
+			edits = Files.readAllLines(Paths.get(editsPath), StandardCharsets.UTF_8);
+			incremental = new IncrementalSyntacticAnalyzer(inputPath);
+			source = SourceBuffer.fromFile(inputPath);
+		} catch (FileNotFoundException error) {
+			System.out.println("\nERROR IO: NO SE ENCONTRO UN ARCHIVO DE ENTRADA EN LA RUTA " + inputPath);
+			return false;
+		} catch (IOException error) {
+			System.out.println("\nERROR IO: NO SE PUDO LEER EL ARCHIVO DE EDICIONES " + editsPath);
+			return false;
+		}
+
+		TokenStream tokens = tokenize(source);
+		boolean matches = compare(inputPath, "ANALISIS INICIAL", tokens, source, run(incremental));
+		int applied = 0;
+		for (int i = 0; i < edits.size(); i++) {
+			String line = edits.get(i);
+			if (line.trim().isEmpty() || line.startsWith("//")) {
+				continue;
+			}
+			int separator = line.indexOf(SEPARATOR);
+			String content = source.slice(0, source.length());
+			String searched = separator < 0 ? "" : unescape(line.substring(0, separator));
+			int offset = searched.isEmpty() ? -1 : content.indexOf(searched);
+			if (offset < 0) {
+				System.out.println("ERROR: LA EDICION DE LA LINEA " + (i + 1) + " DEL ARCHIVO " + editsPath
+						+ " NO TIENE LA FORMA \"buscado => reemplazo\" O EL TEXTO BUSCADO NO APARECE EN EL CONTENIDO.");
+				return false;
+			}
+			String replacement = unescape(line.substring(separator + SEPARATOR.length()));
+
+			// Se aplica la edición a ambos análisis; si el contenido previo no era
+			// léxicamente válido, los tokens se obtienen del contenido editado completo.
+			incremental.edit(offset, searched.length(), replacement);
+			TokenStream relexed = null;
+			if (tokens != null) {
+				try {
+					relexed = IncrementalLexicAnalyzer.relex(tokens, offset, searched.length(), replacement);
+				} catch (LexicalError error) {
+					// El contenido editado no es léxicamente válido: la comparación con el
+					// análisis completo verifica que este también lo rechace.
+				}
+			}
+			source = source.edit(offset, searched.length(), replacement);
+			tokens = tokens == null ? tokenize(source) : relexed;
+			matches &= compare(inputPath, "EDICION DE LA LINEA " + (i + 1), tokens, source,
+					run(incremental));
+			applied++;
+		}
+
+		System.out.println(matches
+				? "VERIFICACION INCREMENTAL EXITOSA: " + applied + " EDICIONES"
+				: "ERROR: EL ANALISIS INCREMENTAL DIFIERE DEL ANALISIS COMPLETO");
+		return matches;
+	}
+
+	/**
+	 * Compara el resultado del análisis incremental de un contenido con el de su
+	 * análisis completo e imprime el resultado de la comparación.
+	 *
+	 * @param inputPath   - ruta del archivo de entrada, que identifica a la TS y
+	 *                    al AST.
+	 * @param step        - descripción del paso verificado.
+	 * @param tokens      - secuencia de tokens incremental, o null si el contenido
+	 *                    no es léxicamente válido.
+	 * @param source      - contenido analizado.
+	 * @param incremental - resultado del análisis incremental.
+	 * @return true si ambos análisis coinciden.
+	 */
+	private boolean compare(String inputPath, String step, TokenStream tokens, SourceBuffer source,
+			String incremental) {
+		TokenStream expectedTokens = tokenize(source);
+		String tokensDifference = compareTokens(tokens, expectedTokens);
+		if (tokensDifference != null) {
+			System.out.println(step + ": DIFERENCIA EN LOS TOKENS: " + tokensDifference);
+			return false;
+		}
+
+		String complete;
+		try {
+			SyntacticAnalyzer syntactic = new SyntacticAnalyzer(inputPath,
+					new LexicAnalyzer(source.region(0, source.length(), 1, 0)));
+			complete = syntactic.run() + syntactic.getAstJson();
+		} catch (LexicalError | SyntacticalError | SemanticalError error) {
+			complete = describe(error);
+		}
+		if (!complete.equals(incremental)) {
+			System.out.println(step + ": DIFERENCIA EN LA TABLA DE SIMBOLOS, EL AST O EL ERROR REPORTADO: "
+					+ firstDifference(incremental, complete));
+			return false;
+		}
+
+		System.out.println(step + ": OK");
+		return true;
+	}
+
+	/**
+	 * @return la descripción de la primera diferencia entre dos secuencias de
+	 *         tokens, o null si son iguales.
+	 */
+	private String compareTokens(TokenStream actual, TokenStream expected) {
+		if (actual == null || expected == null) {
+			return actual == expected ? null
+					: actual == null ? "SE RECHAZO UN CONTENIDO LEXICAMENTE VALIDO"
+							: "SE ACEPTO UN CONTENIDO LEXICAMENTE INVALIDO";
+		}
+		for (int i = 0; i < Math.min(actual.size(), expected.size()); i++) {
+			if (actual.getKind(i) != expected.getKind(i) || actual.getStart(i) != expected.getStart(i)
+					|| actual.getLine(i) != expected.getLine(i) || actual.getCol(i) != expected.getCol(i)
+					|| !actual.getLexema(i).equals(expected.getLexema(i))) {
+				return "TOKEN " + i + " " + describe(actual, i) + ", SE ESPERABA " + describe(expected, i);
+			}
+		}
+		return actual.size() == expected.size() ? null
+				: actual.size() + " TOKENS, SE ESPERABAN " + expected.size();
+	}
+
+	/**
+	 * Ejecuta el análisis incremental, devolviendo la tabla de símbolos y el AST
+	 * o la descripción del error reportado.
+	 */
+	private String run(IncrementalSyntacticAnalyzer incremental) {
+		try {
+			return incremental.run() + incremental.getAstJson();
+		} catch (LexicalError | SyntacticalError | SemanticalError error) {
+			return describe(error);
+		}
+	}
+
+	/** @return la secuencia de tokens del contenido, o null si no es léxicamente válido. */
+	private static TokenStream tokenize(SourceBuffer source) {
+		try {
+			return new LexicAnalyzer(source.region(0, source.length(), 1, 0)).tokenize();
+		} catch (LexicalError error) {
+			return null;
+		}
+	}
+
+	private static String describe(Exception error) {
+		return error.getClass().getSimpleName() + " " + error.getMessage();
+	}
+
+	private static String describe(TokenStream tokens, int index) {
+		return tokens.getKind(index) + " \"" + tokens.getLexema(index) + "\" (POSICION " + tokens.getStart(index)
+				+ ", LINEA " + tokens.getLine(index) + ", COLUMNA " + tokens.getCol(index) + ")";
+	}
+
+	/** @return el fragmento de cada texto a partir de la primera diferencia. */
+	private static String firstDifference(String actual, String expected) {
+		int i = 0;
+		while (i < actual.length() && i < expected.length() && actual.charAt(i) == expected.charAt(i)) {
+			i++;
+		}
+		return "\n  " + fragment(actual, i) + "\n  SE ESPERABA:\n  " + fragment(expected, i);
+	}
+
+	private static String fragment(String text, int from) {
+		return text.substring(from, Math.min(text.length(), from + 200));
+	}
+
+	/** Reemplaza las secuencias \n, \t y \\ de un texto del archivo de ediciones. */
+	private static String unescape(String text) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\' && i + 1 < text.length()) {
+				char escaped = text.charAt(++i);
+				builder.append(escaped == 'n' ? '\n' : escaped == 't' ? '\t' : escaped);
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+}
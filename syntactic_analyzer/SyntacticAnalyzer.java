@@ -1,7 +1,11 @@
 package syntactic_analyzer;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import error.lexic.LexicalError;
 import error.semantic.SemanticalError;
@@ -9,7 +13,12 @@ import error.semantic.declarations.InternalError;
 import error.syntactic.SyntacticalError;
 import error.syntactic.UnexpectedToken;
 import lexic_analyzer.LexicAnalyzer;
+import lexic_analyzer.LookaheadBuffer;
+import lexic_analyzer.PipelinedLexicAnalyzer;
 import lexic_analyzer.Token;
+import lexic_analyzer.TokenKind;
+import lexic_analyzer.TokenRange;
+import lexic_analyzer.TokenSource;
 import semantic_analyzer.ast.AbstractSyntaxTree;
 import semantic_analyzer.ast.AccessArrayNode;
 import semantic_analyzer.ast.AccessMethodNode;
@@ -31,6 +40,7 @@ import semantic_analyzer.ast.ExpressionNode;
 import semantic_analyzer.ast.IfElseNode;
 import semantic_analyzer.ast.LiteralNode;
 import semantic_analyzer.ast.MethodNode;
+import semantic_analyzer.ast.Node;
 import semantic_analyzer.ast.ReturnNode;
 import semantic_analyzer.ast.SentenceNode;
 import semantic_analyzer.ast.SimpleExpressionNode;
@@ -38,6 +48,7 @@ import semantic_analyzer.ast.TreeList;
 import semantic_analyzer.ast.UnaryExpressionNode;
 import semantic_analyzer.ast.AccessVariableNode;
 import semantic_analyzer.ast.WhileNode;
+import semantic_analyzer.symbol_table.ClassEntry;
 import semantic_analyzer.symbol_table.SymbolTable;
 import semantic_analyzer.types.Array;
 import semantic_analyzer.types.Bool;
@@ -48,6 +59,7 @@ import semantic_analyzer.types.PrimitiveType;
 import semantic_analyzer.types.Str;
 import semantic_analyzer.types.Type;
 import semantic_analyzer.types.Void;
+import util.Json;
 
 /**
  * Analizador Sintáctico descendente predictivo recursivo de TinyRust+.
@@ -56,24 +68,186 @@ import semantic_analyzer.types.Void;
  * Hace uso de la clase LexicAnalyzer para identificar los tokens del archivo.
  */
 public class SyntacticAnalyzer {
-	private LexicAnalyzer lexic;
-	private Token token;
-	private Token nextToken;
+	// Subconjuntos de los primeros de Literal, para distinguir los literales de
+	// palabra reservada de los literales con valor. Los conjuntos de primeros de
+	// las producciones se encuentran en GrammarSets.
+	private static final long FIRST_LITERAL_RESERVADO = TokenKind.maskOf(TokenKind.P_NIL, TokenKind.P_TRUE,
+			TokenKind.P_FALSE);
+	private static final long FIRST_LITERAL_VALOR = TokenKind.maskOf(TokenKind.LIT_INT, TokenKind.LIT_STRING,
+			TokenKind.LIT_CHAR);
+
+	// Tokens en los que se continúa el análisis luego de un error en una sentencia
+	// (modo recuperación): los siguientes de Sentencia, salvo los identificadores y
+	// "(", que aparecen también dentro de las expresiones.
+	private static final long SYNC_SENTENCIA = GrammarSets.FOLLOW_SENTENCIA
+			& ~TokenKind.maskOf(TokenKind.ID, TokenKind.OPEN_PAR);
+	// Tokens en los que se continúa el análisis luego de un error en un miembro:
+	// los siguientes de Miembro, salvo los tipos, que aparecen también en los
+	// parámetros y las declaraciones de variables.
+	private static final long SYNC_MIEMBRO = GrammarSets.FOLLOW_MIEMBRO & ~GrammarSets.FIRST_TIPO;
+	// Tokens que delimitan una sentencia, un bloque o un miembro: luego de un
+	// error, los errores siguientes no se registran hasta consumir uno de ellos.
+	private static final long SYNC_TOKENS = TokenKind.maskOf(TokenKind.SEMICOLON, TokenKind.OPEN_CURLY,
+			TokenKind.CLOSE_CURLY);
+
+	// Precedencia de los operadores binarios, de menor a mayor, indexada por
+	// tipo de token. Vale 0 si el tipo de token no es un operador binario.
+	private static final int PRECEDENCE_OR = 1;
+	private static final int PRECEDENCE_AND = 2;
+	private static final int PRECEDENCE_IGUAL = 3;
+	private static final int PRECEDENCE_COMPUESTO = 4;
+	private static final int PRECEDENCE_ADD = 5;
+	private static final int PRECEDENCE_MUL = 6;
+	private static final int[] BINARY_PRECEDENCE = new int[TokenKind.values().length];
+	static {
+		BINARY_PRECEDENCE[TokenKind.OP_OR.ordinal()] = PRECEDENCE_OR;
+		BINARY_PRECEDENCE[TokenKind.OP_AND.ordinal()] = PRECEDENCE_AND;
+		BINARY_PRECEDENCE[TokenKind.OP_EQ.ordinal()] = PRECEDENCE_IGUAL;
+		BINARY_PRECEDENCE[TokenKind.OP_NOT_EQ.ordinal()] = PRECEDENCE_IGUAL;
+		BINARY_PRECEDENCE[TokenKind.OP_LESS.ordinal()] = PRECEDENCE_COMPUESTO;
+		BINARY_PRECEDENCE[TokenKind.OP_LESS_EQ.ordinal()] = PRECEDENCE_COMPUESTO;
+		BINARY_PRECEDENCE[TokenKind.OP_GREAT.ordinal()] = PRECEDENCE_COMPUESTO;
+		BINARY_PRECEDENCE[TokenKind.OP_GREAT_EQ.ordinal()] = PRECEDENCE_COMPUESTO;
+		BINARY_PRECEDENCE[TokenKind.OP_ADD.ordinal()] = PRECEDENCE_ADD;
+		BINARY_PRECEDENCE[TokenKind.OP_SUB.ordinal()] = PRECEDENCE_ADD;
+		BINARY_PRECEDENCE[TokenKind.OP_PROD.ordinal()] = PRECEDENCE_MUL;
+		BINARY_PRECEDENCE[TokenKind.OP_DIV.ordinal()] = PRECEDENCE_MUL;
+		BINARY_PRECEDENCE[TokenKind.OP_MOD.ordinal()] = PRECEDENCE_MUL;
+	}
+
+	// Cantidad de tokens visibles para el análisis: el actual y el siguiente.
+	private static final int LOOKAHEAD = 2;
+	// Tokens leídos por cada lectura en bloque al separar el archivo en clases.
+	private static final int CLASS_SCAN_BATCH = 512;
+
+	private final String name; // Nombre del archivo de entrada, que identifica a la TS y al AST.
+	private final TokenSource source; // Origen de los tokens: el analizador léxico o su hilo.
+	private ForkJoinPool classPool = null; // Pool en el que se reconocen las clases, o null si es secuencial.
+	private LookaheadBuffer tokens; // Tokens leídos del analizador léxico, aún no consumidos.
+	private Token token; // Token actual, es decir, tokens.peek(0).
+	private PipelinedLexicAnalyzer pipeline; // Hilo del análisis léxico, o null si se realiza en este hilo.
+	private long consumedTokens = 0; // Cantidad de tokens consumidos.
+	private int maxErrors = 0; // Cantidad máxima de errores a registrar, o 0 si no se recupera de los errores.
+	private List<SyntacticalError> errors = new ArrayList<SyntacticalError>(); // Errores registrados en modo recuperación.
+	private long lastErrorPosition = -1; // Valor de consumedTokens al registrar el último error.
+	private boolean suppressErrors = false; // Flag que indica si aún no se consumió un token de sincronización.
+	private boolean parseOnly = false; // Flag que indica si solo se reconoce la sintaxis, sin construir AST ni TS.
 	private SymbolTable ts;
 	private AbstractSyntaxTree ast;
+	private List<ExpressionNode> operands = new ArrayList<ExpressionNode>(); // Pila de operandos de ExpBinaria.
+	private List<Token> operators = new ArrayList<Token>(); // Pila de operadores binarios de ExpBinaria.
+	private List<Token> unaryOperators = new ArrayList<Token>(); // Pila de operadores unarios de ExpUn.
+	private List<PendingSentence> pendingSentences = new ArrayList<PendingSentence>(); // Pila de Sentencia.
+	private List<PendingExpression> pendingExpressions = new ArrayList<PendingExpression>(); // Pila de Expresion.
 
 	public SyntacticAnalyzer(String inputPath) throws FileNotFoundException, InternalError {
+		this(inputPath, false);
+	}
+
+	/**
+	 * @param inputPath - ruta del archivo de entrada.
+	 * @param pipelined - si es true, el análisis léxico se realiza en un hilo
+	 *                  propio (PipelinedLexicAnalyzer), en paralelo con el
+	 *                  análisis sintáctico. Conviene para archivos grandes.
+	 */
+	public SyntacticAnalyzer(String inputPath, boolean pipelined) throws FileNotFoundException, InternalError {
 		// Patrón Singleton: se utiliza una única instancia de la clase LexicAnalyzer.
-		lexic = new LexicAnalyzer(inputPath);
+		LexicAnalyzer lexic = new LexicAnalyzer(inputPath);
+		if (pipelined) {
+			pipeline = new PipelinedLexicAnalyzer(lexic);
+			source = pipeline;
+		} else {
+			source = lexic;
+		}
+		name = inputPath;
+		tokens = new LookaheadBuffer(source, LOOKAHEAD);
 		ts = new SymbolTable(inputPath);
 		ast = new AbstractSyntaxTree(inputPath);
 	}
 
+	/**
+	 * Analizador de un archivo cuyos tokens ya fueron leídos.
+	 * 
+	 * @param name   - nombre del archivo de entrada.
+	 * @param source - tokens del archivo, o de la parte que se va a reconocer.
+	 */
+	SyntacticAnalyzer(String name, TokenSource source) throws InternalError {
+		this.name = name;
+		this.source = source;
+		tokens = new LookaheadBuffer(source, LOOKAHEAD);
+		ts = new SymbolTable(name);
+		ast = new AbstractSyntaxTree(name);
+	}
+
+	/**
+	 * Analizador de una única clase del archivo, cuyos tokens ya fueron leídos
+	 * (ver enableParallelClasses). Construye la entrada de la clase en una tabla
+	 * de símbolos propia.
+	 * 
+	 * @param parent - analizador del archivo completo, del que se toma la
+	 *               configuración.
+	 * @param source - tokens de la clase, seguidos del token EOF.
+	 */
+	private SyntacticAnalyzer(SyntacticAnalyzer parent, TokenSource source) throws InternalError {
+		this.name = parent.name;
+		this.source = source;
+		this.parseOnly = parent.parseOnly;
+		tokens = new LookaheadBuffer(source, LOOKAHEAD);
+		ts = parseOnly ? null : new SymbolTable(name);
+	}
+
+	/**
+	 * Activa el modo de recuperación de errores (modo pánico): en lugar de lanzar
+	 * el primer error sintáctico, el analizador lo registra, descarta tokens hasta
+	 * hallar uno del conjunto de siguientes de la sentencia, miembro o clase que
+	 * estaba reconociendo, y continúa el análisis desde allí. Los errores
+	 * hallados antes de consumir un punto y coma o una llave son consecuencia
+	 * del error previo y no se registran. Al terminar, run lanza el primer error
+	 * registrado sin realizar el análisis semántico.
+	 * 
+	 * @param maxErrors - cantidad máxima de errores a registrar. Al alcanzarla,
+	 *                  el último error se lanza y el análisis se detiene.
+	 */
+	public void enableErrorRecovery(int maxErrors) {
+		this.maxErrors = maxErrors;
+	}
+
+	/** @return los errores registrados en modo recuperación, en orden. */
+	public List<SyntacticalError> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Activa el modo de solo reconocimiento: el analizador recorre las mismas
+	 * reglas de la gramática y reporta los mismos errores léxicos y sintácticos,
+	 * pero no construye la tabla de símbolos, el AST ni los tipos, por lo que
+	 * tampoco detecta errores semánticos. Sirve para determinar rápidamente si un
+	 * archivo es sintácticamente correcto.
+	 */
+	public void enableParseOnly() {
+		this.parseOnly = true;
+	}
+
+	/**
+	 * Activa el reconocimiento de las clases en paralelo: el archivo se lee por
+	 * completo y se separa en clases buscando la llave de cierre de cada una, y
+	 * cada clase se reconoce en un hilo del pool, con su propia tabla de
+	 * símbolos. Las clases se agregan luego a la TS y al AST en el orden del
+	 * archivo, por lo que el resultado y los errores reportados son los mismos
+	 * que los del análisis secuencial. No tiene efecto en modo recuperación.
+	 * La tabla de símbolos también se consolida en paralelo en el mismo pool.
+	 * 
+	 * @param pool - pool de hilos en el que se reconocen las clases.
+	 */
+	public void enableParallelClasses(ForkJoinPool pool) {
+		this.classPool = pool;
+	}
+
 	/**
 	 * Inicia el análisis sintáctico del archivo provisto al analizador sintáctico.
 	 * 
-	 * @return la tabla de símbolos si el análisis fue exitoso.
-	 *         Caso contrario lanzará una excepción.
+	 * @return la tabla de símbolos si el análisis fue exitoso, o null en modo
+	 *         de solo reconocimiento. Caso contrario lanzará una excepción.
 	 * @throws LexicalError     - Si algún token del archivo no es válido.
 	 * @throws SyntacticalError - Si la estructura sintáctica del archivo no se
 	 *                          corresponde con un programa válido de TinyRust+.
@@ -81,22 +255,263 @@ public class SyntacticAnalyzer {
 	 *                          semántica de TinyRust+.
 	 */
 	public String run() throws LexicalError, SyntacticalError, SemanticalError {
-		// Se obtienen los dos primeros tokens del archivo.
-		token = lexic.nextToken();
-		nextToken = lexic.nextToken();
+		try {
+			if (classPool != null && maxErrors == 0) {
+				parseInParallel();
+			} else {
+				// Se obtienen los primeros tokens del archivo.
+				token = tokens.peek(0);
 
-		Program();
+				Program();
+			}
+		} catch (SyntacticalError error) {
+			if (maxErrors == 0) {
+				throw error;
+			}
+			if (consumedTokens != lastErrorPosition && !suppressErrors) {
+				errors.add(error); // Error del que no fue posible recuperarse.
+			}
+		} finally {
+			if (pipeline != null) {
+				pipeline.close(); // Ante un error, el hilo del análisis léxico no debe continuar.
+			}
+		}
+		if (!errors.isEmpty()) {
+			// El AST y la tabla de símbolos están incompletos: no se realiza el análisis
+			// semántico.
+			throw errors.get(0);
+		}
+		if (parseOnly) {
+			return null;
+		}
 
 		// Si la entrada no es sintácticamente correcta, Program lanza una excepción,
 		// por lo que si termina de ejecutarse, implica que la entrada es correcta y
 		// la tabla de símbolos se construyó por completo.
+		if (classPool != null) {
+			ts.enableParallelConsolidation(classPool);
+		}
 		ts.consolidate();
 		ast.validate(ts);
-		return (ts.toJson());
+		return Json.indent(ts.toJson());
 	}
 
 	public String getAstJson() {
-		return ast.toJson();
+		return Json.indent(ast.toJson());
+	}
+
+	SymbolTable getSymbolTable() {
+		return ts;
+	}
+
+	AbstractSyntaxTree getAst() {
+		return ast;
+	}
+
+	/**
+	 * Reconoce el programa con las clases en paralelo (ver enableParallelClasses).
+	 * Lee todos los tokens del archivo y, al hallar la llave de cierre de cada
+	 * clase del nivel superior, la reconoce en un hilo del pool mientras continúa
+	 * la lectura. Luego agrega las clases a la TS y al AST en el orden del
+	 * archivo y reconoce el método main en este hilo.
+	 * 
+	 * Si el archivo no se puede separar en clases (por un error léxico o llaves
+	 * sin cerrar) o alguna clase contiene un error, se descartan las clases
+	 * reconocidas y el archivo se analiza secuencialmente sobre los tokens ya
+	 * leídos, de modo que el error reportado es siempre el primero del archivo.
+	 */
+	private void parseInParallel() throws LexicalError, SyntacticalError, SemanticalError {
+		Token[] read = new Token[CLASS_SCAN_BATCH];
+		int size = 0;
+		List<ForkJoinTask<ParsedClass>> classTasks = new ArrayList<ForkJoinTask<ParsedClass>>();
+		int classStart = -1; // Posición del token "class" de la clase actual, o -1 fuera de una clase.
+		int depth = 0; // Nivel de anidamiento de llaves dentro de la clase actual.
+		int mainStart = -1; // Posición del primer token luego de las clases.
+		LexicalError lexicalError = null;
+		try {
+			while (source.hasNextToken()) {
+				if (size + CLASS_SCAN_BATCH > read.length) {
+					read = Arrays.copyOf(read, read.length * 2);
+				}
+				int count = source.nextTokens(read, size, CLASS_SCAN_BATCH);
+				for (int i = size; i < size + count && mainStart < 0; i++) {
+					TokenKind kind = read[i].getKind();
+					if (classStart < 0) {
+						if (kind == TokenKind.P_CLASS) {
+							classStart = i;
+						} else {
+							mainStart = i;
+						}
+					} else if (kind == TokenKind.OPEN_CURLY) {
+						depth++;
+					} else if (kind == TokenKind.CLOSE_CURLY && --depth <= 0) {
+						// Los tokens de la clase ya no se modifican: el arreglo solo se
+						// reemplaza por uno más grande.
+						Token[] classTokens = read;
+						int from = classStart;
+						int to = i + 1;
+						classTasks.add(classPool.submit(() -> parseClass(classTokens, from, to)));
+						classStart = -1;
+						depth = 0;
+					}
+				}
+				size += count;
+			}
+		} catch (LexicalError error) {
+			lexicalError = error;
+		}
+
+		List<ParsedClass> parsedClasses = new ArrayList<ParsedClass>();
+		boolean isSplit = lexicalError == null && mainStart >= 0 && !classTasks.isEmpty();
+		for (int i = 0; i < classTasks.size() && isSplit; i++) {
+			try {
+				parsedClasses.add(classTasks.get(i).join());
+			} catch (RuntimeException error) {
+				isSplit = false; // La clase contiene un error: se reporta en el análisis secuencial.
+			}
+		}
+
+		if (!isSplit) {
+			for (ForkJoinTask<ParsedClass> classTask : classTasks) {
+				classTask.cancel(false);
+			}
+			ts = parseOnly ? null : new SymbolTable(name);
+			ast = new AbstractSyntaxTree(name);
+			TokenRange range = lexicalError != null ? new TokenRange(read, 0, size, lexicalError)
+					: new TokenRange(read, 0, size - 1, read[size - 1]);
+			tokens = new LookaheadBuffer(range, LOOKAHEAD);
+			token = tokens.peek(0);
+			Program();
+			return;
+		}
+
+		tokens = new LookaheadBuffer(new TokenRange(read, mainStart, size - 1, read[size - 1]), LOOKAHEAD);
+		parseMainAfterClasses(parsedClasses);
+	}
+
+	/**
+	 * Completa el análisis de un programa cuyas clases se reconocieron por
+	 * separado (ver parseClass): agrega las clases a la TS y al AST en el orden
+	 * recibido, igual que Clases, y reconoce el método main y el token EOF con
+	 * los tokens de este analizador.
+	 * 
+	 * @param parsedClasses - clases del programa, en el orden del archivo.
+	 */
+	void parseMainAfterClasses(List<ParsedClass> parsedClasses)
+			throws LexicalError, SyntacticalError, SemanticalError {
+		TreeList<ClassNode> classesNode = newList();
+		for (ParsedClass parsedClass : parsedClasses) {
+			if (!parseOnly) {
+				ts.addClass(parsedClass.entry);
+			}
+			addTo(classesNode, parsedClass.node);
+		}
+		if (!parseOnly) {
+			ast.setClasses(classesNode);
+		}
+		token = tokens.peek(0);
+		Main();
+		matchToken(TokenKind.EOF);
+	}
+
+	/**
+	 * Reconoce una clase del archivo con un nuevo analizador.
+	 * 
+	 * @param classTokens - tokens del archivo.
+	 * @param from        - posición del token "class" de la clase.
+	 * @param to          - posición siguiente a la llave de cierre de la clase.
+	 * @return el nodo y la entrada de la TS de la clase.
+	 */
+	ParsedClass parseClass(Token[] classTokens, int from, int to)
+			throws LexicalError, SyntacticalError, SemanticalError {
+		Token last = classTokens[to - 1];
+		Token eof = new Token(TokenKind.EOF, TokenKind.EOF.lexema(), last.getLine(), last.getCol());
+		SyntacticAnalyzer classAnalyzer = new SyntacticAnalyzer(this, new TokenRange(classTokens, from, to, eof));
+		classAnalyzer.token = classAnalyzer.tokens.peek(0);
+		ClassNode node = classAnalyzer.Clase();
+		classAnalyzer.matchToken(TokenKind.EOF);
+		ClassEntry entry = parseOnly ? null : classAnalyzer.ts.getClass(classTokens[from + 1].getLexema());
+		return new ParsedClass(node, entry);
+	}
+
+	/**
+	 * Consume el token actual.
+	 * 
+	 * @throws LexicalError - Si el token que pasa a ser visible no es válido.
+	 */
+	private void advance() throws LexicalError {
+		if (suppressErrors && isFirst(SYNC_TOKENS)) {
+			suppressErrors = false; // Se consume un token de sincronización.
+		}
+		tokens.advance();
+		token = tokens.peek(0);
+		consumedTokens++;
+	}
+
+	/**
+	 * Registra un error sintáctico en modo recuperación. Si no está activo, o se
+	 * alcanzó la cantidad máxima de errores, lanza el error.
+	 * 
+	 * Un error en el mismo token que el último registrado es consecuencia de
+	 * aquel, por lo que no se registra: en su lugar se descarta el token, para
+	 * garantizar que el análisis avance. Tampoco se registran los errores
+	 * hallados antes de consumir un token de sincronización (punto y coma o
+	 * llave) luego del último error, ya que suelen ser consecuencia de retomar
+	 * el análisis en medio de una construcción.
+	 * 
+	 * @param error - error hallado.
+	 * @throws LexicalError     - Si el token que pasa a ser visible no es válido.
+	 * @throws SyntacticalError - El error recibido, si no es posible recuperarse.
+	 */
+	private void recordError(SyntacticalError error) throws LexicalError, SyntacticalError {
+		if (maxErrors == 0) {
+			throw error;
+		}
+		if (consumedTokens == lastErrorPosition) {
+			if (isFirst(TokenKind.EOF)) {
+				throw error; // No quedan tokens por descartar.
+			}
+			advance();
+		} else if (suppressErrors) {
+			lastErrorPosition = consumedTokens;
+		} else {
+			errors.add(error);
+			lastErrorPosition = consumedTokens;
+			suppressErrors = true;
+			if (errors.size() >= maxErrors) {
+				throw error;
+			}
+		}
+	}
+
+	/**
+	 * Descarta tokens hasta hallar uno del conjunto recibido o EOF.
+	 * 
+	 * @param follows Conjunto de siguientes de la regla en la que se continúa el
+	 *                análisis, como máscara de bits (ver TokenKind.maskOf).
+	 * @throws LexicalError - Si algún token descartado no es válido.
+	 */
+	private void skipUntil(long follows) throws LexicalError {
+		while (!isFirst(follows) && !isFirst(TokenKind.EOF)) {
+			advance();
+		}
+	}
+
+	/**
+	 * @return una lista de nodos vacía, o null en modo de solo reconocimiento.
+	 */
+	private <T extends Node> TreeList<T> newList() {
+		return parseOnly ? null : new TreeList<T>();
+	}
+
+	/**
+	 * Agrega un nodo al final de una lista creada con newList, salvo en modo de
+	 * solo reconocimiento.
+	 */
+	private <T extends Node> void addTo(TreeList<T> list, T node) {
+		if (list != null) {
+			list.addLast(node);
+		}
 	}
 
 	/**
@@ -108,69 +523,109 @@ public class SyntacticAnalyzer {
 	 * @throws LexicalError     - Si el siguiente token no es válido.
 	 * @throws SyntacticalError - Si el token no coincide con ningún tipo esperado.
 	 */
-	private Token matchToken(String... types) throws LexicalError, SyntacticalError {
+	private Token matchToken(TokenKind... types) throws LexicalError, SyntacticalError {
 		Token consumedToken = token;
-		if (Arrays.asList(types).contains(token.getToken())) {
-			token = nextToken;
-			nextToken = lexic.nextToken();
+		if ((TokenKind.maskOf(types) & token.getKind().mask()) != 0) {
+			advance();
 		} else {
-			String typesAsString = String.join(", ", types);
-			throw new UnexpectedToken(token, "TOKEN DE TIPO: " + typesAsString);
+			String[] names = new String[types.length];
+			for (int i = 0; i < types.length; i++) {
+				names[i] = types[i].tokenName();
+			}
+			throw new UnexpectedToken(token, "TOKEN DE TIPO: " + String.join(", ", names));
 		}
 		return consumedToken;
 	}
 
 	/**
-	 * Compara el lexema del token actual contra la lista de lexemas recibida.
+	 * Compara el tipo del token actual contra la lista de tipos de lexema fijo
+	 * recibida (palabras reservadas, operadores y delimitadores).
 	 * Si coincide con algún elemento de la lista, consume el token.
 	 * 
-	 * @param lexema Lexemas posibles esperados del token.
+	 * @param types Tipos posibles esperados del token.
 	 * @return el token consumido.
 	 * @throws LexicalError     - Si el siguiente token no es válido.
-	 * @throws SyntacticalError - Si el token no coincide con ningún lexema
-	 *                          esperado.
+	 * @throws SyntacticalError - Si el token no coincide con ningún tipo
+	 *                          esperado. El mensaje de error enumera los lexemas
+	 *                          esperados.
 	 */
-	private Token matchLexema(String... types) throws LexicalError, SyntacticalError {
+	private Token matchLexema(TokenKind... types) throws LexicalError, SyntacticalError {
 		Token consumedToken = token;
-		if (Arrays.asList(types).contains(token.getLexema())) {
-			token = nextToken;
-			nextToken = lexic.nextToken();
+		if ((TokenKind.maskOf(types) & token.getKind().mask()) != 0) {
+			advance();
 		} else {
-			String typesAsString = String.join(", ", types);
-			throw new UnexpectedToken(token, typesAsString);
+			String[] lexemas = new String[types.length];
+			for (int i = 0; i < types.length; i++) {
+				lexemas[i] = types[i].lexema();
+			}
+			throw new UnexpectedToken(token, String.join(", ", lexemas));
 		}
 		return consumedToken;
 	}
 
 	/**
-	 * Compara el lexema del token actual contra la lista de lexemas recibida.
-	 * Retorna true si coincide con algún elemento de la lista.
+	 * Compara el lexema del token actual contra el lexema recibido.
+	 * Se utiliza para los identificadores con significado especial en la
+	 * gramática (self, main y create), que el analizador léxico reconoce como
+	 * identificadores comunes.
+	 * Si coincide, consume el token.
 	 * 
-	 * @param lexema Lexemas posibles esperados del token.
+	 * @param lexema Lexema esperado del token.
+	 * @return el token consumido.
+	 * @throws LexicalError     - Si el siguiente token no es válido.
+	 * @throws SyntacticalError - Si el token no coincide con el lexema esperado.
 	 */
-	private boolean isFirstL(String... firsts) {
-		return Arrays.asList(firsts).contains(token.getLexema());
+	private Token matchLexema(String lexema) throws LexicalError, SyntacticalError {
+		Token consumedToken = token;
+		if (lexema.equals(token.getLexema())) {
+			advance();
+		} else {
+			throw new UnexpectedToken(token, lexema);
+		}
+		return consumedToken;
 	}
 
 	/**
-	 * Compara el tipo del token actual contra la lista de tipos de token recibida.
-	 * Retorna true si coincide con algún elemento de la lista.
+	 * Compara el lexema del token actual contra el lexema recibido.
+	 * Retorna true si coinciden.
 	 * 
-	 * @param types Tipos posibles esperados del token.
+	 * @param lexema Lexema esperado del token.
+	 */
+	private boolean isFirstL(String lexema) {
+		return lexema.equals(token.getLexema());
+	}
+
+	/**
+	 * Compara el tipo del token actual contra el tipo de token recibido.
+	 * Retorna true si coinciden.
+	 * 
+	 * @param type Tipo esperado del token.
 	 */
-	private boolean isFirstT(String... firsts) {
-		return Arrays.asList(firsts).contains(token.getToken());
+	private boolean isFirst(TokenKind type) {
+		return token.getKind() == type;
+	}
+
+	/**
+	 * Verifica si el tipo del token actual pertenece al conjunto de tipos
+	 * recibido, representado como máscara de bits (ver TokenKind.maskOf).
+	 * 
+	 * @param firsts Conjunto de tipos esperados del token.
+	 */
+	private boolean isFirst(long firsts) {
+		return (token.getKind().mask() & firsts) != 0;
 	}
 
 	private void Program() throws LexicalError, SyntacticalError, SemanticalError {
 		Start();
-		matchToken("EOF");
+		matchToken(TokenKind.EOF);
 	}
 
 	private void Start() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("class", "fn")) {
+		if (isFirst(GrammarSets.FIRST_START)) {
 			TreeList<ClassNode> classesNode = Clases();
-			ast.setClasses(classesNode);
+			if (!parseOnly) {
+				ast.setClasses(classesNode);
+			}
 			Main();
 		} else {
 			throw new UnexpectedToken(token, "DECLARACION DE CLASES O METODO MAIN");
@@ -178,37 +633,51 @@ public class SyntacticAnalyzer {
 	}
 
 	private TreeList<ClassNode> Clases() throws LexicalError, SyntacticalError, SemanticalError {
-		TreeList<ClassNode> classesNode;
-		if (isFirstL("class")) {
-			ClassNode classNode = Clase();
-			classesNode = Clases();
-			classesNode.add(classNode);
-		} else {
-			classesNode = new TreeList<ClassNode>();
-			// Como Clases deriva Lambda, se continúa la ejecución
-			// si el token no matchea con los primeros.
+		// Las producciones de listas se reconocen con un ciclo en lugar de una llamada
+		// recursiva por elemento, agregando cada elemento al final de la lista.
+		TreeList<ClassNode> classesNode = newList();
+		while (isFirst(TokenKind.P_CLASS)) {
+			try {
+				addTo(classesNode, Clase());
+			} catch (SyntacticalError error) {
+				// En modo recuperación, se continúa en la siguiente clase o el método main.
+				recordError(error);
+				while (!isFirst(TokenKind.P_CLASS) && !isFirst(TokenKind.EOF)
+						&& !(isFirst(TokenKind.P_FUNC) && tokens.peek(1).getLexema().equals("main"))) {
+					advance();
+				}
+			}
 		}
+		// Como Clases deriva Lambda, se continúa la ejecución
+		// si el token no matchea con los primeros.
 		return classesNode;
-
 	}
 
 	private void Main() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("fn")) {
-			matchLexema("fn");
+		if (isFirst(TokenKind.P_FUNC)) {
+			matchLexema(TokenKind.P_FUNC);
 			Token mainToken = matchLexema("main");
-			matchLexema("(");
-			matchLexema(")");
-			ts.addMain(mainToken);
+			matchLexema(TokenKind.OPEN_PAR);
+			matchLexema(TokenKind.CLOSE_PAR);
+			if (!parseOnly) {
+				ts.addMain(mainToken);
+			}
 			BlockNode blockNode = BloqueMetodo();
-			ast.addMain(blockNode, mainToken);
+			if (!parseOnly) {
+				ast.addMain(blockNode, mainToken);
+			}
 		} else {
 			throw new UnexpectedToken(token, "EL METODO MAIN");
 		}
 	}
 
 	private ClassNode Clase() throws LexicalError, SyntacticalError, SemanticalError {
-		matchLexema("class"); // Si no matchea, este método arrojará la excepción.
-		Token classIdToken = matchToken("id_type");
+		matchLexema(TokenKind.P_CLASS); // Si no matchea, este método arrojará la excepción.
+		Token classIdToken = matchToken(TokenKind.ID_TYPE);
+		if (parseOnly) {
+			ClaseHerenciaOp();
+			return null;
+		}
 		ts.addClass(classIdToken.getLexema(), classIdToken);
 		TreeList<MethodNode> methodsNode = ClaseHerenciaOp();
 		ts.endClass();
@@ -216,13 +685,13 @@ public class SyntacticAnalyzer {
 	}
 
 	private TreeList<MethodNode> ClaseHerenciaOp() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL(":")) {
+		if (isFirst(TokenKind.COLON)) {
 			Herencia();
 		}
-		matchLexema("{");
+		matchLexema(TokenKind.OPEN_CURLY);
 		TreeList<MethodNode> methods = Miembros();
-		if (isFirstL("}")) {
-			matchLexema("}");
+		if (isFirst(TokenKind.CLOSE_CURLY)) {
+			matchLexema(TokenKind.CLOSE_CURLY);
 		} else {
 			throw new UnexpectedToken(token, "UN CONSTRUCTOR, METODO, ATRIBUTO O \"}\"");
 		}
@@ -230,42 +699,76 @@ public class SyntacticAnalyzer {
 	}
 
 	private void Herencia() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL(":")) {
-			matchLexema(":");
-			Token typeToken = matchToken("id_type");
-			ts.currentClass().setExtendsFrom(typeToken.getLexema(), typeToken);
+		if (isFirst(TokenKind.COLON)) {
+			matchLexema(TokenKind.COLON);
+			Token typeToken = matchToken(TokenKind.ID_TYPE);
+			if (!parseOnly) {
+				ts.currentClass().setExtendsFrom(typeToken.getLexema(), typeToken);
+			}
 		} else {
 			throw new UnexpectedToken(token, "\":\" (HERENCIA)");
 		}
 	}
 
 	private TreeList<MethodNode> Miembros() throws LexicalError, SyntacticalError, SemanticalError {
-		TreeList<MethodNode> methodsNodes = new TreeList<MethodNode>();
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array", "pub", "fn", "static", "create") || isFirstT("id_type")) {
-			MethodNode memberNode = Miembro();
-			methodsNodes = Miembros();
-			if (memberNode != null) {
-				// member es null cuando el miembro es un atributo en vez de un método o
-				// constructor.
-				methodsNodes.add(memberNode); // La lista de nodos únicamente contendrá métodos.
+		TreeList<MethodNode> methodsNodes = newList();
+		while (true) {
+			while (isFirst(GrammarSets.FIRST_MIEMBRO) || isFirstL("create")) {
+				try {
+					MethodNode memberNode = Miembro();
+					if (memberNode != null) {
+						// member es null cuando el miembro es un atributo en vez de un método o
+						// constructor.
+						addTo(methodsNodes, memberNode); // La lista de nodos únicamente contendrá métodos.
+					}
+				} catch (SyntacticalError error) {
+					// En modo recuperación, se continúa en el siguiente miembro.
+					recordError(error);
+					skipUntilMember();
+				}
 			}
-		} else {
-			methodsNodes = new TreeList<MethodNode>();
-			// Como Miembros deriva Lambda, se continúa la ejecución
-			// si el token no matchea con los primeros.
+			if (maxErrors == 0 || isFirst(TokenKind.CLOSE_CURLY) || isFirst(TokenKind.EOF)) {
+				break;
+			}
+			// En modo recuperación, los tokens que no inician un miembro ni cierran la
+			// clase se reportan y se descartan.
+			recordError(new UnexpectedToken(token, "UN CONSTRUCTOR, METODO, ATRIBUTO O \"}\""));
+			skipUntilMember();
 		}
+		// Como Miembros deriva Lambda, se continúa la ejecución
+		// si el token no matchea con los primeros.
 		return methodsNodes;
 	}
 
+	/**
+	 * Descarta tokens hasta el comienzo de un miembro, el cierre de la clase o
+	 * EOF. Los bloques entre llaves se descartan completos, para no confundir el
+	 * cierre del cuerpo de un método con el cierre de la clase.
+	 */
+	private void skipUntilMember() throws LexicalError {
+		int depth = 0; // Llaves abiertas entre los tokens descartados.
+		while (!isFirst(TokenKind.EOF)) {
+			if (depth == 0 && (isFirst(SYNC_MIEMBRO) || isFirstL("create"))) {
+				break;
+			}
+			if (isFirst(TokenKind.OPEN_CURLY)) {
+				depth++;
+			} else if (isFirst(TokenKind.CLOSE_CURLY)) {
+				depth--;
+			}
+			advance();
+		}
+	}
+
 	private MethodNode Miembro() throws LexicalError, SyntacticalError, SemanticalError {
 		MethodNode nodo;
 		if (isFirstL("create")) {
 			nodo = Constructor();
 		} else {
-			if (isFirstL("fn", "static")) {
+			if (isFirst(GrammarSets.FIRST_METODO)) {
 				nodo = Metodo();
 			} else {
-				if (isFirstL("Bool", "I32", "Str", "Char", "Array", "pub") || isFirstT("id_type")) {
+				if (isFirst(GrammarSets.FIRST_ATRIBUTO)) {
 					Atributo();
 					nodo = null;
 				} else {
@@ -278,14 +781,14 @@ public class SyntacticAnalyzer {
 
 	private void Atributo() throws LexicalError, SyntacticalError, SemanticalError {
 		boolean isPublic = false;
-		if (isFirstL("pub")) {
+		if (isFirst(TokenKind.P_PUB)) {
 			isPublic = Visibilidad();
 		}
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
+		if (isFirst(GrammarSets.FIRST_TIPO)) {
 			Type type = Tipo();
-			matchLexema(":");
+			matchLexema(TokenKind.COLON);
 			ListaDeclaracionVariables(type, isPublic);
-			matchLexema(";");
+			matchLexema(TokenKind.SEMICOLON);
 		} else {
 			throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE O TIPO PRIMITIVO");
 		}
@@ -293,6 +796,11 @@ public class SyntacticAnalyzer {
 
 	private MethodNode Constructor() throws LexicalError, SyntacticalError, SemanticalError {
 		Token constructorToken = matchLexema("create"); // Si no matchea, este método arrojará la excepción.
+		if (parseOnly) {
+			ArgumentosFormales();
+			BloqueMetodo();
+			return null;
+		}
 		ts.addConstructor(constructorToken);
 		ArgumentosFormales();
 		BlockNode blockNode = BloqueMetodo();
@@ -303,15 +811,22 @@ public class SyntacticAnalyzer {
 	private MethodNode Metodo() throws LexicalError, SyntacticalError, SemanticalError {
 		boolean isStatic = false;
 		MethodNode node = null;
-		if (isFirstL("static")) {
+		if (isFirst(TokenKind.P_STATIC)) {
 			isStatic = FormaMetodo();
 		}
-		if (isFirstL("fn")) {
-			matchLexema("fn");
-			Token nameToken = matchToken("id");
+		if (isFirst(TokenKind.P_FUNC)) {
+			matchLexema(TokenKind.P_FUNC);
+			Token nameToken = matchToken(TokenKind.ID);
+			if (parseOnly) {
+				ArgumentosFormales();
+				matchLexema(TokenKind.RETURN_TYPE);
+				TipoMetodo();
+				BloqueMetodo();
+				return null;
+			}
 			ts.addMethod(nameToken.getLexema(), isStatic, nameToken);
 			ArgumentosFormales();
-			matchLexema("->");
+			matchLexema(TokenKind.RETURN_TYPE);
 			Type returnType = TipoMetodo();
 			ts.currentMethod().setReturnType(returnType);
 			BlockNode blockNode = BloqueMetodo();
@@ -324,69 +839,78 @@ public class SyntacticAnalyzer {
 	}
 
 	private void ArgumentosFormales() throws LexicalError, SyntacticalError, SemanticalError {
-		matchLexema("("); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL(")")) {
-			matchLexema(")");
+		matchLexema(TokenKind.OPEN_PAR); // Si no matchea, este método arrojará la excepción.
+		if (isFirst(TokenKind.CLOSE_PAR)) {
+			matchLexema(TokenKind.CLOSE_PAR);
 		} else {
 			ListaArgumentosFormales();
-			matchLexema(")");
+			matchLexema(TokenKind.CLOSE_PAR);
 		}
 	}
 
 	private void ListaArgumentosFormales() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
-			ArgumentoFormal();
-			if (isFirstL(",")) {
-				matchLexema(",");
-				ListaArgumentosFormales();
+		while (true) {
+			if (isFirst(GrammarSets.FIRST_TIPO)) {
+				ArgumentoFormal();
+			} else {
+				throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE, TIPO PRIMITIVO O \")\"");
+			}
+			if (!isFirst(TokenKind.COMMA)) {
 				// No se lanza un error si no matchea "," ya que
 				// sería el caso del último argumento de la lista.
+				break;
 			}
-		} else {
-			throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE, TIPO PRIMITIVO O \")\"");
+			matchLexema(TokenKind.COMMA);
 		}
 	}
 
 	private void ArgumentoFormal() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
+		if (isFirst(GrammarSets.FIRST_TIPO)) {
 			Type type = Tipo();
-			matchLexema(":");
-			Token nameToken = matchToken("id");
-			ts.currentMethod().addArgument(nameToken.getLexema(), type, nameToken);
+			matchLexema(TokenKind.COLON);
+			Token nameToken = matchToken(TokenKind.ID);
+			if (!parseOnly) {
+				ts.currentMethod().addArgument(nameToken.getLexema(), type, nameToken);
+			}
 		} else {
 			throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE, TIPO PRIMITIVO O \")\"");
 		}
 	}
 
-	private TreeList<ExpressionNode> ArgumentosActuales() throws LexicalError, SyntacticalError {
-		TreeList<ExpressionNode> node;
-		matchLexema("("); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL(")")) {
-			node = new TreeList<ExpressionNode>();
-			matchLexema(")");
-		} else {
-			node = ListaExpresiones();
-			matchLexema(")");
+	/**
+	 * Reconoce la apertura de los argumentos actuales de la llamada pendiente
+	 * dada. Los argumentos se reconocen como expresiones anidadas (ver
+	 * ListaExpresiones).
+	 * 
+	 * @return true si a continuación comienza el primer argumento, o false si la
+	 *         lista de argumentos es vacía.
+	 */
+	private boolean ArgumentosActuales(PendingExpression pending) throws LexicalError, SyntacticalError {
+		matchLexema(TokenKind.OPEN_PAR); // Si no matchea, este método arrojará la excepción.
+		pending.arguments = newList();
+		if (isFirst(TokenKind.CLOSE_PAR)) {
+			matchLexema(TokenKind.CLOSE_PAR);
+			return false;
 		}
-		return node;
+		return true;
 	}
 
 	private boolean FormaMetodo() throws LexicalError, SyntacticalError {
-		matchLexema("static"); // Si no matchea, este método arrojará la excepción.
+		matchLexema(TokenKind.P_STATIC); // Si no matchea, este método arrojará la excepción.
 		return true;
 	}
 
 	private boolean Visibilidad() throws LexicalError, SyntacticalError {
-		matchLexema("pub"); // Si no matchea, este método arrojará la excepción.
+		matchLexema(TokenKind.P_PUB); // Si no matchea, este método arrojará la excepción.
 		return true;
 	}
 
 	private Type TipoMetodo() throws LexicalError, SyntacticalError {
 		Type tsType;
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array", "void") || isFirstT("id_type")) {
-			if (isFirstL("void")) {
-				matchLexema("void");
-				tsType = new Void();
+		if (isFirst(GrammarSets.FIRST_TIPO_METODO)) {
+			if (isFirst(TokenKind.P_VOID)) {
+				matchLexema(TokenKind.P_VOID);
+				tsType = parseOnly ? null : new Void();
 			} else {
 				tsType = Tipo();
 			}
@@ -399,12 +923,12 @@ public class SyntacticAnalyzer {
 
 	private Type Tipo() throws LexicalError, SyntacticalError {
 		Type tsType = null;
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
-			if (isFirstL("Array")) {
+		if (isFirst(GrammarSets.FIRST_TIPO)) {
+			if (isFirst(TokenKind.P_ARRAY)) {
 				tsType = TipoArray();
-			} else if (isFirstT("id_type")) {
+			} else if (isFirst(TokenKind.ID_TYPE)) {
 				tsType = TipoReferencia();
-			} else if (isFirstL("Bool", "I32", "Str", "Char")) {
+			} else if (isFirst(GrammarSets.FIRST_TIPO_PRIMITIVO)) {
 				tsType = TipoPrimitivo();
 			}
 		} else {
@@ -415,19 +939,22 @@ public class SyntacticAnalyzer {
 
 	private PrimitiveType<?> TipoPrimitivo() throws LexicalError, SyntacticalError {
 		PrimitiveType<?> tsType;
-		Token typeToken = matchLexema("Bool", "I32", "Str", "Char");
+		Token typeToken = matchLexema(TokenKind.P_T_BOOL, TokenKind.P_T_I32, TokenKind.P_T_STR, TokenKind.P_T_CHAR);
+		if (parseOnly) {
+			return null;
+		}
 
-		switch (typeToken.getLexema()) {
-			case "Bool":
+		switch (typeToken.getKind()) {
+			case P_T_BOOL:
 				tsType = new Bool();
 				break;
-			case "I32":
+			case P_T_I32:
 				tsType = new I32();
 				break;
-			case "Str":
+			case P_T_STR:
 				tsType = new Str();
 				break;
-			case "Char":
+			case P_T_CHAR:
 				tsType = new Char();
 				break;
 			default:
@@ -438,164 +965,273 @@ public class SyntacticAnalyzer {
 	}
 
 	private Type TipoReferencia() throws LexicalError, SyntacticalError {
-		Token classToken = matchToken("id_type");
-		return new ClassType(classToken.getLexema());
+		Token classToken = matchToken(TokenKind.ID_TYPE);
+		return parseOnly ? null : new ClassType(classToken.getLexema());
 	}
 
 	private Array TipoArray() throws LexicalError, SyntacticalError {
-		matchLexema("Array"); // Si no matchea, este método arrojará la excepción.
+		matchLexema(TokenKind.P_ARRAY); // Si no matchea, este método arrojará la excepción.
 		PrimitiveType<?> type = TipoPrimitivo();
-		return new Array(type);
+		return parseOnly ? null : new Array(type);
 	}
 
 	private void ListaDeclaracionVariables(Type varType, boolean isPublic)
 			throws LexicalError, SyntacticalError, SemanticalError {
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		ts.addVar(nameToken.getLexema(), varType, isPublic, nameToken);
-		if (isFirstL(",")) {
-			matchLexema(",");
-			ListaDeclaracionVariables(varType, isPublic);
-			// No se lanza un error si no matchea "," ya que
-			// sería el caso de la última variable de la lista.
+		while (true) {
+			Token nameToken = matchToken(TokenKind.ID); // Si no matchea, este método arrojará la excepción.
+			if (!parseOnly) {
+				ts.addVar(nameToken.getLexema(), varType, isPublic, nameToken);
+			}
+			if (!isFirst(TokenKind.COMMA)) {
+				// No se lanza un error si no matchea "," ya que
+				// sería el caso de la última variable de la lista.
+				break;
+			}
+			matchLexema(TokenKind.COMMA);
 		}
 	}
 
 	private void DeclVarLocalesN() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
+		while (isFirst(GrammarSets.FIRST_TIPO)) {
 			DeclVarLocales();
-			DeclVarLocalesN();
 		}
 		// Como DeclVarLocalesN deriva Lambda, se continúa la ejecución
 		// si el token no matchea con los primeros.
 	}
 
 	private void DeclVarLocales() throws LexicalError, SyntacticalError, SemanticalError {
-		if (isFirstL("Bool", "I32", "Str", "Char", "Array") || isFirstT("id_type")) {
+		if (isFirst(GrammarSets.FIRST_TIPO)) {
 			Type type = Tipo();
-			matchLexema(":");
+			matchLexema(TokenKind.COLON);
 			ListaDeclaracionVariables(type, false);
-			matchLexema(";");
+			matchLexema(TokenKind.SEMICOLON);
 		} else {
 			throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE O TIPO PRIMITIVO");
 		}
 	}
 
+	/**
+	 * Reconoce una sentencia. Las sentencias compuestas (if, while y bloques) no
+	 * se reconocen recursivamente: se apilan en pendingSentences mientras se
+	 * reconocen las sentencias que contienen, y se completan al terminar estas.
+	 * Así, la profundidad de anidamiento de las sentencias no está limitada por
+	 * la pila de Java. Implementa también las reglas Bloque, Sentencias y ElseOp.
+	 */
 	private SentenceNode Sentencia() throws LexicalError, SyntacticalError {
-		SentenceNode node = null;
-		if (isFirstL(";", "self", "(", "if", "while", "{", "return") || isFirstT("id")) {
-			if (isFirstL(";")) {
-				matchLexema(";");
-			} else if (isFirstL("self") || isFirstT("id")) {
-				node = Asignacion();
-				matchLexema(";");
-			} else if (isFirstL("(")) {
-				node = SentenciaSimple();
-				matchLexema(";");
-			} else if (isFirstL("if")) {
-				Token ifToken = matchLexema("if");
-				matchLexema("(");
-				ExpressionNode conditionNode = Expresion();
-				matchLexema(")");
-				SentenceNode blockNode = Sentencia();
-				SentenceNode elseBlockNode = ElseOp();
-				node = new IfElseNode(conditionNode, blockNode, elseBlockNode, ifToken);
-			} else if (isFirstL("while")) {
-				Token whileToken = matchLexema("while");
-				matchLexema("(");
-				ExpressionNode conditionNode = Expresion();
-				matchLexema(")");
-				SentenceNode blockNode = Sentencia();
-				node = new WhileNode(conditionNode, blockNode, whileToken);
-			} else if (isFirstL("{")) {
-				node = Bloque();
-			} else if (isFirstL("return")) {
-				Token returnToken = matchLexema("return");
-				if (isFirstL("+", "-", "!", "nil", "true", "false", "(", "self", "new")
-						|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-					ExpressionNode expressionNode = Expresion();
-					node = new ReturnNode(expressionNode, returnToken);
+		int base = pendingSentences.size(); // Sentencias pendientes que contienen a esta.
+		while (true) {
+			// Se reconoce el comienzo de una sentencia.
+			SentenceNode node = null;
+			boolean isComplete = true; // false si se acaba de abrir un bloque.
+			Token compoundToken = null; // Token if o while, si la sentencia es compuesta.
+			try {
+				if (isFirst(GrammarSets.FIRST_SENTENCIA)) {
+					if (isFirst(TokenKind.SEMICOLON)) {
+						matchLexema(TokenKind.SEMICOLON);
+					} else if (isFirst(TokenKind.ID)) {
+						node = Asignacion();
+						matchLexema(TokenKind.SEMICOLON);
+					} else if (isFirst(TokenKind.OPEN_PAR)) {
+						node = SentenciaSimple();
+						matchLexema(TokenKind.SEMICOLON);
+					} else if (isFirst(TokenKind.P_IF)) {
+						compoundToken = matchLexema(TokenKind.P_IF);
+						matchLexema(TokenKind.OPEN_PAR);
+						ExpressionNode conditionNode = Expresion();
+						matchLexema(TokenKind.CLOSE_PAR);
+						pendingSentences.add(new PendingSentence(compoundToken, conditionNode, null));
+						continue; // Se reconoce a continuación el bloque del if.
+					} else if (isFirst(TokenKind.P_WHILE)) {
+						compoundToken = matchLexema(TokenKind.P_WHILE);
+						matchLexema(TokenKind.OPEN_PAR);
+						ExpressionNode conditionNode = Expresion();
+						matchLexema(TokenKind.CLOSE_PAR);
+						pendingSentences.add(new PendingSentence(compoundToken, conditionNode, null));
+						continue; // Se reconoce a continuación el bloque del while.
+					} else if (isFirst(TokenKind.OPEN_CURLY)) {
+						Token locationToken = matchLexema(TokenKind.OPEN_CURLY);
+						pendingSentences.add(new PendingSentence(locationToken, null, newList()));
+						isComplete = false;
+					} else if (isFirst(TokenKind.P_RETURN)) {
+						Token returnToken = matchLexema(TokenKind.P_RETURN);
+						if (isFirst(GrammarSets.FIRST_EXPRESION)) {
+							ExpressionNode expressionNode = Expresion();
+							node = parseOnly ? null : new ReturnNode(expressionNode, returnToken);
+						} else {
+							node = parseOnly ? null : new ReturnNode(returnToken);
+						}
+						matchLexema(TokenKind.SEMICOLON);
+					}
 				} else {
-					node = new ReturnNode(returnToken);
+					throw new UnexpectedToken(token, "UNA SENTENCIA");
+				}
+			} catch (SyntacticalError error) {
+				// En modo recuperación, la sentencia con el error se descarta y se continúa
+				// en la siguiente.
+				recordError(error);
+				skipUntil(SYNC_SENTENCIA);
+				if (compoundToken != null && isFirst(TokenKind.OPEN_CURLY)) {
+					// El error está en la condición de un if o while: se reconoce su bloque,
+					// para no confundir un posible else.
+					pendingSentences.add(new PendingSentence(compoundToken, null, null));
+					continue;
 				}
-				matchLexema(";");
+				node = null;
+				isComplete = true;
+			}
+
+			// Se completan las sentencias pendientes que terminan con la sentencia
+			// reconocida, hasta hallar una que espera otra sentencia.
+			boolean expectsSentence = false;
+			while (!expectsSentence && pendingSentences.size() > base) {
+				PendingSentence pending = pendingSentences.get(pendingSentences.size() - 1);
+				switch (pending.startToken.getKind()) {
+					case OPEN_CURLY:
+						if (isComplete && node != null) {
+							// La sentencia es nula si es únicamente un punto y coma.
+							// En ese caso se ignora agregar la sentencia al el AST.
+							addTo(pending.sentences, node);
+						}
+						if (isFirst(GrammarSets.FIRST_SENTENCIA)) {
+							expectsSentence = true; // El bloque continúa con otra sentencia.
+						} else if (isFirst(TokenKind.CLOSE_CURLY)) {
+							matchLexema(TokenKind.CLOSE_CURLY);
+							node = parseOnly ? null : new BlockNode(pending.sentences, pending.startToken);
+						} else {
+							// En modo recuperación, se descartan tokens hasta la próxima sentencia
+							// y se continúa el bloque.
+							recordError(new UnexpectedToken(token, "UNA SENTENCIA O \"}\""));
+							skipUntil(SYNC_SENTENCIA);
+							expectsSentence = true;
+						}
+						break;
+					case P_WHILE:
+						node = parseOnly ? null : new WhileNode(pending.conditionNode, node, pending.startToken);
+						break;
+					default: // P_IF
+						if (!pending.hasBlock) {
+							pending.blockNode = node;
+							pending.hasBlock = true;
+							if (isFirst(TokenKind.P_ELSE)) {
+								matchLexema(TokenKind.P_ELSE);
+								expectsSentence = true; // Se reconoce a continuación el bloque del else.
+							} else {
+								// Como ElseOp deriva Lambda, se continúa la ejecución
+								// si el token no matchea con los primeros.
+								node = parseOnly ? null : new IfElseNode(pending.conditionNode, node, null, pending.startToken);
+							}
+						} else {
+							node = parseOnly ? null
+									: new IfElseNode(pending.conditionNode, pending.blockNode, node, pending.startToken);
+						}
+						break;
+				}
+				if (!expectsSentence) {
+					pendingSentences.remove(pendingSentences.size() - 1);
+					isComplete = true;
+				}
+			}
+			if (pendingSentences.size() == base) {
+				return node;
 			}
-		} else {
-			throw new UnexpectedToken(token, "UNA SENTENCIA");
 		}
-		return node;
+	}
+
+	/** Resultado del reconocimiento de una clase por separado (ver parseClass). */
+	static class ParsedClass {
+		private final ClassNode node; // Nodo de la clase, o null en modo de solo reconocimiento.
+		private final ClassEntry entry; // Entrada de la clase, o null en modo de solo reconocimiento.
+
+		ParsedClass(ClassNode node, ClassEntry entry) {
+			this.node = node;
+			this.entry = entry;
+		}
+
+		ClassNode node() {
+			return node;
+		}
+
+		ClassEntry entry() {
+			return entry;
+		}
+	}
+
+	/**
+	 * Sentencia compuesta cuyo reconocimiento está pendiente de las sentencias
+	 * que contiene.
+	 */
+	private static class PendingSentence {
+		private final Token startToken; // Token if, while o "{" que abre la sentencia.
+		private final ExpressionNode conditionNode; // Condición del if o while.
+		private final TreeList<SentenceNode> sentences; // Sentencias del bloque.
+		private SentenceNode blockNode; // Bloque del if, una vez reconocido.
+		private boolean hasBlock = false; // Flag que indica si ya se reconoció el bloque del if.
+
+		PendingSentence(Token startToken, ExpressionNode conditionNode, TreeList<SentenceNode> sentences) {
+			this.startToken = startToken;
+			this.conditionNode = conditionNode;
+			this.sentences = sentences;
+		}
 	}
 
 	private TreeList<SentenceNode> Sentencias() throws LexicalError, SyntacticalError {
-		TreeList<SentenceNode> sentencesNode;
-		if (isFirstL(";", "self", "(", "if", "while", "{", "return") || isFirstT("id")) {
+		TreeList<SentenceNode> sentencesNode = newList();
+		while (isFirst(GrammarSets.FIRST_SENTENCIA)) {
 			SentenceNode sentence = Sentencia();
-			sentencesNode = Sentencias();
 			if (sentence != null) {
 				// La sentencia es nula si es únicamente un punto y coma.
 				// En ese caso se ignora agregar la sentencia al el AST.
-				sentencesNode.add(sentence);
+				addTo(sentencesNode, sentence);
 			}
-		} else {
-			sentencesNode = new TreeList<SentenceNode>();
-			// Como Sentencias deriva Lambda, se continúa la ejecución
-			// si el token no matchea con los primeros.
 		}
+		// Como Sentencias deriva Lambda, se continúa la ejecución
+		// si el token no matchea con los primeros.
 		return sentencesNode;
 	}
 
 	private SimpleExpressionNode SentenciaSimple() throws LexicalError, SyntacticalError {
-		Token locationToken = matchLexema("("); // Si no matchea, este método arrojará la excepción.
+		Token locationToken = matchLexema(TokenKind.OPEN_PAR); // Si no matchea, este método arrojará la excepción.
 		ExpressionNode expressionNode = Expresion();
-		matchLexema(")");
-		return new SimpleExpressionNode(expressionNode, locationToken);
-	}
-
-	private SentenceNode ElseOp() throws LexicalError, SyntacticalError {
-		SentenceNode node = null;
-		if (isFirstL("else")) {
-			matchLexema("else");
-			node = Sentencia();
-		}
-		// Como ElseOp deriva Lambda, se continúa la ejecución
-		// si el token no matchea con los primeros.
-		return node;
-	}
-
-	private BlockNode Bloque() throws LexicalError, SyntacticalError {
-		Token locationToken = matchLexema("{"); // Si no matchea, este método arrojará la excepción.
-		TreeList<SentenceNode> sentencesNode = Sentencias();
-		if (isFirstL("}")) {
-			matchLexema("}");
-		} else {
-			throw new UnexpectedToken(token, "UNA SENTENCIA O \"}\"");
-		}
-		return new BlockNode(sentencesNode, locationToken);
+		matchLexema(TokenKind.CLOSE_PAR);
+		return parseOnly ? null : new SimpleExpressionNode(expressionNode, locationToken);
 	}
 
 	private BlockNode BloqueMetodo() throws LexicalError, SyntacticalError, SemanticalError {
-		Token locationToken = matchLexema("{"); // Si no matchea, este método arrojará la excepción.
+		Token locationToken = matchLexema(TokenKind.OPEN_CURLY); // Si no matchea, este método arrojará la excepción.
 		DeclVarLocalesN();
 		TreeList<SentenceNode> sentencesNode = Sentencias();
-		if (isFirstL("}")) {
-			matchLexema("}");
-		} else {
-			throw new UnexpectedToken(token, "EN ORDEN O UNA DECLARACION DE VARIABLE O UNA SENTENCIA O \"}\"");
+		while (!isFirst(TokenKind.CLOSE_CURLY)) {
+			SyntacticalError error = new UnexpectedToken(token,
+					"EN ORDEN O UNA DECLARACION DE VARIABLE O UNA SENTENCIA O \"}\"");
+			if (isFirst(TokenKind.EOF)) {
+				throw error;
+			}
+			// En modo recuperación, se descartan tokens hasta la próxima declaración o
+			// sentencia y se continúa el bloque.
+			recordError(error);
+			skipUntil(SYNC_SENTENCIA | GrammarSets.FIRST_TIPO);
+			DeclVarLocalesN();
+			TreeList<SentenceNode> moreSentences = Sentencias();
+			if (sentencesNode != null) {
+				sentencesNode.addAll(moreSentences);
+			}
 		}
-		return new BlockNode(sentencesNode, locationToken);
+		matchLexema(TokenKind.CLOSE_CURLY);
+		return parseOnly ? null : new BlockNode(sentencesNode, locationToken);
 	}
 
 	private AssignNode Asignacion() throws LexicalError, SyntacticalError {
 		AssignNode node = null;
-		if (isFirstL("self") || isFirstT("id")) {
+		if (isFirst(TokenKind.ID)) {
 			AccessNode leftEntity;
 			if (isFirstL("self")) {
 				leftEntity = AsignacionSelfSimple();
 			} else {
 				leftEntity = AsignacionVariableSimple();
 			}
-			Token locationToken = matchLexema("=");
+			Token locationToken = matchLexema(TokenKind.ASSIGNMENT);
 			ExpressionNode expressionNode = Expresion();
-			node = new AssignNode(leftEntity, expressionNode, locationToken);
+			node = parseOnly ? null : new AssignNode(leftEntity, expressionNode, locationToken);
 		} else {
 			throw new UnexpectedToken(token, "\"self\" O UN IDENTIFICADOR DE VARIABLE O METODO");
 		}
@@ -604,16 +1240,19 @@ public class SyntacticAnalyzer {
 
 	private AccessNode AsignacionVariableSimple() throws LexicalError, SyntacticalError {
 		AccessNode node;
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL("[")) {
-			matchLexema("[");
+		Token nameToken = matchToken(TokenKind.ID); // Si no matchea, este método arrojará la excepción.
+		if (isFirst(TokenKind.OPEN_BRACKET)) {
+			matchLexema(TokenKind.OPEN_BRACKET);
 			ExpressionNode indexNode = Expresion();
-			matchLexema("]");
+			matchLexema(TokenKind.CLOSE_BRACKET);
+			if (parseOnly) {
+				return null;
+			}
 			AccessVariableNode varNode = new AccessVariableNode(nameToken.getLexema(), nameToken);
 			node = new AccessArrayNode(varNode, indexNode, nameToken);
 		} else {
 			ChainedAttributeNode chainNode = EncadenadoSimpleN();
-			node = new AccessVariableNode(nameToken.getLexema(), chainNode, nameToken);
+			node = parseOnly ? null : new AccessVariableNode(nameToken.getLexema(), chainNode, nameToken);
 
 			// Como EncadenadoSimpleN deriva Lambda, no tirará excepción
 			// si el token no matchea con sus primeros.
@@ -624,295 +1263,324 @@ public class SyntacticAnalyzer {
 	private AccessVariableNode AsignacionSelfSimple() throws LexicalError, SyntacticalError {
 		Token nameToken = matchLexema("self"); // Si no matchea, este método arrojará la excepción.
 		ChainedAttributeNode chainNode = EncadenadoSimpleN();
-		return new AccessVariableNode(nameToken.getLexema(), chainNode, true, nameToken);
-	}
-
-	private TreeList<ExpressionNode> ListaExpresiones() throws LexicalError, SyntacticalError {
-		TreeList<ExpressionNode> list;
-		ExpressionNode expressionNode = Expresion(); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL(",")) {
-			matchLexema(",");
-			list = ListaExpresiones();
-			list.add(expressionNode);
-			// No se lanza un error si no matchea "," ya que
-			// sería el caso de la última expresión de la lista.
-		} else {
-			list = new TreeList<ExpressionNode>();
-			list.add(expressionNode);
-		}
-		return list;
+		return parseOnly ? null : new AccessVariableNode(nameToken.getLexema(), chainNode, true, nameToken);
 	}
 
+	/**
+	 * Reconoce una expresión. Las expresiones anidadas (entre paréntesis,
+	 * argumentos actuales o índices) no se reconocen recursivamente: la
+	 * expresión que las contiene se apila en pendingExpressions, con el paso con
+	 * el que continúa, mientras se reconoce la expresión anidada. Al terminar, el
+	 * nodo de cada expresión queda en el tope de la pila de operandos, de donde
+	 * lo toma la expresión pendiente que la contiene. Así, la profundidad de
+	 * anidamiento de las expresiones no está limitada por la pila de Java.
+	 */
 	private ExpressionNode Expresion() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			node = ExpOr();
-		} else {
-			throw new UnexpectedToken(token, "UNA EXPRESION");
-		}
-		return node;
-	}
-
-	private ExpressionNode ExpOr() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			ExpressionNode leftExpNode = ExpAnd();
-			BinaryExpressionNode rightExpNode = ExpOrP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = rightExpNode;
+		int base = pendingExpressions.size(); // Expresiones pendientes que contienen a esta.
+		boolean startsExpression = ExpBinaria();
+		while (true) {
+			if (startsExpression) {
+				startsExpression = ExpBinaria(); // Comienza una expresión anidada.
+			} else if (pendingExpressions.size() > base) {
+				// La expresión pendiente del tope continúa con el nodo reconocido.
+				startsExpression = continueExpression(pendingExpressions.get(pendingExpressions.size() - 1));
 			} else {
-				node = leftExpNode;
+				return operands.remove(operands.size() - 1);
 			}
-		} else {
-			throw new UnexpectedToken(token, "UNA EXPRESION");
 		}
-		return node;
 	}
 
-	private BinaryExpressionNode ExpOrP() throws LexicalError, SyntacticalError {
-		BinaryExpressionNode node = null;
-		if (isFirstL("||")) {
-			Token opToken = matchLexema("||");
-			ExpressionNode leftExpNode = ExpAnd();
-			BinaryExpressionNode rightExpNode = ExpOrP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = new BinaryExpressionNode(rightExpNode, opToken.getLexema(), new Bool(), new Bool(), opToken);
-
-			} else {
-				node = new BinaryExpressionNode(leftExpNode, opToken.getLexema(), new Bool(), new Bool(), opToken);
-			}
-		}
-		// Como ExpOrP deriva Lambda, se continúa la ejecución si no matchea
-		return node;
+	/**
+	 * Paso con el que continúa una expresión pendiente al reconocerse la
+	 * expresión anidada que espera (ver continueExpression) o su encadenado (ver
+	 * completeChain).
+	 */
+	private enum Step {
+		BINARIA, // ExpBinaria: espera cada operando.
+		OPERANDO, // Operando: espera el primario y luego su encadenado.
+		PARENTIZADA, // ExpresionParentizada: espera la expresión y luego su encadenado.
+		ACCESO, // AccesoSelf o AccesoVar: espera el índice o el encadenado.
+		LLAMADA, // LlamadaMetodo: espera cada argumento y luego el encadenado.
+		ESTATICO, // LlamadaMetodoEstatico: espera cada argumento y luego el encadenado del método.
+		ESTATICO_ENCADENADO, // LlamadaMetodoEstatico: espera el encadenado de la llamada.
+		CONSTRUCTOR, // LlamadaConstructor de una clase: espera cada argumento y luego el encadenado.
+		ARREGLO, // LlamadaConstructor de un arreglo: espera el tamaño.
+		ENCADENADO, // EncadenadoOp: reconoce los accesos encadenados.
+		ENCADENADO_LLAMADA, // LlamadaMetodoEncadenado: espera cada argumento.
+		ENCADENADO_ARREGLO, // AccesoVariableEncadenado: espera el índice.
 	}
 
-	private ExpressionNode ExpAnd() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			ExpressionNode leftExpNode = ExpIgual();
-			BinaryExpressionNode rightExpNode = ExpAndP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = rightExpNode;
-			} else {
-				node = leftExpNode;
-			}
-		} else {
-			throw new UnexpectedToken(token, "UNA EXPRESION");
+	/**
+	 * Expresión cuyo reconocimiento está pendiente de una expresión anidada o de
+	 * su encadenado.
+	 */
+	private static class PendingExpression {
+		private Step step;
+		private final int base; // Operadores binarios (BINARIA) o unarios (OPERANDO) de las expresiones que la contienen.
+		private final Token token; // Token del acceso, del método o de la clase, o "[" que abre el tamaño de un arreglo.
+		private Token nameToken; // Nombre del método estático o del último acceso encadenado.
+		private PrimitiveType<?> type; // Tipo de los elementos del arreglo.
+		private ExpressionNode node; // Nodo reconocido antes del encadenado.
+		private TreeList<ExpressionNode> arguments; // Argumentos actuales de la llamada.
+		private ChainedAccessNode firstChain; // Primer acceso encadenado.
+		private ChainedAccessNode lastChain; // Último acceso encadenado.
+		private boolean endsChain = false; // Flag que indica si el último acceso fue a un elemento de arreglo.
+
+		PendingExpression(Step step, int base) {
+			this.step = step;
+			this.base = base;
+			this.token = null;
 		}
-		return node;
-	}
 
-	private BinaryExpressionNode ExpAndP() throws LexicalError, SyntacticalError {
-		BinaryExpressionNode node = null;
-		if (isFirstL("&&")) {
-			Token opToken = matchLexema("&&");
-			ExpressionNode leftExpNode = ExpIgual();
-			BinaryExpressionNode rightExpNode = ExpAndP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = new BinaryExpressionNode(rightExpNode, opToken.getLexema(), new Bool(), new Bool(), opToken);
-			} else {
-				node = new BinaryExpressionNode(leftExpNode, opToken.getLexema(), new Bool(), new Bool(), opToken);
-			}
+		PendingExpression(Step step, Token token) {
+			this.step = step;
+			this.base = 0;
+			this.token = token;
 		}
-		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
 	}
 
-	private ExpressionNode ExpIgual() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			ExpressionNode leftExpNode = ExpCompuesta();
-			BinaryExpressionNode rightExpNode = ExpIgualP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = rightExpNode;
-			} else {
-				node = leftExpNode;
+	/**
+	 * Continúa la expresión pendiente dada con el nodo de la expresión anidada
+	 * que esperaba, en el tope de la pila de operandos.
+	 * 
+	 * @return true si a continuación comienza otra expresión anidada.
+	 */
+	private boolean continueExpression(PendingExpression pending) throws LexicalError, SyntacticalError {
+		switch (pending.step) {
+			case BINARIA:
+				return continueBinary(pending);
+			case OPERANDO:
+				pending.node = operands.remove(operands.size() - 1);
+				return EncadenadoOp(pending);
+			case PARENTIZADA:
+				pending.node = operands.remove(operands.size() - 1);
+				matchLexema(TokenKind.CLOSE_PAR);
+				return EncadenadoOp(pending);
+			case ACCESO: {
+				ExpressionNode indexNode = operands.remove(operands.size() - 1);
+				matchLexema(TokenKind.CLOSE_BRACKET);
+				ExpressionNode node = null;
+				if (!parseOnly) {
+					AccessVariableNode varNode = new AccessVariableNode(pending.token.getLexema(), pending.token);
+					node = new AccessArrayNode(varNode, indexNode, pending.token);
+				}
+				return completeExpression(node);
 			}
-		} else {
-			throw new UnexpectedToken(token, "UNA EXPRESION");
+			case ARREGLO: {
+				ExpressionNode expressionNode = operands.remove(operands.size() - 1);
+				matchLexema(TokenKind.CLOSE_BRACKET);
+				return completeExpression(
+						parseOnly ? null : new ConstructorArrayCallNode(pending.type, expressionNode, pending.token));
+			}
+			case ENCADENADO_LLAMADA:
+				if (ListaExpresiones(pending)) {
+					return true;
+				}
+				addChained(pending, parseOnly ? null
+						: new ChainedMethodNode(pending.nameToken.getLexema(), pending.arguments, null, pending.nameToken));
+				return Encadenado(pending);
+			case ENCADENADO_ARREGLO: {
+				ExpressionNode indexNode = operands.remove(operands.size() - 1);
+				matchLexema(TokenKind.CLOSE_BRACKET);
+				pending.endsChain = true;
+				addChained(pending, parseOnly ? null
+						: new ChainedArrayNode(pending.nameToken.getLexema(), indexNode, pending.nameToken));
+				return Encadenado(pending);
+			}
+			default: // LLAMADA, ESTATICO y CONSTRUCTOR
+				return ListaExpresiones(pending) || EncadenadoOp(pending);
 		}
-		return node;
 	}
 
-	private BinaryExpressionNode ExpIgualP() throws LexicalError, SyntacticalError {
-		BinaryExpressionNode node = null;
-		if (isFirstL("==", "!=")) {
-			Token opToken = OpIgual();
-			ExpressionNode leftExpNode = ExpCompuesta();
-			BinaryExpressionNode rightExpNode = ExpIgualP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = new BinaryExpressionNode(rightExpNode, opToken.getLexema(), null, new Bool(), opToken);
-			} else {
-				node = new BinaryExpressionNode(leftExpNode, opToken.getLexema(), null, new Bool(), opToken);
-			}
-		}
-		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
+	/**
+	 * Termina la expresión pendiente del tope: la desapila y apila su nodo en la
+	 * pila de operandos.
+	 * 
+	 * @return false, ya que no comienza otra expresión anidada.
+	 */
+	private boolean completeExpression(ExpressionNode node) {
+		pendingExpressions.remove(pendingExpressions.size() - 1);
+		operands.add(node);
+		return false;
 	}
 
-	private ExpressionNode ExpCompuesta() throws LexicalError, SyntacticalError {
-		ExpressionNode node;
-		ExpressionNode leftExpNode = ExpAdd(); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL("<", "<=", ">", ">=")) {
-			Token opToken = OpCompuesto();
-			ExpressionNode rightExpNode = ExpAdd();
-			node = new BinaryExpressionNode(leftExpNode, rightExpNode, opToken.getLexema(), new I32(), new Bool(),
-					opToken);
-		} else {
-			node = leftExpNode;
+	/**
+	 * Agrega el argumento reconocido, en el tope de la pila de operandos, a los
+	 * de la llamada pendiente dada. Implementa la regla ListaExpresiones y el
+	 * cierre de ArgumentosActuales.
+	 * 
+	 * @return true si a continuación comienza el siguiente argumento, o false
+	 *         si se cerró la lista de argumentos.
+	 */
+	private boolean ListaExpresiones(PendingExpression pending) throws LexicalError, SyntacticalError {
+		addTo(pending.arguments, operands.remove(operands.size() - 1));
+		if (isFirst(TokenKind.COMMA)) {
+			matchLexema(TokenKind.COMMA);
+			return true;
 		}
-		return node;
+		// Si no matchea "," es el caso de la última expresión de la lista.
+		matchLexema(TokenKind.CLOSE_PAR);
+		return false;
 	}
 
-	private ExpressionNode ExpAdd() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL(
-				"+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			ExpressionNode leftExpNode = ExpMul();
-			BinaryExpressionNode rightExpNode = ExpAddP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = rightExpNode;
-			} else {
-				node = leftExpNode;
-			}
-		} else {
+	/**
+	 * Comienza a reconocer una expresión con su primer operando. Reconoce las
+	 * reglas ExpOr, ExpAnd, ExpIgual, ExpCompuesta, ExpAdd y ExpMul de la
+	 * gramática con un único ciclo de precedencia de operadores (ver
+	 * continueBinary), en lugar de un método por nivel.
+	 * 
+	 * @return true si a continuación comienza una expresión anidada en el primer
+	 *         operando.
+	 */
+	private boolean ExpBinaria() throws LexicalError, SyntacticalError {
+		if (!isFirst(GrammarSets.FIRST_EXPRESION)) {
 			throw new UnexpectedToken(token, "UNA EXPRESION");
 		}
-		return node;
+		pendingExpressions.add(new PendingExpression(Step.BINARIA, operators.size()));
+		return ExpUn();
 	}
 
-	private BinaryExpressionNode ExpAddP() throws LexicalError, SyntacticalError {
-		BinaryExpressionNode node = null;
-		if (isFirstL("+", "-")) {
-			Token opToken = OpAdd();
-			ExpressionNode leftExpNode = ExpMul();
-			BinaryExpressionNode rightExpNode = ExpAddP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = new BinaryExpressionNode(rightExpNode, opToken.getLexema(), new I32(), new I32(), opToken);
-			} else {
-				node = new BinaryExpressionNode(leftExpNode, opToken.getLexema(), new I32(), new I32(), opToken);
+	/**
+	 * Continúa una expresión binaria con el operando reconocido, en el tope de
+	 * la pila de operandos. Los operandos y los operadores binarios leídos se
+	 * mantienen en dos pilas: antes de apilar un operador se reducen los de
+	 * mayor precedencia, por lo que la pila de operadores tiene siempre
+	 * precedencia creciente. Las pilas se comparten entre las expresiones
+	 * anidadas, que solo operan por encima de la base con la que comenzaron.
+	 * 
+	 * El árbol resultante es el mismo que el de la gramática: los operadores de
+	 * un mismo nivel asocian a derecha (a - b - c es a - (b - c)) y los
+	 * operadores de comparación no se encadenan, por lo que el análisis termina
+	 * en el segundo operador de comparación consecutivo.
+	 * 
+	 * @return true si a continuación comienza una expresión anidada en el
+	 *         siguiente operando.
+	 */
+	private boolean continueBinary(PendingExpression pending) throws LexicalError, SyntacticalError {
+		int precedence = BINARY_PRECEDENCE[token.getKind().ordinal()];
+		if (precedence != 0) {
+			while (operators.size() > pending.base && topPrecedence() > precedence) {
+				reduceBinary();
 			}
-		}
-		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
-	}
-
-	private ExpressionNode ExpMul() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL(
-				"+", "-", "!", "nil", "true", "false", "(", "self", "new")
-				|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-			ExpressionNode leftExpNode = ExpUn();
-			BinaryExpressionNode rightExpNode = ExpMulP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = rightExpNode;
-			} else {
-				node = leftExpNode;
+			// ExpCompuesta ::= ExpAdd OpCompuesto ExpAdd no admite otra comparación.
+			if (precedence != PRECEDENCE_COMPUESTO || operators.size() == pending.base
+					|| topPrecedence() != PRECEDENCE_COMPUESTO) {
+				operators.add(matchLexema(token.getKind()));
+				return ExpUn(); // Si no matchea, este método arrojará la excepción.
 			}
-		} else {
-			throw new UnexpectedToken(token, "UNA EXPRESION");
 		}
-		return node;
-	}
 
-	private BinaryExpressionNode ExpMulP() throws LexicalError, SyntacticalError {
-		BinaryExpressionNode node = null;
-		if (isFirstL("*", "/", "%")) {
-			Token opToken = OpMul();
-			ExpressionNode leftExpNode = ExpUn();
-			BinaryExpressionNode rightExpNode = ExpMulP();
-			if (rightExpNode != null) {
-				rightExpNode.setLeftOperand(leftExpNode);
-				node = new BinaryExpressionNode(rightExpNode, opToken.getLexema(), new I32(), new I32(), opToken);
-			} else {
-				node = new BinaryExpressionNode(leftExpNode, opToken.getLexema(), new I32(), new I32(), opToken);
-			}
+		while (operators.size() > pending.base) {
+			reduceBinary();
 		}
-		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
+		pendingExpressions.remove(pendingExpressions.size() - 1);
+		return false; // El nodo de la expresión queda en el tope de la pila de operandos.
 	}
 
-	private ExpressionNode ExpUn() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("+", "-", "!")) {
-			Token opToken = OpUnario();
-			ExpressionNode operandNode = ExpUn();
-			Type type = opToken.getLexema().equals("!") ? new Bool() : new I32();
-			node = new UnaryExpressionNode(operandNode, opToken.getLexema(), type, type, opToken);
-		} else {
-			if (isFirstL("nil", "true", "false", "(", "self", "new")
-					|| isFirstT("id", "lit_int", "lit_string", "lit_char", "id_type")) {
-				node = Operando();
-			} else {
-				throw new UnexpectedToken(token, "UNA EXPRESION");
-			}
-		}
-		return node;
+	/** @return la precedencia del último operador binario apilado. */
+	private int topPrecedence() {
+		return BINARY_PRECEDENCE[operators.get(operators.size() - 1).getKind().ordinal()];
 	}
 
-	private Token OpIgual() throws LexicalError, SyntacticalError {
-		return matchLexema("==", "!=");
+	/**
+	 * Desapila el último operador binario y sus dos operandos, y apila la
+	 * expresión binaria que los combina.
+	 */
+	private void reduceBinary() {
+		int precedence = topPrecedence();
+		Token opToken = operators.remove(operators.size() - 1);
+		ExpressionNode rightExpNode = operands.remove(operands.size() - 1);
+		ExpressionNode leftExpNode = operands.remove(operands.size() - 1);
+		if (parseOnly) {
+			operands.add(null);
+			return;
+		}
+		String operator = opToken.getLexema();
+		ExpressionNode node;
+		switch (precedence) {
+			case PRECEDENCE_OR:
+			case PRECEDENCE_AND:
+				node = new BinaryExpressionNode(leftExpNode, rightExpNode, operator, new Bool(), new Bool(), opToken);
+				break;
+			case PRECEDENCE_IGUAL:
+				node = new BinaryExpressionNode(leftExpNode, rightExpNode, operator, null, new Bool(), opToken);
+				break;
+			case PRECEDENCE_COMPUESTO:
+				node = new BinaryExpressionNode(leftExpNode, rightExpNode, operator, new I32(), new Bool(), opToken);
+				break;
+			default: // PRECEDENCE_ADD y PRECEDENCE_MUL
+				node = new BinaryExpressionNode(leftExpNode, rightExpNode, operator, new I32(), new I32(), opToken);
+				break;
+		}
+		operands.add(node);
 	}
 
-	private Token OpCompuesto() throws LexicalError, SyntacticalError {
-		return matchLexema("<", ">", "<=", ">=");
+	/**
+	 * Reconoce la secuencia de operadores unarios con un ciclo y comienza a
+	 * reconocer el operando. Los operadores se aplican al operando, del más
+	 * cercano al más lejano, al terminar de reconocerlo (ver
+	 * applyUnaryOperators).
+	 * 
+	 * @return true si a continuación comienza una expresión anidada en el
+	 *         operando; false si el operando ya está en el tope de la pila de
+	 *         operandos.
+	 */
+	private boolean ExpUn() throws LexicalError, SyntacticalError {
+		int base = unaryOperators.size(); // Operadores unarios de expresiones que contienen a esta.
+		while (isFirst(GrammarSets.FIRST_OP_UNARIO)) {
+			unaryOperators.add(OpUnario());
+		}
+		if (!isFirst(GrammarSets.FIRST_OPERANDO)) {
+			unaryOperators.subList(base, unaryOperators.size()).clear();
+			throw new UnexpectedToken(token, "UNA EXPRESION");
+		}
+		return Operando(base);
 	}
 
-	private Token OpAdd() throws LexicalError, SyntacticalError {
-		return matchLexema("+", "-");
+	/** Aplica al operando los operadores unarios apilados por encima de base. */
+	private ExpressionNode applyUnaryOperators(ExpressionNode node, int base) {
+		while (unaryOperators.size() > base) {
+			Token opToken = unaryOperators.remove(unaryOperators.size() - 1);
+			if (!parseOnly) {
+				Type type = opToken.getLexema().equals("!") ? new Bool() : new I32();
+				node = new UnaryExpressionNode(node, opToken.getLexema(), type, type, opToken);
+			}
+		}
+		return node;
 	}
 
 	private Token OpUnario() throws LexicalError, SyntacticalError {
-		return matchLexema("+", "-", "!");
-	}
-
-	private Token OpMul() throws LexicalError, SyntacticalError {
-		return matchLexema("*", "/", "%");
+		return matchLexema(TokenKind.OP_ADD, TokenKind.OP_SUB, TokenKind.OP_NOT);
 	}
 
-	private ExpressionNode Operando() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("(", "self", "new") || isFirstT("id", "id_type")) {
-			ExpressionNode primaryNode = Primario();
-			ChainedAccessNode chainedAccess = EncadenadoOp();
-			if (chainedAccess != null) {
-				node = new ChainedExpressionNode("primario encadenado", primaryNode, chainedAccess);
-			} else {
-				node = primaryNode;
-			}
+	/**
+	 * @param base - operadores unarios de las expresiones que contienen al
+	 *             operando.
+	 */
+	private boolean Operando(int base) throws LexicalError, SyntacticalError {
+		if (isFirst(GrammarSets.FIRST_PRIMARIO)) {
+			// El primario continúa con su encadenado (ver completeChain).
+			pendingExpressions.add(new PendingExpression(Step.OPERANDO, base));
+			return Primario();
 		} else {
-			if (isFirstL("nil", "true", "false") || isFirstT("lit_int", "lit_string", "lit_char")) {
-				node = Literal();
+			if (isFirst(GrammarSets.FIRST_LITERAL)) {
+				operands.add(applyUnaryOperators(Literal(), base));
+				return false;
 			} else {
 				throw new UnexpectedToken(token, "UN OPERANDO");
 			}
 		}
-		return node;
 	}
 
 	private LiteralNode Literal() throws LexicalError, SyntacticalError {
 		LiteralNode node = null;
-		if (isFirstL("nil", "true", "false")) {
-			Token token = matchLexema("nil", "true", "false");
-			node = new LiteralNode(token.getLexema(), token.getToken(), token);
+		if (isFirst(FIRST_LITERAL_RESERVADO)) {
+			Token token = matchLexema(TokenKind.P_NIL, TokenKind.P_TRUE, TokenKind.P_FALSE);
+			node = parseOnly ? null : new LiteralNode(token.getLexema(), token.getKind(), token);
 		} else {
-			if (isFirstT("lit_int", "lit_string", "lit_char")) {
-				Token token = matchToken("lit_int", "lit_string", "lit_char");
-				node = new LiteralNode(token.getLexema(), token.getToken(), token);
+			if (isFirst(FIRST_LITERAL_VALOR)) {
+				Token token = matchToken(TokenKind.LIT_INT, TokenKind.LIT_STRING, TokenKind.LIT_CHAR);
+				node = parseOnly ? null : new LiteralNode(token.getLexema(), token.getKind(), token);
 			} else {
 				throw new UnexpectedToken(token, "UN LITERAL");
 			}
@@ -920,27 +1588,32 @@ public class SyntacticAnalyzer {
 		return node;
 	}
 
-	private ExpressionNode Primario() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		if (isFirstL("(")) {
-			node = ExpresionParentizada();
+	/**
+	 * Comienza a reconocer un primario. Este y los métodos de cada tipo de
+	 * primario devuelven true si a continuación comienza una expresión anidada,
+	 * o false si el nodo del primario ya está en el tope de la pila de
+	 * operandos.
+	 */
+	private boolean Primario() throws LexicalError, SyntacticalError {
+		if (isFirst(TokenKind.OPEN_PAR)) {
+			return ExpresionParentizada();
 		} else {
 			if (isFirstL("self")) {
-				node = AccesoSelf();
+				return AccesoSelf();
 			} else {
-				if (isFirstT("id")) {
+				if (isFirst(TokenKind.ID)) {
 					// Miramos qué hay después del identificador sin consumirlo
-					if (nextToken.getLexema().equals("(")) {
-						node = LlamadaMetodo();
+					if (tokens.peek(1).getKind() == TokenKind.OPEN_PAR) {
+						return LlamadaMetodo();
 					} else {
-						node = AccesoVar();
+						return AccesoVar();
 					}
 				} else {
-					if (isFirstT("id_type")) {
-						node = LlamadaMetodoEstatico();
+					if (isFirst(TokenKind.ID_TYPE)) {
+						return LlamadaMetodoEstatico();
 					} else {
-						if (isFirstL("new")) {
-							node = LlamadaConstructor();
+						if (isFirst(TokenKind.P_NEW)) {
+							return LlamadaConstructor();
 						} else {
 							throw new UnexpectedToken(token,
 									"\"(\", \"self\", \"new\" O UN IDENTIFICADOR DE CLASE O DE METODO/VARIABLE");
@@ -949,150 +1622,211 @@ public class SyntacticAnalyzer {
 				}
 			}
 		}
-		return node;
 	}
 
-	private ExpressionNode ExpresionParentizada() throws LexicalError, SyntacticalError {
-		ExpressionNode node;
-		matchLexema("("); // Si no matchea, este método arrojará la excepción.
-		ExpressionNode expressionNode = Expresion();
-		matchLexema(")");
-		ChainedAccessNode chainNode = EncadenadoOp();
-		if (chainNode != null) {
-			node = new ChainedExpressionNode("expresion parentizada", expressionNode, chainNode);
-		} else {
-			node = expressionNode;
-		}
-		return node;
+	private boolean ExpresionParentizada() throws LexicalError, SyntacticalError {
+		matchLexema(TokenKind.OPEN_PAR); // Si no matchea, este método arrojará la excepción.
+		pendingExpressions.add(new PendingExpression(Step.PARENTIZADA, 0));
+		return true;
 	}
 
-	private AccessVariableNode AccesoSelf() throws LexicalError, SyntacticalError {
+	private boolean AccesoSelf() throws LexicalError, SyntacticalError {
 		Token nameToken = matchLexema("self"); // Si no matchea, este método arrojará la excepción.
-		ChainedAccessNode chainNode = EncadenadoOp();
-		return new AccessVariableNode(nameToken.getLexema(), chainNode, nameToken);
-	}
-
-	private AccessNode AccesoVar() throws LexicalError, SyntacticalError {
-		AccessNode node;
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL("[")) {
-			matchLexema("[");
-			ExpressionNode indexNode = Expresion();
-			matchLexema("]");
-			AccessVariableNode varNode = new AccessVariableNode(nameToken.getLexema(), nameToken);
-			node = new AccessArrayNode(varNode, indexNode, nameToken);
-		} else {
-			ChainedAccessNode chainNode = EncadenadoOp();
-			node = new AccessVariableNode(nameToken.getLexema(), chainNode, nameToken);
+		PendingExpression pending = new PendingExpression(Step.ACCESO, nameToken);
+		pendingExpressions.add(pending);
+		return EncadenadoOp(pending);
+	}
+
+	private boolean AccesoVar() throws LexicalError, SyntacticalError {
+		Token nameToken = matchToken(TokenKind.ID); // Si no matchea, este método arrojará la excepción.
+		PendingExpression pending = new PendingExpression(Step.ACCESO, nameToken);
+		pendingExpressions.add(pending);
+		if (isFirst(TokenKind.OPEN_BRACKET)) {
+			matchLexema(TokenKind.OPEN_BRACKET);
+			return true; // Se reconoce a continuación el índice.
 		}
-		return node;
+		return EncadenadoOp(pending);
 	}
 
-	private AccessMethodNode LlamadaMetodo() throws LexicalError, SyntacticalError {
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		TreeList<ExpressionNode> argsNode = ArgumentosActuales();
-		ChainedAccessNode chainNode = EncadenadoOp();
-		return new AccessMethodNode(nameToken.getLexema(), argsNode, chainNode, nameToken);
+	private boolean LlamadaMetodo() throws LexicalError, SyntacticalError {
+		Token nameToken = matchToken(TokenKind.ID); // Si no matchea, este método arrojará la excepción.
+		PendingExpression pending = new PendingExpression(Step.LLAMADA, nameToken);
+		pendingExpressions.add(pending);
+		return ArgumentosActuales(pending) || EncadenadoOp(pending);
 	}
 
-	private ExpressionNode LlamadaMetodoEstatico() throws LexicalError, SyntacticalError {
-		ExpressionNode node;
-		Token typeToken = matchToken("id_type"); // Si no matchea, este método arrojará la excepción.
-		matchLexema(".");
-		MethodCallNode methodaccessNode = LlamadaMetodo();
-		node = new AccessStaticMethodNode(typeToken.getLexema(), methodaccessNode, typeToken);
-		ChainedAccessNode chainNode = EncadenadoOp();
-		if (chainNode != null) {
-			// Dado que la llamada al método ya incluye su encadenado,
-			// si llegase a haber otro encadenado luego, se deben anidar.
-			node = new ChainedExpressionNode("llamado a metodo estatico encadenado", node, chainNode);
-		}
-		return node;
+	private boolean LlamadaMetodoEstatico() throws LexicalError, SyntacticalError {
+		Token typeToken = matchToken(TokenKind.ID_TYPE); // Si no matchea, este método arrojará la excepción.
+		matchLexema(TokenKind.DOT);
+		PendingExpression pending = new PendingExpression(Step.ESTATICO, typeToken);
+		pending.nameToken = matchToken(TokenKind.ID); // LlamadaMetodo.
+		pendingExpressions.add(pending);
+		return ArgumentosActuales(pending) || EncadenadoOp(pending);
 	}
 
-	private ExpressionNode LlamadaConstructor() throws LexicalError, SyntacticalError {
-		ExpressionNode node = null;
-		matchLexema("new"); // Si no matchea, este método arrojará la excepción.
-		if (isFirstT("id_type")) {
-			Token typeToken = matchToken("id_type");
-			TreeList<ExpressionNode> argsNode = ArgumentosActuales();
-			ChainedAccessNode chainNode = EncadenadoOp();
-			node = new ConstructorCallNode(typeToken.getLexema(), argsNode, chainNode, typeToken);
+	private boolean LlamadaConstructor() throws LexicalError, SyntacticalError {
+		matchLexema(TokenKind.P_NEW); // Si no matchea, este método arrojará la excepción.
+		if (isFirst(TokenKind.ID_TYPE)) {
+			Token typeToken = matchToken(TokenKind.ID_TYPE);
+			PendingExpression pending = new PendingExpression(Step.CONSTRUCTOR, typeToken);
+			pendingExpressions.add(pending);
+			return ArgumentosActuales(pending) || EncadenadoOp(pending);
 		} else {
-			if (isFirstL("Bool", "I32", "Str", "Char")) {
+			if (isFirst(GrammarSets.FIRST_TIPO_PRIMITIVO)) {
 				PrimitiveType<?> type = TipoPrimitivo();
-				Token locationToken = matchLexema("[");
-				ExpressionNode expressionNode = Expresion();
-				matchLexema("]");
-				node = new ConstructorArrayCallNode(type, expressionNode, locationToken);
+				Token locationToken = matchLexema(TokenKind.OPEN_BRACKET);
+				PendingExpression pending = new PendingExpression(Step.ARREGLO, locationToken);
+				pending.type = type;
+				pendingExpressions.add(pending);
+				return true; // Se reconoce a continuación el tamaño del arreglo.
 			} else {
 				throw new UnexpectedToken(token, "UN IDENTIFICADOR DE CLASE O TIPO PRIMITIVO");
 			}
 		}
-		return node;
 	}
 
 	private ChainedAttributeNode EncadenadoSimpleN() throws LexicalError, SyntacticalError {
-		ChainedAttributeNode node = null;
-		if (isFirstL(".")) {
-			node = EncadenadoSimple();
-			ChainedAttributeNode chainNode = EncadenadoSimpleN();
-			node.setChainedAccess(chainNode);
+		ChainedAttributeNode firstNode = null;
+		ChainedAttributeNode lastNode = null;
+		while (isFirst(TokenKind.DOT)) {
+			ChainedAttributeNode node = EncadenadoSimple();
+			if (lastNode == null) {
+				firstNode = node;
+			} else {
+				lastNode.setChainedAccess(node);
+			}
+			lastNode = node;
 		}
 		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
+		return firstNode;
 	}
 
 	private ChainedAttributeNode EncadenadoSimple() throws LexicalError, SyntacticalError {
-		matchLexema(".");
-		Token nameToken = matchToken("id");
-		return new ChainedAttributeNode(nameToken.getLexema(), nameToken);
-	}
-
-	private ChainedAccessNode Encadenado() throws LexicalError, SyntacticalError {
-		ChainedAccessNode node = null;
-		matchLexema(".");
-		if (isFirstT("id")) {
-			// Miramos qué hay después del identificador sin consumirlo
-			if (nextToken.getLexema().equals("(")) {
-				node = LlamadaMetodoEncadenado();
-			} else {
-				node = AccesoVariableEncadenado();
-			}
-		} else {
-			throw new UnexpectedToken(token, "UN IDENTIFICADOR DE METODO O VARIABLE");
+		matchLexema(TokenKind.DOT);
+		Token nameToken = matchToken(TokenKind.ID);
+		return parseOnly ? null : new ChainedAttributeNode(nameToken.getLexema(), nameToken);
+	}
+
+	/**
+	 * Comienza a reconocer el encadenado de la expresión pendiente dada, en el
+	 * tope de pendingExpressions. Si no hay accesos encadenados, la expresión
+	 * continúa directamente (ver completeChain).
+	 * 
+	 * @return true si a continuación comienza una expresión anidada.
+	 */
+	private boolean EncadenadoOp(PendingExpression pending) throws LexicalError, SyntacticalError {
+		if (!isFirst(TokenKind.DOT)) {
+			// Como deriva Lambda, no se lanza excepción si no matchea
+			return completeChain(pending, null);
 		}
-		return node;
+		PendingExpression chain = new PendingExpression(Step.ENCADENADO, 0);
+		pendingExpressions.add(chain);
+		return Encadenado(chain);
 	}
 
-	private ChainedAccessNode EncadenadoOp() throws LexicalError, SyntacticalError {
-		ChainedAccessNode node = null;
-		if (isFirstL(".")) {
-			node = Encadenado();
+	/**
+	 * Reconoce la secuencia de accesos encadenados con un ciclo, enlazando cada
+	 * acceso con el siguiente, en lugar de una llamada recursiva por acceso.
+	 * Los argumentos de un método encadenado y el índice de un arreglo
+	 * encadenado se reconocen como expresiones anidadas, tras las que continúa
+	 * el ciclo (ver continueExpression). El acceso a un elemento de arreglo
+	 * termina la secuencia, y la expresión que la contiene continúa con el
+	 * primer acceso (ver completeChain). Implementa también las reglas
+	 * AccesoVariableEncadenado y LlamadaMetodoEncadenado.
+	 */
+	private boolean Encadenado(PendingExpression chain) throws LexicalError, SyntacticalError {
+		while (isFirst(TokenKind.DOT) && !chain.endsChain) {
+			matchLexema(TokenKind.DOT);
+			if (!isFirst(TokenKind.ID)) {
+				throw new UnexpectedToken(token, "UN IDENTIFICADOR DE METODO O VARIABLE");
+			}
+			Token nameToken = matchToken(TokenKind.ID);
+			chain.nameToken = nameToken;
+			// Miramos qué había después del identificador al consumirlo
+			if (isFirst(TokenKind.OPEN_PAR)) {
+				chain.step = Step.ENCADENADO_LLAMADA;
+				if (ArgumentosActuales(chain)) {
+					return true;
+				}
+				// El resto del encadenado lo reconoce este ciclo.
+				addChained(chain, parseOnly ? null
+						: new ChainedMethodNode(nameToken.getLexema(), chain.arguments, null, nameToken));
+			} else if (isFirst(TokenKind.OPEN_BRACKET)) {
+				matchLexema(TokenKind.OPEN_BRACKET);
+				chain.step = Step.ENCADENADO_ARREGLO;
+				return true; // Se reconoce a continuación el índice.
+			} else {
+				// El resto del encadenado lo reconoce este ciclo.
+				addChained(chain, parseOnly ? null : new ChainedAttributeNode(nameToken.getLexema(), nameToken));
+			}
 		}
-		// Como deriva Lambda, no se lanza excepción si no matchea
-		return node;
+		pendingExpressions.remove(pendingExpressions.size() - 1);
+		return completeChain(pendingExpressions.get(pendingExpressions.size() - 1), chain.firstChain);
 	}
 
-	private ChainedAccessNode AccesoVariableEncadenado() throws LexicalError, SyntacticalError {
-		ChainedAccessNode node;
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		if (isFirstL("[")) {
-			matchLexema("[");
-			ExpressionNode indexNode = Expresion();
-			matchLexema("]");
-			node = new ChainedArrayNode(nameToken.getLexema(), indexNode, nameToken);
+	/** Enlaza el acceso dado a continuación del último acceso encadenado. */
+	private void addChained(PendingExpression chain, ChainedAccessNode node) {
+		if (chain.lastChain == null) {
+			chain.firstChain = node;
 		} else {
-			ChainedAccessNode chainNode = EncadenadoOp();
-			node = new ChainedAttributeNode(nameToken.getLexema(), chainNode, nameToken);
+			chain.lastChain.setChainedAccess(node);
 		}
-		return node;
+		chain.lastChain = node;
 	}
 
-	private ChainedMethodNode LlamadaMetodoEncadenado() throws LexicalError, SyntacticalError {
-		Token nameToken = matchToken("id"); // Si no matchea, este método arrojará la excepción.
-		TreeList<ExpressionNode> argsNode = ArgumentosActuales();
-		ChainedAccessNode chainNode = EncadenadoOp();
-		return new ChainedMethodNode(nameToken.getLexema(), argsNode, chainNode, nameToken);
+	/**
+	 * Continúa la expresión pendiente dada, en el tope de pendingExpressions,
+	 * con su encadenado ya reconocido.
+	 * 
+	 * @param chainNode - primer acceso encadenado, o null si no hay.
+	 * @return true si a continuación comienza una expresión anidada.
+	 */
+	private boolean completeChain(PendingExpression pending, ChainedAccessNode chainNode)
+			throws LexicalError, SyntacticalError {
+		ExpressionNode node;
+		switch (pending.step) {
+			case OPERANDO:
+				node = pending.node;
+				if (chainNode != null) {
+					node = new ChainedExpressionNode("primario encadenado", pending.node, chainNode);
+				}
+				node = applyUnaryOperators(node, pending.base);
+				break;
+			case PARENTIZADA:
+				node = pending.node;
+				if (chainNode != null) {
+					node = new ChainedExpressionNode("expresion parentizada", pending.node, chainNode);
+				}
+				break;
+			case ACCESO:
+				node = parseOnly ? null : new AccessVariableNode(pending.token.getLexema(), chainNode, pending.token);
+				break;
+			case LLAMADA:
+				node = parseOnly ? null
+						: new AccessMethodNode(pending.token.getLexema(), pending.arguments, chainNode, pending.token);
+				break;
+			case ESTATICO: {
+				MethodCallNode methodaccessNode = parseOnly ? null
+						: new AccessMethodNode(pending.nameToken.getLexema(), pending.arguments, chainNode,
+								pending.nameToken);
+				pending.node = parseOnly ? null
+						: new AccessStaticMethodNode(pending.token.getLexema(), methodaccessNode, pending.token);
+				// Dado que la llamada al método ya incluye su encadenado,
+				// si llegase a haber otro encadenado luego, se deben anidar.
+				pending.step = Step.ESTATICO_ENCADENADO;
+				return EncadenadoOp(pending);
+			}
+			case ESTATICO_ENCADENADO:
+				node = pending.node;
+				if (chainNode != null) {
+					node = new ChainedExpressionNode("llamado a metodo estatico encadenado", pending.node, chainNode);
+				}
+				break;
+			default: // CONSTRUCTOR
+				node = parseOnly ? null
+						: new ConstructorCallNode(pending.token.getLexema(), pending.arguments, chainNode, pending.token);
+				break;
+		}
+		return completeExpression(node);
 	}
 }
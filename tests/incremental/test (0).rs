@@ -0,0 +1,31 @@
+class Base {
+	pub I32: valor;
+
+	fn doble(I32: x) -> I32 {
+		return x * 2;
+	}
+}
+
+class Derivada: Base {
+	fn triple(I32: x) -> I32 {
+		return x * 3;
+	}
+}
+
+class UsoDerivada {
+	fn leer(Derivada: d) -> I32 {
+		return d.valor + d.doble(d.triple(1));
+	}
+}
+
+class UsoBase {
+	fn leer(Base: b) -> I32 {
+		return b.valor + b.doble(2);
+	}
+}
+
+fn main() {
+	Derivada: d;
+	d = new Derivada();
+	(IO.out_i32(new UsoDerivada().leer(d)));
+}
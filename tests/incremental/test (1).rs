@@ -0,0 +1,18 @@
+// Comentario de una linea
+class Texto {
+	pub Str: contenido;
+
+	fn mostrar() -> void {
+		(IO.out_string("hola /* no es un comentario */"));
+		(IO.out_char('x'));
+	}
+}
+
+/* Comentario
+   multilinea */
+fn main() {
+	Texto: t;
+	t = new Texto();
+	t.contenido = "texto";
+	(t.mostrar());
+}
@@ -5,4 +5,5 @@
 ERROR: LEXICO
 | NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
 | LINEA 1 | COLUMNA 1 | LITERAL MAL FORMADO: SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA. |  
+| LINEA 2 | COLUMNA 1 | LITERAL MAL FORMADO: SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA. |
 */
\ No newline at end of file
@@ -5,5 +5,6 @@ tampoco asi "
 ERROR: LEXICO
 | NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
 | LINEA 1 | COLUMNA 1 | LITERAL MAL FORMADO: SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA. |  
+| LINEA 2 | COLUMNA 13 | LITERAL MAL FORMADO: SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA. |
 
 */
\ No newline at end of file
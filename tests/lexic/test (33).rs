@@ -0,0 +1,12 @@
+fn main() {
+	let x: I32 = 10abc + y~z;
+	let w = 3 # 4 $ 5;
+	IO.out_i32(x@w);
+}
+/*ERROR: LEXICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 2 | COLUMNA 15 | IDENTIFICADOR NO VALIDO: 10abc |
+| LINEA 2 | COLUMNA 23 | IDENTIFICADOR NO VALIDO: y~z |
+| LINEA 3 | COLUMNA 12 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 3 | COLUMNA 16 | TOKEN INCOMPLETO O DESCONOCIDO: $ |
+| LINEA 4 | COLUMNA 13 | IDENTIFICADOR NO VALIDO: x@w |*/
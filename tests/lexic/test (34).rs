@@ -0,0 +1,13 @@
+fn main() {
+	IO.out_str("hola \0 mundo ~ #");
+	IO.out_str("bien");
+	let c: Char = '\0';
+	IO.out_str("sin cerrar
+	let y = 2 # 3;
+}
+/*ERROR: LEXICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 2 | COLUMNA 19 | LITERAL MAL FORMADO: SE ENCONTRO UN CARACTER INVALIDO NIL EN UNA CADENA |
+| LINEA 4 | COLUMNA 18 | LITERAL MAL FORMADO: SE ENCONTRO UN CARACTER NIL EN UN LITERAL |
+| LINEA 5 | COLUMNA 13 | LITERAL MAL FORMADO: SE ESPERABA UN CIERRE DE CADENA, PERO SE ENCONTRO UN SALTO DE LINEA. |
+| LINEA 6 | COLUMNA 12 | TOKEN INCOMPLETO O DESCONOCIDO: # |*/
@@ -0,0 +1,209 @@
+fn main() {
+	let v1: I32 = 1 # 1;
+	let v2: I32 = 2 # 1;
+	let v3: I32 = 3 # 1;
+	let v4: I32 = 4 # 1;
+	let v5: I32 = 5 # 1;
+	let v6: I32 = 6 # 1;
+	let v7: I32 = 7 # 1;
+	let v8: I32 = 8 # 1;
+	let v9: I32 = 9 # 1;
+	let v10: I32 = 10 # 1;
+	let v11: I32 = 11 # 1;
+	let v12: I32 = 12 # 1;
+	let v13: I32 = 13 # 1;
+	let v14: I32 = 14 # 1;
+	let v15: I32 = 15 # 1;
+	let v16: I32 = 16 # 1;
+	let v17: I32 = 17 # 1;
+	let v18: I32 = 18 # 1;
+	let v19: I32 = 19 # 1;
+	let v20: I32 = 20 # 1;
+	let v21: I32 = 21 # 1;
+	let v22: I32 = 22 # 1;
+	let v23: I32 = 23 # 1;
+	let v24: I32 = 24 # 1;
+	let v25: I32 = 25 # 1;
+	let v26: I32 = 26 # 1;
+	let v27: I32 = 27 # 1;
+	let v28: I32 = 28 # 1;
+	let v29: I32 = 29 # 1;
+	let v30: I32 = 30 # 1;
+	let v31: I32 = 31 # 1;
+	let v32: I32 = 32 # 1;
+	let v33: I32 = 33 # 1;
+	let v34: I32 = 34 # 1;
+	let v35: I32 = 35 # 1;
+	let v36: I32 = 36 # 1;
+	let v37: I32 = 37 # 1;
+	let v38: I32 = 38 # 1;
+	let v39: I32 = 39 # 1;
+	let v40: I32 = 40 # 1;
+	let v41: I32 = 41 # 1;
+	let v42: I32 = 42 # 1;
+	let v43: I32 = 43 # 1;
+	let v44: I32 = 44 # 1;
+	let v45: I32 = 45 # 1;
+	let v46: I32 = 46 # 1;
+	let v47: I32 = 47 # 1;
+	let v48: I32 = 48 # 1;
+	let v49: I32 = 49 # 1;
+	let v50: I32 = 50 # 1;
+	let v51: I32 = 51 # 1;
+	let v52: I32 = 52 # 1;
+	let v53: I32 = 53 # 1;
+	let v54: I32 = 54 # 1;
+	let v55: I32 = 55 # 1;
+	let v56: I32 = 56 # 1;
+	let v57: I32 = 57 # 1;
+	let v58: I32 = 58 # 1;
+	let v59: I32 = 59 # 1;
+	let v60: I32 = 60 # 1;
+	let v61: I32 = 61 # 1;
+	let v62: I32 = 62 # 1;
+	let v63: I32 = 63 # 1;
+	let v64: I32 = 64 # 1;
+	let v65: I32 = 65 # 1;
+	let v66: I32 = 66 # 1;
+	let v67: I32 = 67 # 1;
+	let v68: I32 = 68 # 1;
+	let v69: I32 = 69 # 1;
+	let v70: I32 = 70 # 1;
+	let v71: I32 = 71 # 1;
+	let v72: I32 = 72 # 1;
+	let v73: I32 = 73 # 1;
+	let v74: I32 = 74 # 1;
+	let v75: I32 = 75 # 1;
+	let v76: I32 = 76 # 1;
+	let v77: I32 = 77 # 1;
+	let v78: I32 = 78 # 1;
+	let v79: I32 = 79 # 1;
+	let v80: I32 = 80 # 1;
+	let v81: I32 = 81 # 1;
+	let v82: I32 = 82 # 1;
+	let v83: I32 = 83 # 1;
+	let v84: I32 = 84 # 1;
+	let v85: I32 = 85 # 1;
+	let v86: I32 = 86 # 1;
+	let v87: I32 = 87 # 1;
+	let v88: I32 = 88 # 1;
+	let v89: I32 = 89 # 1;
+	let v90: I32 = 90 # 1;
+	let v91: I32 = 91 # 1;
+	let v92: I32 = 92 # 1;
+	let v93: I32 = 93 # 1;
+	let v94: I32 = 94 # 1;
+	let v95: I32 = 95 # 1;
+	let v96: I32 = 96 # 1;
+	let v97: I32 = 97 # 1;
+	let v98: I32 = 98 # 1;
+	let v99: I32 = 99 # 1;
+	let v100: I32 = 100 # 1;
+	let v101: I32 = 101 # 1;
+	let v102: I32 = 102 # 1;
+	let v103: I32 = 103 # 1;
+	let v104: I32 = 104 # 1;
+	let v105: I32 = 105 # 1;
+}
+/*ERROR: LEXICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 2 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 3 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 4 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 5 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 6 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 7 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 8 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 9 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 10 | COLUMNA 18 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 11 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 12 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 13 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 14 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 15 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 16 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 17 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 18 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 19 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 20 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 21 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 22 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 23 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 24 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 25 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 26 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 27 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 28 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 29 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 30 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 31 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 32 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 33 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 34 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 35 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 36 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 37 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 38 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 39 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 40 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 41 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 42 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 43 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 44 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 45 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 46 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 47 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 48 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 49 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 50 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 51 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 52 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 53 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 54 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 55 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 56 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 57 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 58 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 59 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 60 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 61 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 62 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 63 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 64 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 65 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 66 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 67 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 68 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 69 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 70 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 71 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 72 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 73 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 74 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 75 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 76 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 77 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 78 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 79 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 80 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 81 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 82 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 83 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 84 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 85 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 86 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 87 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 88 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 89 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 90 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 91 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 92 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 93 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 94 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 95 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 96 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 97 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 98 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 99 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 100 | COLUMNA 20 | TOKEN INCOMPLETO O DESCONOCIDO: # |
+| LINEA 101 | COLUMNA 22 | TOKEN INCOMPLETO O DESCONOCIDO: # |*/
@@ -12,6 +12,7 @@ hola
 ERROR: LEXICO
 | NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
 | LINEA 5 | COLUMNA 5 | CARACTER INVALIDO: ? (ASCII: 195) |
+| LINEA 18 | COLUMNA 1 | COMENTARIO MULTILINEA SIN CERRAR |
 */
 
 /*
@@ -0,0 +1,13 @@
+fn main() {
+	I32: a, b;
+	a = 1 +;
+	b = 2;
+	a = (b * 3;
+	(IO.out_i32(a));
+	b = ;
+}
+/*ERROR: SINTACTICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 3 | COLUMNA 9 | TOKEN INESPERADO: SE ESPERABA UNA EXPRESION Y SE ENCONTRO ";" |
+| LINEA 5 | COLUMNA 12 | TOKEN INESPERADO: SE ESPERABA ) Y SE ENCONTRO ";" |
+| LINEA 7 | COLUMNA 6 | TOKEN INESPERADO: SE ESPERABA UNA EXPRESION Y SE ENCONTRO ";" |*/
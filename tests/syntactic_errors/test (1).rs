@@ -0,0 +1,27 @@
+class Punto {
+	pub I32 x;
+	pub I32: y;
+	fn mover(I32: dx) -> void {
+		x = x + dx;
+	}
+}
+
+class Circulo: Punto {
+	I32: radio;
+	fn area() -> I32 {
+		return radio * radio * 3
+	}
+	create(I32: r) {
+		radio = r;
+	}
+}
+
+fn main() {
+	Circulo: c;
+	c = new Circulo(2);
+	(IO.out_i32(c.area()));
+}
+/*ERROR: SINTACTICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 2 | COLUMNA 10 | TOKEN INESPERADO: SE ESPERABA : Y SE ENCONTRO "x" |
+| LINEA 13 | COLUMNA 2 | TOKEN INESPERADO: SE ESPERABA ; Y SE ENCONTRO "}" |*/
@@ -0,0 +1,17 @@
+fn main() {
+	I32: n;
+	n = 10;
+	if (n > ) {
+		n = n - 1;
+	} else {
+		n = n + ;
+	}
+	while (n < 20) {
+		n = n * 2
+	}
+}
+/*ERROR: SINTACTICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 4 | COLUMNA 10 | TOKEN INESPERADO: SE ESPERABA UNA EXPRESION Y SE ENCONTRO ")" |
+| LINEA 7 | COLUMNA 11 | TOKEN INESPERADO: SE ESPERABA UNA EXPRESION Y SE ENCONTRO ";" |
+| LINEA 11 | COLUMNA 2 | TOKEN INESPERADO: SE ESPERABA ; Y SE ENCONTRO "}" |*/
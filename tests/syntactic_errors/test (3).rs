@@ -0,0 +1,18 @@
+class Fn {
+	fn static ( Hola: h ) -> I32 {}
+	fn valido() -> I32 {
+		return 1;
+	}
+	fn otro(I32 x) -> void {}
+}
+
+fn main() {
+	(if (hola) r = 2);
+	Fn: f;
+}
+/*ERROR: SINTACTICO
+| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |
+| LINEA 2 | COLUMNA 5 | TOKEN INESPERADO: SE ESPERABA TOKEN DE TIPO: id Y SE ENCONTRO "static" |
+| LINEA 6 | COLUMNA 14 | TOKEN INESPERADO: SE ESPERABA : Y SE ENCONTRO "x" |
+| LINEA 10 | COLUMNA 3 | TOKEN INESPERADO: SE ESPERABA UNA EXPRESION Y SE ENCONTRO "if" |
+| LINEA 11 | COLUMNA 2 | TOKEN INESPERADO: SE ESPERABA EN ORDEN O UNA DECLARACION DE VARIABLE O UNA SENTENCIA O "}" Y SE ENCONTRO "Fn" |*/
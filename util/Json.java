@@ -5,7 +5,21 @@ import java.util.List;
 
 import semantic_analyzer.symbol_table.TableElement;
 
+/**
+ * Construye la representación JSON de los elementos de la TS y del AST.
+ *
+ * Cada objeto o arreglo con elementos ocupa varias lineas, con sus elementos
+ * indentados un nivel más que sus llaves o corchetes. Para no volver a indentar
+ * el JSON de cada elemento al incluirlo en el de su contenedor (lo que requiere
+ * tiempo proporcional a la profundidad del árbol por cada linea), el JSON
+ * parcial marca al comienzo de cada linea cuánto aumenta o disminuye la
+ * indentación respecto de la linea anterior. El método indent reemplaza las
+ * marcas por tabulaciones en una sola pasada sobre el JSON completo.
+ */
 public class Json {
+	private static final char INDENT = (char) 14; // Marca de aumento de un nivel de indentación.
+	private static final char DEDENT = (char) 15; // Marca de disminución de un nivel de indentación.
+
 	private ArrayList<String> attributes;
 
 	public Json() {
@@ -44,13 +58,40 @@ public class Json {
 		if (attributes.isEmpty()) {
 			return "{}";
 		}
-		return Json.join("{\n\t", String.join(",\n", attributes).replaceAll("\n", "\n\t"), "\n}");
+		return Json.join("{\n", String.valueOf(INDENT), String.join(",\n", attributes), "\n", String.valueOf(DEDENT), "}");
 	}
 
 	static public String toStringArray(List<String> values) {
 		if (values.isEmpty()) {
 			return "[]";
 		}
-		return Json.join("[\n\t", String.join(",\n", values).replaceAll("\n", "\n\t"), "\n]");
+		return Json.join("[\n", String.valueOf(INDENT), String.join(",\n", values), "\n", String.valueOf(DEDENT), "]");
+	}
+
+	/**
+	 * Reemplaza las marcas de indentación de un JSON completo (el de la TS o el
+	 * del AST) por las tabulaciones correspondientes a cada linea.
+	 *
+	 * @param json - JSON generado con toJson.
+	 * @return el JSON indentado.
+	 */
+	static public String indent(String json) {
+		StringBuilder builder = new StringBuilder(json.length());
+		int level = 0;
+		int i = 0;
+		while (i < json.length()) {
+			char currentChar = json.charAt(i++);
+			builder.append(currentChar);
+			if (currentChar == '\n') {
+				// Las marcas siguen al salto de linea y definen la indentación de la linea.
+				while (i < json.length() && (json.charAt(i) == INDENT || json.charAt(i) == DEDENT)) {
+					level += json.charAt(i++) == INDENT ? 1 : -1;
+				}
+				for (int tab = 0; tab < level; tab++) {
+					builder.append('\t');
+				}
+			}
+		}
+		return builder.toString();
 	}
 }
@@ -3,12 +3,13 @@ package util;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import error.lexic.LexicalError;
 import error.semantic.SemanticalError;
 import error.syntactic.SyntacticalError;
-import lexic_analyzer.Token;
+import lexic_analyzer.TokenStream;
 
 /**
  * Provee métodos estáticos para hacer output de información relacionada al
@@ -20,23 +21,20 @@ public class Logger {
 	/**
 	 * Muestra con formato la lista de tokens generados por el analizador léxico.
 	 * 
-	 * @param tokensList - lista de tokens generados por el analizador léxico.
+	 * @param tokens     - secuencia de tokens generados por el analizador léxico.
 	 * @param outputPath (Opcional) - Ruta del archivo de salida
 	 */
-	public static void lexicSuccess(ArrayList<Token> tokensList, String outputPath) {
+	public static void lexicSuccess(TokenStream tokens, String outputPath) {
+		StringBuilder line = new StringBuilder(); // Se reutiliza para formatear cada token.
 		if (outputPath == null) { // No se especificó archivo de salida.
 			// Se escribe el output en la terminal.
 			System.out.println("CORRECTO: ANALISIS LEXICO");
 			System.out.println("| TOKEN | LEXEMA | NUMERO DE LINEA (NUMERO DE COLUMNA) |");
 
-			tokensList
-					.forEach(
-							token -> System.out.println(
-									"| " + token.getToken() +
-											" | " + token.getLexema() +
-											" | LINEA " + token.getLine() +
-											" | (COLUMNA " + token.getCol() +
-											") |"));
+			for (int i = 0; i < tokens.size(); i++) {
+				formatToken(tokens, i, line);
+				System.out.println(line);
+			}
 		} else {
 			try {
 				// Se abre el archivo de salida especificado y se escribe el output.
@@ -45,14 +43,9 @@ public class Logger {
 				fileWriter.write("CORRECTO: ANALISIS LEXICO\n");
 				fileWriter.write("| TOKEN | LEXEMA | NUMERO DE LINEA (NUMERO DE COLUMNA) |\n");
 
-				for (int i = 0; i < tokensList.size(); i++) {
-					Token token = tokensList.get(i);
-					fileWriter.write(
-							"| " + token.getToken() +
-									" | " + token.getLexema() +
-									" | LINEA " + token.getLine() +
-									" | (COLUMNA " + token.getCol() +
-									") |\n");
+				for (int i = 0; i < tokens.size(); i++) {
+					formatToken(tokens, i, line);
+					fileWriter.append(line.append('\n'));
 				}
 
 				fileWriter.close();
@@ -64,6 +57,22 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Escribe en el StringBuilder recibido la fila de la tabla de tokens
+	 * correspondiente a un token, reemplazando su contenido previo.
+	 * 
+	 * @param tokens - secuencia de tokens generados por el analizador léxico.
+	 * @param index  - posición del token en la secuencia.
+	 * @param line   - destino de la fila formateada.
+	 */
+	private static void formatToken(TokenStream tokens, int index, StringBuilder line) {
+		line.setLength(0);
+		line.append("| ").append(tokens.getKind(index).tokenName()).append(" | ");
+		tokens.appendLexema(index, line);
+		line.append(" | LINEA ").append(tokens.getLine(index))
+				.append(" | (COLUMNA ").append(tokens.getCol(index)).append(") |");
+	}
+
 	/**
 	 * Muestra con formato un error generado por el analizador léxico
 	 * 
@@ -71,18 +80,33 @@ public class Logger {
 	 * @param outputPath (Opcional) - Ruta del archivo de salida
 	 */
 	public static void lexicError(LexicalError error, String outputPath) {
+		lexicErrors(Collections.singletonList(error), outputPath);
+	}
+
+	/**
+	 * Muestra con formato todos los errores generados por el analizador léxico
+	 * en un mismo análisis, bajo un único encabezado.
+	 * 
+	 * @param errors     - errores generados por el analizador léxico, en orden
+	 * @param outputPath (Opcional) - Ruta del archivo de salida
+	 */
+	public static void lexicErrors(List<LexicalError> errors, String outputPath) {
 		if (outputPath == null) { // No se especificó archivo de salida.
 			// Se escribe el output en la terminal.
 			System.out.println("ERROR: LEXICO ");
 			System.out.println("| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |");
-			System.out.println(error.getMessage());
+			for (LexicalError error : errors) {
+				System.out.println(error.getMessage());
+			}
 		} else {
 			try {
 				// Se abre el archivo de salida especificado y se escribe el output.
 				FileWriter fileWriter = getOutputFileWriter(outputPath, true);
 				fileWriter.write("ERROR: LEXICO\n");
 				fileWriter.write("| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |\n");
-				fileWriter.write(error.getMessage() + "\n");
+				for (LexicalError error : errors) {
+					fileWriter.write(error.getMessage() + "\n");
+				}
 				fileWriter.close();
 			} catch (IOException e) {
 				System.out.println("ERROR IO: NO SE PUDO ESCRIBIR EN EL ARCHIVO DE SALIDA.");
@@ -121,18 +145,33 @@ public class Logger {
 	 * @param outputPath (Opcional) - Ruta del archivo de salida
 	 */
 	public static void syntacticError(SyntacticalError error, String outputPath) {
+		syntacticErrors(Collections.singletonList(error), outputPath);
+	}
+
+	/**
+	 * Muestra con formato todos los errores generados por el analizador
+	 * sintáctico en un mismo análisis, bajo un único encabezado.
+	 * 
+	 * @param errors     - errores generados por el analizador sintáctico, en orden
+	 * @param outputPath (Opcional) - Ruta del archivo de salida
+	 */
+	public static void syntacticErrors(List<SyntacticalError> errors, String outputPath) {
 		if (outputPath == null) { // No se especificó archivo de salida.
 			// Se escribe el output en la terminal.
 			System.out.println("ERROR: SINTACTICO ");
 			System.out.println("| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |");
-			System.out.println(error.getMessage());
+			for (SyntacticalError error : errors) {
+				System.out.println(error.getMessage());
+			}
 		} else {
 			try {
 				// Se abre el archivo de salida especificado y se escribe el output.
 				FileWriter fileWriter = getOutputFileWriter(outputPath, true);
 				fileWriter.write("ERROR: SINTACTICO\n");
 				fileWriter.write("| NUMERO DE LINEA: | NUMERO DE COLUMNA: | DESCRIPCION: |\n");
-				fileWriter.write(error.getMessage() + "\n");
+				for (SyntacticalError error : errors) {
+					fileWriter.write(error.getMessage() + "\n");
+				}
 				fileWriter.close();
 			} catch (IOException e) {
 				System.out.println("ERROR IO: NO SE PUDO ESCRIBIR EN EL ARCHIVO DE SALIDA.");